@@ -0,0 +1,56 @@
+package com.minecolonies.benchmarks;
+
+import com.minecolonies.api.MinecoloniesAPIProxy;
+import com.minecolonies.api.configuration.Configuration;
+import com.minecolonies.apiimp.CommonMinecoloniesAPIImpl;
+import com.minecolonies.core.MineColonies;
+import com.minecolonies.core.colony.requestsystem.init.StandardFactoryControllerInitializer;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+import java.lang.reflect.Field;
+
+/**
+ * Sets up the parts of the game the benchmarks need, without a running server.
+ */
+public final class BenchmarkEnvironment
+{
+    /**
+     * Whether the setup already ran in this fork.
+     */
+    private static boolean initialized = false;
+
+    private BenchmarkEnvironment()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Bootstraps the vanilla registries, installs the default mod configuration and registers the request system factories.
+     */
+    public static synchronized void init()
+    {
+        if (initialized)
+        {
+            return;
+        }
+
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        try
+        {
+            final Field config = MineColonies.class.getDeclaredField("config");
+            config.setAccessible(true);
+            config.set(null, Configuration.createDefault());
+        }
+        catch (final ReflectiveOperationException e)
+        {
+            throw new IllegalStateException("Could not install the benchmark configuration", e);
+        }
+
+        MinecoloniesAPIProxy.getInstance().setApiInstance(new CommonMinecoloniesAPIImpl());
+        StandardFactoryControllerInitializer.onPreInit();
+        initialized = true;
+    }
+}
@@ -0,0 +1,86 @@
+package com.minecolonies.benchmarks.inventory;
+
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.benchmarks.BenchmarkEnvironment;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Count, search and filter queries of {@link InventoryUtils} over large item handlers, like the ones of a full warehouse rack set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InventoryUtilsBenchmark
+{
+    /**
+     * Seed of the inventory content.
+     */
+    private static final long SEED = 0x77617265L;
+
+    /**
+     * Items the inventory is filled with.
+     */
+    private static final Item[] CONTENT = {Items.OAK_LOG, Items.COBBLESTONE, Items.STONE, Items.IRON_INGOT, Items.BREAD, Items.WHEAT, Items.DIRT, Items.OAK_PLANKS,
+      Items.COAL, Items.STICK, Items.TORCH, Items.IRON_PICKAXE};
+
+    @Param({"27", "270", "2700"})
+    public int slots;
+
+    @Param({"0.5", "0.95"})
+    public double fill;
+
+    private ItemStackHandler    handler;
+    private Predicate<ItemStack> logPredicate;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkEnvironment.init();
+
+        final Random random = new Random(SEED);
+        handler = new ItemStackHandler(slots);
+        for (int i = 0; i < slots; i++)
+        {
+            if (random.nextDouble() < fill)
+            {
+                final Item item = CONTENT[random.nextInt(CONTENT.length)];
+                handler.setStackInSlot(i, new ItemStack(item, 1 + random.nextInt(item.getMaxStackSize())));
+            }
+        }
+
+        logPredicate = stack -> stack.is(Items.OAK_LOG);
+    }
+
+    @Benchmark
+    public int countItem()
+    {
+        return InventoryUtils.getItemCountInItemHandler(handler, Items.IRON_INGOT);
+    }
+
+    @Benchmark
+    public int countPredicate()
+    {
+        return InventoryUtils.getItemCountInItemHandler(handler, logPredicate);
+    }
+
+    @Benchmark
+    public int findMissingItem()
+    {
+        return InventoryUtils.findFirstSlotInItemHandlerWith(handler, Items.DIAMOND);
+    }
+
+    @Benchmark
+    public List<ItemStack> filterPredicate()
+    {
+        return InventoryUtils.filterItemHandler(handler, logPredicate);
+    }
+}
@@ -0,0 +1,46 @@
+package com.minecolonies.benchmarks.pathfinding;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
+import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.LevelReader;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Move to location job over any block getter, without an entity or the chunk snapshot of a real level.
+ */
+public class BenchmarkPathJob extends AbstractPathJob
+{
+    /**
+     * The goal.
+     */
+    private final BlockPos destination;
+
+    /**
+     * Prepares the job.
+     *
+     * @param world       the world to search in.
+     * @param start       the start.
+     * @param destination the goal.
+     */
+    public BenchmarkPathJob(final LevelReader world, @NotNull final BlockPos start, @NotNull final BlockPos destination)
+    {
+        super(world, start, BlockPosUtil.distManhattan(start, destination), new PathResult<BenchmarkPathJob>(), null);
+        this.destination = destination;
+        maxNodes = MAX_NODES;
+    }
+
+    @Override
+    protected double computeHeuristic(final int x, final int y, final int z)
+    {
+        return BlockPosUtil.distManhattan(destination, x, y, z);
+    }
+
+    @Override
+    protected boolean isAtDestination(final MNode n)
+    {
+        return n.x == destination.getX() && n.y == destination.getY() && n.z == destination.getZ();
+    }
+}
@@ -0,0 +1,96 @@
+package com.minecolonies.benchmarks.pathfinding;
+
+import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathJobArena;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node creation and lookup of a search, through the pooled node store of the thread's arena. The allocation rate reported by the gc profiler is the per search node
+ * allocation the pool saves, it should stay near zero once the pool is warmed up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NodeStoreBenchmark
+{
+    /**
+     * Side length of the square of nodes a search creates.
+     */
+    @Param({"32", "90"})
+    public int size;
+
+    @Benchmark
+    public int pooledNodes()
+    {
+        final PathJobArena arena = PathJobArena.acquire();
+        try
+        {
+            final Long2ObjectOpenHashMap<MNode> nodes = arena.getNodes();
+            MNode parent = null;
+            for (int x = 0; x < size; x++)
+            {
+                for (int z = 0; z < size; z++)
+                {
+                    final MNode node = arena.obtainNode(parent, x, 64, z, x + z, size * 2 - x - z);
+                    nodes.put(MNode.computeNodeKey(x, 64, z), node);
+                    arena.getOpenSet().offer(node);
+                    parent = node;
+                }
+            }
+
+            int visited = 0;
+            while (!arena.getOpenSet().isEmpty())
+            {
+                final MNode node = arena.getOpenSet().poll();
+                if (nodes.get(MNode.computeNodeKey(node.x, node.y, node.z)) == node)
+                {
+                    visited++;
+                }
+            }
+            return visited;
+        }
+        finally
+        {
+            arena.release();
+        }
+    }
+
+    @Benchmark
+    public int allocatedNodes()
+    {
+        final Long2ObjectOpenHashMap<MNode> nodes = new Long2ObjectOpenHashMap<>();
+        final PathJobArena arena = PathJobArena.acquire();
+        try
+        {
+            MNode parent = null;
+            for (int x = 0; x < size; x++)
+            {
+                for (int z = 0; z < size; z++)
+                {
+                    final MNode node = new MNode(parent, x, 64, z, x + z, size * 2 - x - z);
+                    nodes.put(MNode.computeNodeKey(x, 64, z), node);
+                    arena.getOpenSet().offer(node);
+                    parent = node;
+                }
+            }
+
+            int visited = 0;
+            while (!arena.getOpenSet().isEmpty())
+            {
+                final MNode node = arena.getOpenSet().poll();
+                if (nodes.get(MNode.computeNodeKey(node.x, node.y, node.z)) == node)
+                {
+                    visited++;
+                }
+            }
+            return visited;
+        }
+        finally
+        {
+            arena.release();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.minecolonies.benchmarks.pathfinding;
+
+import com.minecolonies.benchmarks.BenchmarkEnvironment;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.Path;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A* pathfinding over generated worlds of different obstacle density and path lengths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathfindingBenchmark
+{
+    /**
+     * Generated world size and seed.
+     */
+    private static final int  WORLD_SIZE = 320;
+    private static final long SEED       = 0x6d696e65L;
+
+    /**
+     * Offset of the start from the world corner.
+     */
+    private static final int START_OFFSET = 16;
+
+    @Param({"32", "96", "192"})
+    public int distance;
+
+    @Param({"0.002", "0.01"})
+    public double obstacles;
+
+    private SyntheticWorld world;
+    private BlockPos       start;
+    private BlockPos       end;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkEnvironment.init();
+        world = new SyntheticWorld(WORLD_SIZE, SEED, obstacles);
+        start = new BlockPos(START_OFFSET, SyntheticWorld.GROUND_Y + 1, START_OFFSET);
+        end = new BlockPos(START_OFFSET + distance, SyntheticWorld.GROUND_Y + 1, START_OFFSET + distance / 2);
+    }
+
+    @Benchmark
+    public Path moveToLocation()
+    {
+        return new BenchmarkPathJob(world, start, end).call();
+    }
+}
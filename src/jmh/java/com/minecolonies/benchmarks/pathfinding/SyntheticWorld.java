@@ -0,0 +1,287 @@
+package com.minecolonies.benchmarks.pathfinding;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.flag.FeatureFlagSet;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generated, chunk free world for pathfinding benchmarks: flat ground with seeded walls and water pools, the same layout for a given seed on every run.
+ */
+public class SyntheticWorld implements LevelReader
+{
+    /**
+     * Height of the ground surface.
+     */
+    public static final int GROUND_Y = 63;
+
+    /**
+     * Height of the walls above ground.
+     */
+    private static final int WALL_HEIGHT = 3;
+
+    /**
+     * Column types.
+     */
+    private static final byte GROUND = 0;
+    private static final byte WALL   = 1;
+    private static final byte WATER  = 2;
+
+    /**
+     * Column type per x/z, the world is size x size blocks from 0,0.
+     */
+    private final byte[] columns;
+
+    /**
+     * The world size.
+     */
+    private final int size;
+
+    /**
+     * Generates a world.
+     *
+     * @param size     the size along x and z.
+     * @param seed     the generation seed.
+     * @param obstacle the chance of a wall or pool start per column, 0 to 1.
+     */
+    public SyntheticWorld(final int size, final long seed, final double obstacle)
+    {
+        this.size = size;
+        this.columns = new byte[size * size];
+
+        final Random random = new Random(seed);
+        for (int x = 0; x < size; x++)
+        {
+            for (int z = 0; z < size; z++)
+            {
+                if (random.nextDouble() >= obstacle)
+                {
+                    continue;
+                }
+
+                // Straight wall or a square pool starting here
+                final byte type = random.nextBoolean() ? WALL : WATER;
+                final int length = 3 + random.nextInt(12);
+                final boolean alongX = random.nextBoolean();
+                for (int i = 0; i < length; i++)
+                {
+                    if (type == WALL)
+                    {
+                        set(alongX ? x + i : x, alongX ? z : z + i, type);
+                    }
+                    else
+                    {
+                        for (int j = 0; j < length / 2; j++)
+                        {
+                            set(x + i, z + j, type);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the column type, ignoring out of world positions.
+     */
+    private void set(final int x, final int z, final byte type)
+    {
+        if (x >= 0 && x < size && z >= 0 && z < size)
+        {
+            columns[x * size + z] = type;
+        }
+    }
+
+    /**
+     * Get the column type at the position.
+     */
+    private byte get(final int x, final int z)
+    {
+        if (x < 0 || x >= size || z < 0 || z >= size)
+        {
+            return WALL;
+        }
+        return columns[x * size + z];
+    }
+
+    @NotNull
+    @Override
+    public BlockState getBlockState(final BlockPos pos)
+    {
+        final int y = pos.getY();
+        if (y < GROUND_Y)
+        {
+            return Blocks.STONE.defaultBlockState();
+        }
+
+        final byte type = get(pos.getX(), pos.getZ());
+        if (y == GROUND_Y)
+        {
+            return type == WATER ? Blocks.WATER.defaultBlockState() : Blocks.GRASS_BLOCK.defaultBlockState();
+        }
+
+        if (type == WALL && y <= GROUND_Y + WALL_HEIGHT)
+        {
+            return Blocks.COBBLESTONE.defaultBlockState();
+        }
+
+        return Blocks.AIR.defaultBlockState();
+    }
+
+    @NotNull
+    @Override
+    public FluidState getFluidState(final BlockPos pos)
+    {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(@NotNull final BlockPos pos)
+    {
+        return null;
+    }
+
+    @Override
+    public int getMinBuildHeight()
+    {
+        return 0;
+    }
+
+    @Override
+    public int getHeight()
+    {
+        return 256;
+    }
+
+    @Override
+    public int getMaxBuildHeight()
+    {
+        return 256;
+    }
+
+    @Nullable
+    @Override
+    public ChunkAccess getChunk(final int x, final int z, final ChunkStatus requiredStatus, final boolean nonnull)
+    {
+        return null;
+    }
+
+    @Override
+    public boolean hasChunk(final int chunkX, final int chunkZ)
+    {
+        return false;
+    }
+
+    @Override
+    public int getHeight(final Heightmap.Types heightmapType, final int x, final int z)
+    {
+        return GROUND_Y + 1;
+    }
+
+    @Override
+    public int getSkyDarken()
+    {
+        return 0;
+    }
+
+    @Override
+    public BiomeManager getBiomeManager()
+    {
+        return null;
+    }
+
+    @Override
+    public Holder<Biome> getUncachedNoiseBiome(final int x, final int y, final int z)
+    {
+        return null;
+    }
+
+    @Override
+    public boolean isClientSide()
+    {
+        return false;
+    }
+
+    @Override
+    public int getSeaLevel()
+    {
+        return GROUND_Y;
+    }
+
+    @Override
+    public DimensionType dimensionType()
+    {
+        return null;
+    }
+
+    @Override
+    public RegistryAccess registryAccess()
+    {
+        return RegistryAccess.EMPTY;
+    }
+
+    @Override
+    public FeatureFlagSet enabledFeatures()
+    {
+        return FeatureFlagSet.of();
+    }
+
+    @Override
+    public WorldBorder getWorldBorder()
+    {
+        return null;
+    }
+
+    @Override
+    public List<VoxelShape> getEntityCollisions(@Nullable final Entity entity, final AABB box)
+    {
+        return List.of();
+    }
+
+    @Override
+    public boolean isUnobstructed(@Nullable final Entity entity, final VoxelShape shape)
+    {
+        return true;
+    }
+
+    @Override
+    public int getDirectSignal(final BlockPos pos, final Direction direction)
+    {
+        return 0;
+    }
+
+    @Override
+    public float getShade(final Direction direction, final boolean shade)
+    {
+        return 0;
+    }
+
+    @Override
+    public LevelLightEngine getLightEngine()
+    {
+        return null;
+    }
+}
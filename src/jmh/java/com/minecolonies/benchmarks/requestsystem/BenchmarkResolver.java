@@ -0,0 +1,122 @@
+package com.minecolonies.benchmarks.requestsystem;
+
+import com.google.common.collect.Lists;
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.location.ILocation;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.core.colony.requestsystem.locations.StaticLocation;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Stack resolver which resolves instantly when accepting, and declines every request otherwise.
+ */
+public class BenchmarkResolver implements IRequestResolver<Stack>
+{
+    /**
+     * Shared location of all benchmark resolvers.
+     */
+    private static final ILocation LOCATION = new StaticLocation(BlockPos.ZERO, Level.OVERWORLD);
+
+    private final IToken<?> id = new StandardToken();
+    private final int       priority;
+    private final boolean   accepting;
+
+    /**
+     * Creates a resolver.
+     *
+     * @param priority  its priority.
+     * @param accepting whether it accepts requests.
+     */
+    public BenchmarkResolver(final int priority, final boolean accepting)
+    {
+        this.priority = priority;
+        this.accepting = accepting;
+    }
+
+    @Override
+    public TypeToken<? extends Stack> getRequestType()
+    {
+        return TypeToken.of(Stack.class);
+    }
+
+    @Override
+    public boolean canResolveRequest(@NotNull final IRequestManager manager, final IRequest<? extends Stack> requestToCheck)
+    {
+        return accepting;
+    }
+
+    @Nullable
+    @Override
+    public List<IToken<?>> attemptResolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+    {
+        return accepting ? Lists.newArrayList() : null;
+    }
+
+    @Override
+    public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+    {
+    }
+
+    @Override
+    public void onAssignedRequestBeingCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+    {
+    }
+
+    @Override
+    public void onAssignedRequestCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends Stack> request)
+    {
+    }
+
+    @Override
+    public int getPriority()
+    {
+        return priority;
+    }
+
+    @Override
+    public boolean isValid()
+    {
+        return true;
+    }
+
+    @Override
+    public IToken<?> getId()
+    {
+        return id;
+    }
+
+    @Override
+    public ILocation getLocation()
+    {
+        return LOCATION;
+    }
+
+    @Override
+    public void onRequestedRequestComplete(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+    {
+    }
+
+    @Override
+    public void onRequestedRequestCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+    {
+    }
+
+    @NotNull
+    @Override
+    public MutableComponent getRequesterDisplayName(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+    {
+        return Component.literal("Benchmark");
+    }
+}
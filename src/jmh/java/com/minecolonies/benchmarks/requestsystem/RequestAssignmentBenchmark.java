@@ -0,0 +1,126 @@
+package com.minecolonies.benchmarks.requestsystem;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvider;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.benchmarks.BenchmarkEnvironment;
+import com.minecolonies.core.colony.requestsystem.management.manager.StandardRequestManager;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolver assignment of a stack request with hundreds of registered resolvers, of which only one accepts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestAssignmentBenchmark
+{
+    /**
+     * Seed of the resolver priorities.
+     */
+    private static final long SEED = 0x72657173L;
+
+    @Param({"50", "200", "800"})
+    public int resolvers;
+
+    private StandardRequestManager manager;
+    private BenchmarkResolver      requester;
+    private IRequest<?>            request;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        BenchmarkEnvironment.init();
+        manager = new StandardRequestManager(createColony());
+
+        final Random random = new Random(SEED);
+        final ImmutableList.Builder<IRequestResolver<?>> builder = ImmutableList.builder();
+        for (int i = 0; i < resolvers; i++)
+        {
+            builder.add(new BenchmarkResolver(random.nextInt(200), i == resolvers - 1));
+        }
+
+        final ImmutableList<IRequestResolver<?>> resolverList = builder.build();
+        final IToken<?> providerId = new StandardToken();
+        manager.onProviderAddedToColony(new IRequestResolverProvider()
+        {
+            @Override
+            public IToken<?> getId()
+            {
+                return providerId;
+            }
+
+            @Override
+            public ImmutableCollection<IRequestResolver<?>> getResolvers()
+            {
+                return resolverList;
+            }
+        });
+
+        requester = new BenchmarkResolver(0, false);
+    }
+
+    @Setup(Level.Invocation)
+    public void createRequest()
+    {
+        request = manager.getRequestHandler().createRequest(requester, new Stack(new ItemStack(Items.IRON_INGOT, 16)));
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeRequest()
+    {
+        manager.getRequestHandler().cleanRequestData(request.getId());
+    }
+
+    @Benchmark
+    public IToken<?> assignRequestDefault()
+    {
+        return manager.getRequestHandler().assignRequestDefault(request, Collections.emptyList());
+    }
+
+    /**
+     * Colony stand in, the request system only needs the id and dirty marking of it.
+     *
+     * @return the colony.
+     */
+    private static IColony createColony()
+    {
+        return (IColony) Proxy.newProxyInstance(IColony.class.getClassLoader(), new Class<?>[] {IColony.class}, (proxy, method, args) -> {
+            final Class<?> type = method.getReturnType();
+            if (type == int.class)
+            {
+                return 1;
+            }
+            if (type == boolean.class)
+            {
+                return false;
+            }
+            if (type == long.class)
+            {
+                return 0L;
+            }
+            if (type == double.class)
+            {
+                return 0D;
+            }
+            if (type == float.class)
+            {
+                return 0F;
+            }
+            return null;
+        });
+    }
+}
@@ -56,6 +56,13 @@ public interface IColonyPackageManager
      */
     void sendWorkOrderPackets();
 
+    /**
+     * Sends the full colony view to a subscriber again on the next update, used when its view missed an update.
+     *
+     * @param player the subscriber.
+     */
+    void resendColonyView(@NotNull ServerPlayer player);
+
     /**
      * Mark the package manager dirty.
      */
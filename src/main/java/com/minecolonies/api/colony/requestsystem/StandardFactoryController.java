@@ -263,7 +263,7 @@ public final class StandardFactoryController implements IFactoryController
     {
         final CompoundTag compound = new CompoundTag();
 
-        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
+        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) ReflectionUtils.getTypeToken(object.getClass()));
         compound.putShort(NEW_NBT_TYPE, factory.getSerializationId());
         compound.put(NBT_DATA, factory.serialize(this, object));
 
@@ -313,7 +313,7 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <OUTPUT> void serialize(@NotNull final FriendlyByteBuf buffer, @NotNull final OUTPUT object) throws IllegalArgumentException
     {
-        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
+        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) ReflectionUtils.getTypeToken(object.getClass()));
         buffer.writeShort(factory.getSerializationId());
         factory.serialize(this, object, buffer);
     }
@@ -348,7 +348,7 @@ public final class StandardFactoryController implements IFactoryController
     public <INPUT, OUTPUT> OUTPUT getNewInstance(@NotNull final TypeToken<? extends OUTPUT> requestedType, @NotNull final INPUT input, @NotNull final Object... context)
       throws IllegalArgumentException, ClassCastException
     {
-        final TypeToken<? extends INPUT> inputToken = TypeToken.of((Class<? extends INPUT>) input.getClass());
+        final TypeToken<? extends INPUT> inputToken = ReflectionUtils.getTypeToken((Class<? extends INPUT>) input.getClass());
         final IFactory<INPUT, OUTPUT> factory = getFactoryForIO(inputToken, requestedType);
 
         return factory.getNewInstance(this, input, context);
@@ -1,11 +1,45 @@
 package com.minecolonies.api.colony.requestsystem.data;
 
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
 
 /**
  * The KV-Store for the requests and their identities. Extends the {@link IIdentitiesDataStore} with {@link IToken} as key type and {@link IRequest} as value type.
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Get the tokens of the requests made by a requester.
+     *
+     * @param requesterId the id of the requester.
+     * @return a read only view of the tokens.
+     */
+    Collection<IToken<?>> getRequestsByRequester(@NotNull IToken<?> requesterId);
+
+    /**
+     * Get the tokens of the requests in a given state.
+     *
+     * @param state the state.
+     * @return a read only view of the tokens.
+     */
+    Collection<IToken<?>> getRequestsByState(@NotNull RequestState state);
+
+    /**
+     * Get the tokens of the requests for a given requestable class, subclasses are not included.
+     *
+     * @param requestableClass the class of the requestable.
+     * @return a read only view of the tokens.
+     */
+    Collection<IToken<?>> getRequestsByType(@NotNull Class<?> requestableClass);
+
+    /**
+     * Updates the state index after the state of a request changed. Unknown requests are ignored.
+     *
+     * @param request the request.
+     */
+    void onRequestStateChanged(@NotNull IRequest<?> request);
 }
@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.requestsystem.factory;
 
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.util.ReflectionUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -26,7 +27,7 @@ public interface IFactoryController
         //Any exceptions thrown before actual request is made gets wrapped.
         try
         {
-            return getFactoryForInput((TypeToken<? extends Input>) TypeToken.of(Class.forName(className)));
+            return getFactoryForInput((TypeToken<? extends Input>) ReflectionUtils.getTypeToken(className));
         }
         catch (final IllegalArgumentException ex)
         {
@@ -75,7 +76,7 @@ public interface IFactoryController
         //Any exceptions thrown before actual request is made gets wrapped.
         try
         {
-            return getFactoryForOutput((TypeToken<? extends Output>) TypeToken.of(Class.forName(className)));
+            return getFactoryForOutput((TypeToken<? extends Output>) ReflectionUtils.getTypeToken(className));
         }
         catch (final IllegalArgumentException ex)
         {
@@ -33,7 +33,7 @@ public class TypeTokenFactory implements IFactory<Class<?>, TypeToken<?>>
     public TypeToken<?> getNewInstance(
       @NotNull final IFactoryController factoryController, @NotNull final Class<?> aClass, @NotNull final Object... context) throws IllegalArgumentException
     {
-        return TypeToken.of(aClass);
+        return ReflectionUtils.getTypeToken(aClass);
     }
 
     @NotNull
@@ -53,7 +53,7 @@ public class TypeTokenFactory implements IFactory<Class<?>, TypeToken<?>>
     {
         try
         {
-            return TypeToken.of(Class.forName(nbt.getString(NbtTagConstants.TAG_VALUE).replace("coremod", "core")));
+            return ReflectionUtils.getTypeToken(nbt.getString(NbtTagConstants.TAG_VALUE).replace("coremod", "core"));
         }
         catch (ClassNotFoundException e)
         {
@@ -88,7 +88,7 @@ public class TypeTokenFactory implements IFactory<Class<?>, TypeToken<?>>
     {
         try
         {
-            return TypeToken.of(Class.forName(buffer.readUtf(32767).replace("coremod", "core")));
+            return ReflectionUtils.getTypeToken(buffer.readUtf(32767).replace("coremod", "core"));
         }
         catch (ClassNotFoundException e)
         {
@@ -148,4 +148,9 @@ public interface IRequestHandler
      * @param requester the requester.
      */
     void removeRequester(IRequester requester);
+
+    /**
+     * Recalculates the root and chain depth of every registered request, used after the requests got loaded.
+     */
+    void updateChainPositions();
 }
@@ -143,6 +143,40 @@ public interface IRequestManager extends INBTSerializable<CompoundTag>, ITickabl
      */
     void overruleRequest(@NotNull IToken<?> token, @Nullable ItemStack stack) throws IllegalArgumentException;
 
+    /**
+     * Method used to indicate to this manager that the state of a request changed, keeps the state index of the requests up to date.
+     *
+     * @param request The request which state changed.
+     */
+    void onRequestStateChanged(@NotNull IRequest<?> request);
+
+    /**
+     * Get the requests made by a given requester, from the requester index.
+     *
+     * @param requester The requester.
+     * @return A copy of the requests of the requester.
+     */
+    @NotNull
+    Collection<IRequest<?>> getRequestsByRequester(@NotNull IRequester requester);
+
+    /**
+     * Get the requests in a given state, from the state index.
+     *
+     * @param state The state.
+     * @return A copy of the requests in the state.
+     */
+    @NotNull
+    Collection<IRequest<?>> getRequestsByState(@NotNull RequestState state);
+
+    /**
+     * Get the requests for a given requestable class, from the type index. Requests for subclasses of the given class are not included.
+     *
+     * @param requestableClass The class of the requestable.
+     * @return A copy of the requests for the class.
+     */
+    @NotNull
+    Collection<IRequest<?>> getRequestsByType(@NotNull Class<? extends IRequestable> requestableClass);
+
     /**
      * Method used to indicate to this manager that a new Provider has been added to the colony.
      *
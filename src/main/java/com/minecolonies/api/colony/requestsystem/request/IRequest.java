@@ -292,6 +292,44 @@ public interface IRequest<R extends IRequestable>
      */
     Set<TypeToken<?>> getSuperClasses();
 
+    /**
+     * Get a counter which changes whenever the request changes, used to reuse its serialized form between saves.
+     * @return the counter, or -1 if the changes of the request are not tracked.
+     */
+    default int getModificationCount()
+    {
+        return -1;
+    }
+
+    /**
+     * Get the token of the request at the root of the request chain this request is part of.
+     * @return the root token, the own token if the request has no parent.
+     */
+    @NotNull
+    default IToken<?> getRootToken()
+    {
+        return getId();
+    }
+
+    /**
+     * Get the depth of this request in its request chain.
+     * @return the amount of parents above this request.
+     */
+    default int getChainDepth()
+    {
+        return 0;
+    }
+
+    /**
+     * Set the position of this request in its request chain, maintained by the request handler whenever a parent is set or removed.
+     * @param root  the token of the root request of the chain.
+     * @param depth the amount of parents above this request.
+     */
+    default void setChainPosition(@NotNull final IToken<?> root, final int depth)
+    {
+        // Not tracked by default.
+    }
+
     /**
      * Get the resolver tooltip for a request.
      * @param colony the colony view to obtain information if necessary.
@@ -4,7 +4,6 @@ import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
@@ -12,7 +11,6 @@ import net.minecraft.world.level.block.entity.FurnaceBlockEntity;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Burnable requestable. Delivers a stack of burnable fuel.
@@ -22,7 +20,7 @@ public class Burnable implements IDeliverable
     /**
      * Set of type tokens belonging to this class.
      */
-    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClasses(TypeToken.of(Burnable.class)).stream().filter(type -> !type.equals(TypeConstants.OBJECT)).collect(Collectors.toSet());
+    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClassesWithoutObject(Burnable.class);
 
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     private static final String NBT_COUNT  = "Count";
@@ -34,6 +32,11 @@ public class Burnable implements IDeliverable
     @NotNull
     private ItemStack result = ItemStackUtils.EMPTY;
 
+    /**
+     * Incremented whenever the requestable changes.
+     */
+    private int modificationCount = 0;
+
     public Burnable(final int count) {this.count = count;}
 
     public Burnable(final int count, @NotNull final ItemStack result)
@@ -120,6 +123,13 @@ public class Burnable implements IDeliverable
     public void setResult(@NotNull final ItemStack result)
     {
         this.result = result;
+        modificationCount++;
+    }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
     }
 
     @Override
@@ -6,7 +6,6 @@ import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -17,7 +16,6 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Eatable requestable. Delivers a stack of food.
@@ -27,7 +25,7 @@ public class Food implements IDeliverable
     /**
      * Set of type tokens belonging to this class.
      */
-    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClasses(TypeToken.of(Food.class)).stream().filter(type -> !type.equals(TypeConstants.OBJECT)).collect(Collectors.toSet());
+    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClassesWithoutObject(Food.class);
 
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     private static final String NBT_COUNT  = "Count";
@@ -44,6 +42,11 @@ public class Food implements IDeliverable
     @NotNull
     private ItemStack result = ItemStackUtils.EMPTY;
 
+    /**
+     * Incremented whenever the requestable changes.
+     */
+    private int modificationCount = 0;
+
     public Food(final int count, final int minNutrition)
     {
         this.count = count;
@@ -190,6 +193,13 @@ public class Food implements IDeliverable
     public void setResult(@NotNull final ItemStack result)
     {
         this.result = result;
+        modificationCount++;
+    }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
     }
 
     @Override
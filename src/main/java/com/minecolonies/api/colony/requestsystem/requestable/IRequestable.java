@@ -14,4 +14,13 @@ public interface IRequestable
      * @return the type.
      */
     Set<TypeToken<?>> getSuperClasses();
+
+    /**
+     * Get a counter which changes whenever the requestable changes, used to reuse the serialized form of its request between saves.
+     * @return the counter, or -1 if the changes of the requestable are not tracked.
+     */
+    default int getModificationCount()
+    {
+        return -1;
+    }
 }
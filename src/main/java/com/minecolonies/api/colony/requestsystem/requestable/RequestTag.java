@@ -4,7 +4,6 @@ import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
@@ -15,7 +14,6 @@ import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Deliverable that can only be fulfilled by a stack whos item is contained in a given tag with a given minimal amount of items.
@@ -25,7 +23,7 @@ public class RequestTag implements IDeliverable
     /**
      * Set of type tokens belonging to this class.
      */
-    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClasses(TypeToken.of(RequestTag.class)).stream().filter(type -> !type.equals(TypeConstants.OBJECT)).collect(Collectors.toSet());
+    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClassesWithoutObject(RequestTag.class);
 
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     private static final String NBT_TAG      = "Tag";
@@ -46,6 +44,11 @@ public class RequestTag implements IDeliverable
     @NotNull
     private ItemStack result;
 
+    /**
+     * Incremented whenever the requestable changes.
+     */
+    private int modificationCount = 0;
+
     /**
      * The required count.
      */
@@ -156,6 +159,13 @@ public class RequestTag implements IDeliverable
     public void setResult(@NotNull final ItemStack result)
     {
         this.result = result;
+        modificationCount++;
+    }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
     }
 
     /**
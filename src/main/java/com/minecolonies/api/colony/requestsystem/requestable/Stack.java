@@ -6,7 +6,6 @@ import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
@@ -14,7 +13,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Deliverable that can only be fulfilled by a single stack with a given minimal amount of items.
@@ -25,7 +23,7 @@ public class Stack implements IConcreteDeliverable
      * Set of type tokens belonging to this class.
      */
     private final static Set<TypeToken<?>>
-      TYPE_TOKENS = ReflectionUtils.getSuperClasses(TypeToken.of(Stack.class)).stream().filter(type -> !type.equals(TypeConstants.OBJECT)).collect(Collectors.toSet());
+      TYPE_TOKENS = ReflectionUtils.getSuperClassesWithoutObject(Stack.class);
 
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     private static final String NBT_STACK       = "Stack";
@@ -63,6 +61,11 @@ public class Stack implements IConcreteDeliverable
     @NotNull
     private ItemStack result;
 
+    /**
+     * Incremented whenever the requestable changes.
+     */
+    private int modificationCount = 0;
+
     /**
      * If this request can be resolved by building.
      */
@@ -170,6 +173,7 @@ public class Stack implements IConcreteDeliverable
         this.count = count;
         this.minCount = Math.min(minCount, count);
         this.canBeResolvedByBuilding = canBeResolvedByBuilding;
+        modificationCount++;
     }
 
     /**
@@ -296,6 +300,13 @@ public class Stack implements IConcreteDeliverable
     public void setResult(@NotNull final ItemStack result)
     {
         this.result = result;
+        modificationCount++;
+    }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
     }
 
     /**
@@ -383,6 +394,7 @@ public class Stack implements IConcreteDeliverable
     public void setCanBeResolvedByBuilding(final boolean canBeResolvedByBuilding)
     {
         this.canBeResolvedByBuilding = canBeResolvedByBuilding;
+        modificationCount++;
     }
 
     @Override
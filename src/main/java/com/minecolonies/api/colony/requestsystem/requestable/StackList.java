@@ -4,7 +4,6 @@ import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -16,7 +15,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.translation.RequestSystemTranslationConstants.REQUEST_SYSTEM_STACK_LIST;
 
@@ -28,7 +26,7 @@ public class StackList implements IConcreteDeliverable, INonExhaustiveDeliverabl
     /**
      * Set of type tokens belonging to this class.
      */
-    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClasses(TypeToken.of(StackList.class)).stream().filter(type -> !type.equals(TypeConstants.OBJECT)).collect(Collectors.toSet());
+    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClassesWithoutObject(StackList.class);
 
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     private static final String NBT_STACK_LIST  = "StackList";
@@ -75,6 +73,11 @@ public class StackList implements IConcreteDeliverable, INonExhaustiveDeliverabl
     @NotNull
     private ItemStack result;
 
+    /**
+     * Incremented whenever the requestable changes.
+     */
+    private int modificationCount = 0;
+
     /**
      * The required count.
      */
@@ -340,6 +343,13 @@ public class StackList implements IConcreteDeliverable, INonExhaustiveDeliverabl
     public void setResult(@NotNull final ItemStack result)
     {
         this.result = result;
+        modificationCount++;
+    }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
     }
 
     @Override
@@ -6,14 +6,12 @@ import com.minecolonies.api.equipment.ModEquipmentTypes;
 import com.minecolonies.api.equipment.registry.EquipmentTypeEntry;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Class used to represent equipment inside the request system.
@@ -23,8 +21,7 @@ public class Tool implements IDeliverable
     /**
      * Set of type tokens belonging to this class.
      */
-    private final static Set<TypeToken<?>> TYPE_TOKENS =
-      ReflectionUtils.getSuperClasses(TypeToken.of(Tool.class)).stream().filter(type -> !type.equals(TypeConstants.OBJECT)).collect(Collectors.toSet());
+    private final static Set<TypeToken<?>> TYPE_TOKENS = ReflectionUtils.getSuperClassesWithoutObject(Tool.class);
 
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     private static final String NBT_TYPE      = "Type";
@@ -45,6 +42,11 @@ public class Tool implements IDeliverable
     @NotNull
     private ItemStack result = ItemStackUtils.EMPTY;
 
+    /**
+     * Incremented whenever the requestable changes.
+     */
+    private int modificationCount = 0;
+
     public Tool(@NotNull final EquipmentTypeEntry equipmentType, @NotNull final Integer minLevel, @NotNull final Integer maxLevel)
     {
         this(equipmentType, minLevel, maxLevel, ItemStackUtils.EMPTY);
@@ -205,6 +207,13 @@ public class Tool implements IDeliverable
     public void setResult(@NotNull final ItemStack result)
     {
         this.result = result;
+        modificationCount++;
+    }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
     }
 
     @Override
@@ -65,6 +65,13 @@ public abstract class AbstractCrafting implements IRequestable
         this.theStack.setCount(Math.min(this.theStack.getCount(), this.theStack.getMaxStackSize()));
     }
 
+    @Override
+    public int getModificationCount()
+    {
+        // Never changes after creation
+        return 0;
+    }
+
     @NotNull
     public ItemStack getStack()
     {
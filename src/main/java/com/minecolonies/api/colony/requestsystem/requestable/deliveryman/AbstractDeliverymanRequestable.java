@@ -16,6 +16,11 @@ public abstract class AbstractDeliverymanRequestable implements IDeliverymanRequ
 
     protected int priority = 0;
 
+    /**
+     * Incremented whenever the requestable changes.
+     */
+    private int modificationCount = 0;
+
     /**
      * Constructor for deliveryman requestables
      *
@@ -95,6 +100,13 @@ public abstract class AbstractDeliverymanRequestable implements IDeliverymanRequ
         // The priority set by by the aging mechanism can actually exceed the maximum priority that requesters can choose.
         // Worst case, the priority queue turns into a FIFO queue for really old requests, with new maximum-priority requests having to wait.
         priority = Math.min(getMaxAgingPriority(true), priority + 1);
+        modificationCount++;
+    }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
     }
 
     @Override
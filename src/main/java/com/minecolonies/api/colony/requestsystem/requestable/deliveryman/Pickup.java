@@ -3,13 +3,11 @@ package com.minecolonies.api.colony.requestsystem.requestable.deliveryman;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Class used to represent pickups inside the request system. This class can be used to request a pickup of
@@ -20,7 +18,7 @@ public class Pickup extends AbstractDeliverymanRequestable
      * Set of type tokens belonging to this class.
      */
     private final static Set<TypeToken<?>>
-      TYPE_TOKENS = ReflectionUtils.getSuperClasses(TypeToken.of(Pickup.class)).stream().filter(type -> !type.equals(TypeConstants.OBJECT)).collect(Collectors.toSet());
+      TYPE_TOKENS = ReflectionUtils.getSuperClassesWithoutObject(Pickup.class);
 
     /**
      * Constructor for Delivery requests
@@ -1,5 +1,6 @@
 package com.minecolonies.api.configuration;
 
+import com.electronwill.nightconfig.core.CommentedConfig;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.config.ModConfig;
@@ -29,20 +30,49 @@ public class Configuration
      * Builds configuration tree.
      */
     public Configuration()
+    {
+        this(true);
+    }
+
+    /**
+     * Builds configuration tree.
+     *
+     * @param register whether to register the tree with the mod loader, or to load the default values right away.
+     */
+    private Configuration(final boolean register)
     {
         final Pair<ClientConfiguration, ForgeConfigSpec> cli = new ForgeConfigSpec.Builder().configure(ClientConfiguration::new);
         final Pair<ServerConfiguration, ForgeConfigSpec> ser = new ForgeConfigSpec.Builder().configure(ServerConfiguration::new);
         final Pair<CommonConfiguration, ForgeConfigSpec> com = new ForgeConfigSpec.Builder().configure(CommonConfiguration::new);
 
-        ModLoadingContext.get().registerConfig(ModConfig.Type.CLIENT, cli.getRight());
-        ModLoadingContext.get().registerConfig(ModConfig.Type.SERVER, ser.getRight());
-        ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, com.getRight());
+        if (register)
+        {
+            ModLoadingContext.get().registerConfig(ModConfig.Type.CLIENT, cli.getRight());
+            ModLoadingContext.get().registerConfig(ModConfig.Type.SERVER, ser.getRight());
+            ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, com.getRight());
+        }
+        else
+        {
+            cli.getRight().setConfig(CommentedConfig.inMemory());
+            ser.getRight().setConfig(CommentedConfig.inMemory());
+            com.getRight().setConfig(CommentedConfig.inMemory());
+        }
 
         clientConfig = cli.getLeft();
         serverConfig = ser.getLeft();
         commonConfiguration = com.getLeft();
     }
 
+    /**
+     * Builds a configuration tree holding the default values, without the mod loader. Used by the benchmarks.
+     *
+     * @return the configuration.
+     */
+    public static Configuration createDefault()
+    {
+        return new Configuration(false);
+    }
+
     public ClientConfiguration getClient()
     {
         return clientConfig;
@@ -37,6 +37,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     maxTreeSize;
     public final ForgeConfigSpec.BooleanValue noSupplyPlacementRestrictions;
     public final ForgeConfigSpec.BooleanValue skyRaiders;
+    public final ForgeConfigSpec.IntValue     colonyTickBudget;
 
     /*  --------------------------------------------------------------------------- *
      *  ------------------- ######## Research settings ######## ------------------- *
@@ -112,6 +113,8 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue pathfindingDebugVerbosity;
     public final ForgeConfigSpec.IntValue pathfindingMaxThreadCount;
     public final ForgeConfigSpec.IntValue minimumRailsToPath;
+    public final ForgeConfigSpec.BooleanValue pathfindingCache;
+    public final ForgeConfigSpec.BooleanValue pathfindingHierarchical;
 
     /*  --------------------------------------------------------------------------------- *
      *  ------------------- ######## Request System Settings ######## ------------------- *
@@ -148,6 +151,7 @@ public class ServerConfiguration extends AbstractConfiguration
         maxTreeSize = defineInteger(builder, "maxtreesize", 400, 1, 1000);
         noSupplyPlacementRestrictions = defineBoolean(builder, "nosupplyplacementrestrictions", false);
         skyRaiders = defineBoolean(builder, "skyraiders", false);
+        colonyTickBudget = defineInteger(builder, "colonytickbudget", 15, 1, 50);
 
         swapToCategory(builder, "research");
         researchCreativeCompletion = defineBoolean(builder, "researchcreativecompletion", true);
@@ -248,6 +252,8 @@ public class ServerConfiguration extends AbstractConfiguration
         pathfindingDebugVerbosity = defineInteger(builder, "pathfindingdebugverbosity", 0, 0, 10);
         minimumRailsToPath = defineInteger(builder, "minimumrailstopath", 8, 5, 100);
         pathfindingMaxThreadCount = defineInteger(builder, "pathfindingmaxthreadcount", 2, 1, 10);
+        pathfindingCache = defineBoolean(builder, "pathfindingcache", true);
+        pathfindingHierarchical = defineBoolean(builder, "pathfindinghierarchical", true);
 
         swapToCategory(builder, "requestSystem");
 
@@ -41,4 +41,12 @@ public interface ITickRateStateMachine<S extends IState> extends IStateMachine<I
      * @param ticksToNext
      */
     void setCurrentDelay(int ticksToNext);
+
+    /**
+     * Sets what the {@link TickProfiler} records this statemachine's transitions under, statemachines without an owner are not profiled.
+     *
+     * @param colonyId the id of the colony the statemachine belongs to.
+     * @param owner    the owner name, e.g. the job.
+     */
+    void setProfilingContext(int colonyId, @NotNull String owner);
 }
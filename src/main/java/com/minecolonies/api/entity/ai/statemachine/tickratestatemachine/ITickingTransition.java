@@ -2,6 +2,7 @@ package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineTransition;
+import org.jetbrains.annotations.Nullable;
 
 public interface ITickingTransition<S extends IState> extends IStateMachineTransition<S>
 {
@@ -32,4 +33,15 @@ public interface ITickingTransition<S extends IState> extends IStateMachineTrans
      * @param ticksToUpdate
      */
     void setTicksToUpdate(int ticksToUpdate);
+
+    /**
+     * Get the name this transition is reported under by the {@link TickProfiler}.
+     *
+     * @return the name or null if unnamed.
+     */
+    @Nullable
+    default String getName()
+    {
+        return null;
+    }
 }
@@ -0,0 +1,319 @@
+package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineEvent;
+import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineTransition;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in profiler of the transitions checked by {@link TickRateStateMachine}s. Records invocation counts and nanosecond timings per colony, owner, state and transition into
+ * log-linear histograms, which keep a fixed size no matter how many samples are recorded.
+ */
+public final class TickProfiler
+{
+    /**
+     * Label of transitions which were not given a name.
+     */
+    private static final String UNNAMED_TRANSITION = "transition";
+
+    /**
+     * Whether the profiler is currently recording.
+     */
+    private static volatile boolean enabled = false;
+
+    /**
+     * Time the current recording was started at.
+     */
+    private static long startedAt = 0;
+
+    /**
+     * Time the current recording was stopped at, 0 while still recording.
+     */
+    private static long stoppedAt = 0;
+
+    /**
+     * The recorded histograms.
+     */
+    private static final Map<Key, Histogram> SAMPLES = new ConcurrentHashMap<>();
+
+    private TickProfiler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Whether the profiler is currently recording.
+     *
+     * @return true if so.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Clears all recorded samples and starts recording.
+     */
+    public static void start()
+    {
+        SAMPLES.clear();
+        startedAt = System.currentTimeMillis();
+        stoppedAt = 0;
+        enabled = true;
+    }
+
+    /**
+     * Stops recording, keeping the samples until the next start.
+     */
+    public static void stop()
+    {
+        if (enabled)
+        {
+            enabled = false;
+            stoppedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Records the time a single transition check took.
+     *
+     * @param colony     the colony id the statemachine belongs to.
+     * @param owner      the owner of the statemachine, e.g. colony or the job name.
+     * @param state      the state the statemachine was in.
+     * @param transition the checked transition.
+     * @param nanos      the time the check took.
+     */
+    public static void record(final int colony, @NotNull final String owner, @NotNull final IState state, @NotNull final IStateMachineTransition<?> transition, final long nanos)
+    {
+        SAMPLES.computeIfAbsent(new Key(colony, owner, state.toString(), getLabel(transition)), key -> new Histogram()).record(nanos);
+    }
+
+    /**
+     * Gets the label a transition is reported under.
+     *
+     * @param transition the transition.
+     * @return its name, the event type for unnamed events, or a generic label.
+     */
+    private static String getLabel(final IStateMachineTransition<?> transition)
+    {
+        if (transition instanceof ITickingTransition<?> tickingTransition && tickingTransition.getName() != null)
+        {
+            return tickingTransition.getName();
+        }
+
+        if (transition instanceof IStateMachineEvent<?> event)
+        {
+            return event.getEventType().toString();
+        }
+
+        return UNNAMED_TRANSITION;
+    }
+
+    /**
+     * Get a snapshot of the recorded samples, sorted by their total time descending.
+     *
+     * @return the list of entries.
+     */
+    public static List<Entry> getEntries()
+    {
+        final List<Entry> entries = new ArrayList<>();
+        for (final Map.Entry<Key, Histogram> sample : SAMPLES.entrySet())
+        {
+            final Key key = sample.getKey();
+            final Histogram histogram = sample.getValue();
+            entries.add(new Entry(key.colony(),
+              key.owner(),
+              key.state(),
+              key.transition(),
+              histogram.getCount(),
+              histogram.getTotal(),
+              histogram.getMax(),
+              histogram.getPercentile(0.5D),
+              histogram.getPercentile(0.99D)));
+        }
+        entries.sort(Comparator.comparingLong(Entry::totalNanos).reversed());
+        return entries;
+    }
+
+    /**
+     * Get the milliseconds covered by the recording.
+     *
+     * @return the duration.
+     */
+    public static long getRecordedMillis()
+    {
+        if (startedAt == 0)
+        {
+            return 0;
+        }
+        return (enabled || stoppedAt == 0 ? System.currentTimeMillis() : stoppedAt) - startedAt;
+    }
+
+    /**
+     * Serializes the recorded samples.
+     *
+     * @return the json object of the recording.
+     */
+    public static JsonObject toJson()
+    {
+        final JsonObject json = new JsonObject();
+        json.addProperty("started", startedAt);
+        json.addProperty("duration_ms", getRecordedMillis());
+        json.addProperty("recording", enabled);
+
+        final JsonArray array = new JsonArray();
+        for (final Entry entry : getEntries())
+        {
+            final JsonObject entryJson = new JsonObject();
+            entryJson.addProperty("colony", entry.colony());
+            entryJson.addProperty("owner", entry.owner());
+            entryJson.addProperty("state", entry.state());
+            entryJson.addProperty("transition", entry.transition());
+            entryJson.addProperty("count", entry.count());
+            entryJson.addProperty("total_ns", entry.totalNanos());
+            entryJson.addProperty("mean_ns", entry.count() == 0 ? 0 : entry.totalNanos() / entry.count());
+            entryJson.addProperty("p50_ns", entry.p50Nanos());
+            entryJson.addProperty("p99_ns", entry.p99Nanos());
+            entryJson.addProperty("max_ns", entry.maxNanos());
+            array.add(entryJson);
+        }
+        json.add("entries", array);
+        return json;
+    }
+
+    /**
+     * Key of a histogram.
+     */
+    private record Key(int colony, String owner, String state, String transition) {}
+
+    /**
+     * Snapshot of a single histogram.
+     */
+    public record Entry(int colony, String owner, String state, String transition, long count, long totalNanos, long maxNanos, long p50Nanos, long p99Nanos) {}
+
+    /**
+     * Log-linear histogram, values are grouped into power of two ranges which are split into linear sub buckets, bounding the relative error to the sub bucket width.
+     */
+    private static final class Histogram
+    {
+        /**
+         * Bits of the linear sub buckets of each power of two.
+         */
+        private static final int SUB_BUCKET_BITS  = 3;
+        private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+        /**
+         * Enough buckets to hold every positive long.
+         */
+        private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+        private final long[] buckets = new long[BUCKET_COUNT];
+        private long count;
+        private long total;
+        private long max;
+
+        /**
+         * Records a value.
+         *
+         * @param value the value in nanoseconds.
+         */
+        private void record(final long value)
+        {
+            final long clamped = Math.max(0, value);
+            buckets[getIndex(clamped)]++;
+            count++;
+            total += clamped;
+            if (clamped > max)
+            {
+                max = clamped;
+            }
+        }
+
+        /**
+         * Get the bucket of a value.
+         *
+         * @param value the non negative value.
+         * @return the bucket index.
+         */
+        private static int getIndex(final long value)
+        {
+            if (value < SUB_BUCKET_COUNT)
+            {
+                return (int) value;
+            }
+
+            final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+            final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+            return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+        }
+
+        /**
+         * Get the middle value of a bucket.
+         *
+         * @param index the bucket index.
+         * @return the representative value.
+         */
+        private static long getValue(final int index)
+        {
+            if (index < SUB_BUCKET_COUNT)
+            {
+                return index;
+            }
+
+            final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+            final long lower = (long) (SUB_BUCKET_COUNT + (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT) << shift;
+            return lower + ((1L << shift) >> 1);
+        }
+
+        /**
+         * Get the approximate value at the given percentile.
+         *
+         * @param percentile the percentile between 0 and 1.
+         * @return the value, never above the recorded max.
+         */
+        private long getPercentile(final double percentile)
+        {
+            if (count == 0)
+            {
+                return 0;
+            }
+
+            final long target = Math.max(1, (long) Math.ceil(count * percentile));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++)
+            {
+                seen += buckets[i];
+                if (seen >= target)
+                {
+                    return Math.min(getValue(i), max);
+                }
+            }
+            return max;
+        }
+
+        private long getCount()
+        {
+            return count;
+        }
+
+        private long getTotal()
+        {
+            return total;
+        }
+
+        private long getMax()
+        {
+            return max;
+        }
+    }
+}
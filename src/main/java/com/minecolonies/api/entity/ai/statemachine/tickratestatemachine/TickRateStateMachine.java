@@ -14,11 +14,6 @@ import java.util.function.Consumer;
  */
 public class TickRateStateMachine<S extends IState> extends BasicStateMachine<ITickingTransition<S>, S> implements ITickRateStateMachine<S>
 {
-    /**
-     * TPS factor of the server
-     */
-    public static double slownessFactor = 1.0D;
-
     /**
      * The rate the statemachine currently expects to be ticked at.
      */
@@ -29,6 +24,12 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
      */
     private ITickingTransition<S> executedTransition = null;
 
+    /**
+     * Colony id and owner the transitions are profiled under, not profiled without owner.
+     */
+    private int    profileColony = -1;
+    private String profileOwner  = null;
+
     /**
      * Reference to our used global transition lists
      */
@@ -121,9 +122,24 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
             return false;
         }
 
-        transition.setTicksToUpdate((int) (transition.getTickRate() / slownessFactor));
+        transition.setTicksToUpdate(transition.getTickRate());
         executedTransition = transition;
-        return super.checkTransition(transition);
+
+        if (profileOwner == null || !TickProfiler.isEnabled())
+        {
+            return super.checkTransition(transition);
+        }
+
+        final S state = getState();
+        final long start = System.nanoTime();
+        try
+        {
+            return super.checkTransition(transition);
+        }
+        finally
+        {
+            TickProfiler.record(profileColony, profileOwner, state, transition, System.nanoTime() - start);
+        }
     }
 
     @Override
@@ -143,4 +159,11 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     {
         executedTransition.setTicksToUpdate(ticksToNext);
     }
+
+    @Override
+    public void setProfilingContext(final int colonyId, @NotNull final String owner)
+    {
+        this.profileColony = colonyId;
+        this.profileOwner = owner;
+    }
 }
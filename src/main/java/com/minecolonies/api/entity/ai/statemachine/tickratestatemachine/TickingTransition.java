@@ -3,6 +3,7 @@ package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 import com.minecolonies.api.entity.ai.statemachine.basestatemachine.BasicTransition;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
@@ -32,6 +33,12 @@ public class TickingTransition<S extends IState> extends BasicTransition<S> impl
     @SuppressWarnings("PMD.AssignmentToNonFinalStatic")
     private static int tickOffsetVariant = 0;
 
+    /**
+     * The name the transition is profiled under, null if unnamed.
+     */
+    @Nullable
+    private String name = null;
+
     /**
      * Create a new Transition with tickrate
      *
@@ -62,6 +69,26 @@ public class TickingTransition<S extends IState> extends BasicTransition<S> impl
         }
     }
 
+    /**
+     * Create a new named Transition with tickrate
+     *
+     * @param state     State to apply the transition in
+     * @param condition Condition checked before going to the next state
+     * @param nextState The next state this transition leads into
+     * @param tickRate  The expected tickrate at which this transition should be checked.
+     * @param name      The name the transition is profiled under.
+     */
+    public TickingTransition(
+      @NotNull final S state,
+      @NotNull final BooleanSupplier condition,
+      @NotNull final Supplier<S> nextState,
+      final int tickRate,
+      @NotNull final String name)
+    {
+        this(state, condition, nextState, tickRate);
+        this.name = name;
+    }
+
     /**
      * Create a new Transition with tickrate
      *
@@ -128,4 +155,11 @@ public class TickingTransition<S extends IState> extends BasicTransition<S> impl
     {
         this.ticksToUpdate = ticksToUpdate;
     }
+
+    @Nullable
+    @Override
+    public String getName()
+    {
+        return name;
+    }
 }
@@ -1,5 +1,6 @@
 package com.minecolonies.api.tileentities;
 
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.util.Tuple;
 import com.minecolonies.core.tileentities.TileEntityColonyBuilding;
@@ -19,6 +20,23 @@ public abstract class AbstractTileEntityWareHouse extends TileEntityColonyBuildi
         super(warehouse, pos, state);
     }
 
+    /**
+     * Count the items in the racks of the warehouse matching an item storage, respecting its damage and nbt flags.
+     *
+     * @param storage the item storage to match.
+     * @return the total count.
+     */
+    public abstract int getItemCountInWarehouse(@NotNull ItemStorage storage);
+
+    /**
+     * Count the items in the racks of the warehouse matching a predicate.
+     *
+     * @param itemStackSelectionPredicate the predicate to match.
+     * @param limit                       the count to stop counting at.
+     * @return the total count, or at least the limit.
+     */
+    public abstract int getItemCountInWarehouse(@NotNull Predicate<ItemStack> itemStackSelectionPredicate, int limit);
+
     /**
      * Method to get the first matching ItemStack in the Warehouse.
      *
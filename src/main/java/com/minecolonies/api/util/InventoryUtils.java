@@ -6,6 +6,7 @@ import com.google.common.collect.Maps;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.equipment.registry.EquipmentTypeEntry;
+import com.minecolonies.core.colony.buildings.AbstractBuildingContainer;
 import com.minecolonies.core.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.core.tileentities.TileEntityRack;
 import net.minecraft.core.BlockPos;
@@ -742,6 +743,12 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final ItemStorage stack, final int count)
     {
+        if (provider instanceof AbstractBuildingContainer building)
+        {
+            final int totalCount = building.getInventoryIndex().getCount(stack);
+            return totalCount >= count ? Integer.MAX_VALUE : totalCount;
+        }
+
         int totalCount = 0;
         final Level world = provider.getColony().getWorld();
 
@@ -774,6 +781,11 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> stack, final int count)
     {
+        if (provider instanceof AbstractBuildingContainer building)
+        {
+            return building.getInventoryIndex().getCount(stack, count);
+        }
+
         int totalCount = 0;
         final Level world = provider.getColony().getWorld();
 
@@ -825,6 +837,11 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final ItemStorage stack)
     {
+        if (provider instanceof AbstractBuildingContainer building)
+        {
+            return building.getInventoryIndex().getCount(stack);
+        }
+
         int totalCount = 0;
         final Level world = provider.getColony().getWorld();
 
@@ -902,6 +919,11 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate)
     {
+        if (provider instanceof AbstractBuildingContainer building)
+        {
+            return building.getInventoryIndex().getCount(predicate, Integer.MAX_VALUE);
+        }
+
         int totalCount = 0;
         final Level world = provider.getColony().getWorld();
 
@@ -1,13 +1,15 @@
 package com.minecolonies.api.util;
 
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.util.constant.Suppression;
 import org.apache.logging.log4j.core.config.AppenderControl;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class with methods regarding reflection.
@@ -15,9 +17,16 @@ import java.util.Set;
 public final class ReflectionUtils
 {
     /**
-     * Caching the reflection calls.
+     * Caching the reflection calls. Type hierarchies never change at runtime, so the cached sets are immutable and shared.
      */
-    private static Map<TypeToken<?>, Set<TypeToken<?>>> cache = new HashMap<>();
+    private static final Map<TypeToken<?>, Set<TypeToken<?>>> cache              = new ConcurrentHashMap<>();
+    private static final Map<TypeToken<?>, Set<TypeToken<?>>> cacheWithoutObject = new ConcurrentHashMap<>();
+
+    /**
+     * The canonical type tokens of raw classes, by class and by class name.
+     */
+    private static final Map<Class<?>, TypeToken<?>> typeTokens       = new ConcurrentHashMap<>();
+    private static final Map<String, TypeToken<?>>   typeTokensByName = new ConcurrentHashMap<>();
 
     /**
      * Private constructor to hide the implicit public one.
@@ -47,11 +56,86 @@ public final class ReflectionUtils
         directSet.forEach(t ->
         {
             resultingSet.add(t);
-            resultingSet.add(TypeToken.of(t.getRawType()));
+            resultingSet.add(getTypeToken(t.getRawType()));
         });
 
-        cache.put(token, resultingSet);
-        return resultingSet;
+        final Set<TypeToken<?>> immutableSet = Collections.unmodifiableSet(resultingSet);
+        final Set<TypeToken<?>> previous = cache.putIfAbsent(token, immutableSet);
+        return previous == null ? immutableSet : previous;
+    }
+
+    /**
+     * Method to get all Super types of a given Class, without {@link Object}. This is the set of types a request for the class can be resolved as.
+     *
+     * @param token The type to get the Supertypes for.
+     * @param <T>   The type to get the super types for.
+     * @return An immutable set with the super types of the given type, ordered from the most specific type.
+     */
+    public static <T> Set<TypeToken<?>> getSuperClassesWithoutObject(final TypeToken<T> token)
+    {
+        final Set<TypeToken<?>> cachedSet = cacheWithoutObject.get(token);
+        if (cachedSet != null)
+        {
+            return cachedSet;
+        }
+
+        final Set<TypeToken<?>> resultingSet = new LinkedHashSet<>(getSuperClasses(token));
+        resultingSet.removeIf(t -> t.getRawType() == Object.class);
+
+        final Set<TypeToken<?>> immutableSet = Collections.unmodifiableSet(resultingSet);
+        final Set<TypeToken<?>> previous = cacheWithoutObject.putIfAbsent(token, immutableSet);
+        return previous == null ? immutableSet : previous;
+    }
+
+    /**
+     * Method to get all Super types of a given Class, without {@link Object}.
+     *
+     * @param clazz The class to get the Supertypes for.
+     * @return An immutable set with the super types of the given class, ordered from the most specific type.
+     */
+    public static Set<TypeToken<?>> getSuperClassesWithoutObject(final Class<?> clazz)
+    {
+        return getSuperClassesWithoutObject(getTypeToken(clazz));
+    }
+
+    /**
+     * Get the canonical type token of a class, instead of creating a new one on every call.
+     *
+     * @param clazz The class.
+     * @param <T>   The type of the class.
+     * @return The type token.
+     */
+    @SuppressWarnings(Suppression.UNCHECKED)
+    public static <T> TypeToken<T> getTypeToken(final Class<T> clazz)
+    {
+        final TypeToken<?> cachedToken = typeTokens.get(clazz);
+        if (cachedToken != null)
+        {
+            return (TypeToken<T>) cachedToken;
+        }
+
+        final TypeToken<?> previous = typeTokens.putIfAbsent(clazz, TypeToken.of(clazz));
+        return (TypeToken<T>) (previous == null ? typeTokens.get(clazz) : previous);
+    }
+
+    /**
+     * Get the canonical type token of a class by its name, loading the class only once.
+     *
+     * @param className The fully qualified name of the class.
+     * @return The type token.
+     * @throws ClassNotFoundException when there is no such class.
+     */
+    public static TypeToken<?> getTypeToken(final String className) throws ClassNotFoundException
+    {
+        final TypeToken<?> cachedToken = typeTokensByName.get(className);
+        if (cachedToken != null)
+        {
+            return cachedToken;
+        }
+
+        final TypeToken<?> token = getTypeToken(Class.forName(className));
+        typeTokensByName.putIfAbsent(className, token);
+        return token;
     }
 
     public static void setFMLLoggingLevelOnConsoleToDebug(final AppenderControl control)
@@ -20,11 +20,6 @@ public final class ColonyManagerConstants
      */
     public static final String FILENAME_MINECOLONIES = "colonies.dat";
 
-    /**
-     * The file name pattern of the minecolonies backup.
-     */
-    public static final String FILENAME_MINECOLONIES_BACKUP = "colonies-%s.zip";
-
     /**
      * Printed text if world capability couldn't be found.
      */
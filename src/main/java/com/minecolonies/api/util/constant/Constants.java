@@ -106,6 +106,11 @@ public final class Constants
      */
     public static final int MAX_CRAFTING_CYCLE_DEPTH = 20;
 
+    /**
+     * Max depth of a request chain which resolvers still pick requests up from, and the request handler still links requests into.
+     */
+    public static final int MAX_REQUEST_CHAIN_DEPTH = 64;
+
     /**
      * Each x blocks walked an action will be triggered to decrease saturation.
      */
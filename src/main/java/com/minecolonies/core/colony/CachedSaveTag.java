@@ -0,0 +1,48 @@
+package com.minecolonies.core.colony;
+
+import net.minecraft.nbt.CompoundTag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * The saved tag of a part of the colony, reused by colony saves while the part did not change. Only for parts which report every change through {@link #markChanged()},
+ * a change which is not reported is never saved.
+ */
+public class CachedSaveTag
+{
+    /**
+     * The cached tag, never modified once built.
+     */
+    private CompoundTag tag;
+
+    /**
+     * Whether the part changed since the tag was built.
+     */
+    private boolean changed = true;
+
+    /**
+     * Marks the part as changed, the tag is rebuilt on the next save.
+     */
+    public void markChanged()
+    {
+        changed = true;
+    }
+
+    /**
+     * Get the saved tag, rebuilding it if the part changed.
+     *
+     * @param writer writes a new tag of the part.
+     * @return the tag, which must not be modified.
+     */
+    @NotNull
+    public CompoundTag get(@NotNull final Supplier<CompoundTag> writer)
+    {
+        if (tag == null || changed)
+        {
+            tag = writer.get();
+            changed = false;
+        }
+        return tag;
+    }
+}
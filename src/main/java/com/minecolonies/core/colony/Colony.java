@@ -35,6 +35,7 @@ import com.minecolonies.core.colony.buildings.modules.SettingsModule;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.core.colony.events.raid.RaidManager;
 import com.minecolonies.core.colony.managers.*;
+import com.minecolonies.core.colony.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.core.colony.permissions.ColonyPermissionEventHandler;
 import com.minecolonies.core.colony.permissions.Permissions;
 import com.minecolonies.core.colony.pvp.AttackingPlayer;
@@ -65,7 +66,6 @@ import net.minecraft.world.level.block.entity.BannerPatterns;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.scores.PlayerTeam;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.NotNull;
@@ -188,6 +188,11 @@ public class Colony implements IColony
      */
     private final IStatisticsManager statisticManager = new StatisticsManager();
 
+    /**
+     * The items held in the racks of the buildings of the colony.
+     */
+    private final ColonyItemAvailability itemAvailability = new ColonyItemAvailability(this);
+
     /**
      * Quest manager for this colony
      */
@@ -375,18 +380,19 @@ public class Colony implements IColony
             Log.getLogger().warn("Exception triggered in colony:"+getID()+" in dimension:"+getDimension().location(), e);
             colonyStateMachine.setCurrentDelay(20 * 60 * 5);
         });
+        colonyStateMachine.setProfilingContext(id, "colony");
 
-        colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, citizenManager::tickCitizenData, () -> ACTIVE, TICKS_SECOND * 3));
+        colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL, "updateState"));
+        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL, "updateState"));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL, "updateState"));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, citizenManager::tickCitizenData, () -> ACTIVE, TICKS_SECOND * 3, "tickCitizenData"));
 
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL, "updateSubscribers"));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL, "tickRequests"));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL, "checkDayTime"));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY, "updateWayPoints"));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE, "worldTickSlow"));
+        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE, "worldTickUnloaded"));
     }
 
     /**
@@ -858,7 +864,7 @@ public class Colony implements IColony
     }
 
     /**
-     * Write colony to save data.
+     * Write colony to save data. The written compound is kept as the colony tag and handed to the colony IO thread, so it must not be modified afterwards.
      *
      * @param compound compound to write to.
      */
@@ -999,8 +1005,8 @@ public class Colony implements IColony
             {
                 eventHandler = new ColonyPermissionEventHandler(this);
                 questManager.onWorldLoad();
-                MinecraftForge.EVENT_BUS.register(eventHandler);
             }
+            ColonyPermissionEventDispatcher.register(dimensionId, id, eventHandler);
             setColonyColor(this.colonyTeamColor);
         }
     }
@@ -1022,10 +1028,7 @@ public class Colony implements IColony
             return;
         }
 
-        if (eventHandler != null)
-        {
-            MinecraftForge.EVENT_BUS.unregister(eventHandler);
-        }
+        ColonyPermissionEventDispatcher.unregister(dimensionId, id);
         world = null;
     }
 
@@ -1596,6 +1599,16 @@ public class Colony implements IColony
         return packageManager;
     }
 
+    /**
+     * Get the items held in the racks of the buildings of the colony.
+     *
+     * @return the item availability.
+     */
+    public ColonyItemAvailability getItemAvailability()
+    {
+        return itemAvailability;
+    }
+
     /**
      * Get all visiting players.
      *
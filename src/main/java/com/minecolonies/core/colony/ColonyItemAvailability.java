@@ -0,0 +1,120 @@
+package com.minecolonies.core.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.core.colony.buildings.BuildingInventoryIndex;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Colony wide view of the items held in the racks of all buildings, warehouses included. The {@link BuildingInventoryIndex} of every building forwards its content changes,
+ * so queries like the warehouse request resolvers' availability checks neither iterate the buildings nor their item handlers. Racks which were not attached yet are picked up at
+ * most once per game tick.
+ */
+public class ColonyItemAvailability
+{
+    /**
+     * The colony of the availability.
+     */
+    private final IColony colony;
+
+    /**
+     * The aggregated counts by building position.
+     */
+    private final ItemCountIndex counts = new ItemCountIndex();
+
+    /**
+     * Building indexes with racks which are not attached yet.
+     */
+    private final Set<BuildingInventoryIndex> stale = new LinkedHashSet<>();
+
+    /**
+     * Game time the stale indexes were last refreshed at.
+     */
+    private long lastRefresh = -1;
+
+    /**
+     * Creates the availability of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyItemAvailability(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Called by a building index when the content of one of its racks changed.
+     *
+     * @param building the building position.
+     * @param key      the exact item key.
+     * @param delta    the changed amount.
+     */
+    public void onContentChanged(@NotNull final BlockPos building, @NotNull final ItemStorage key, final int delta)
+    {
+        counts.apply(key, building, delta);
+    }
+
+    /**
+     * Marks a building index as having racks to attach.
+     *
+     * @param index the building index.
+     */
+    public void markStale(@NotNull final BuildingInventoryIndex index)
+    {
+        stale.add(index);
+    }
+
+    /**
+     * Removes a building index, called when its building is removed.
+     *
+     * @param index the building index.
+     */
+    public void remove(@NotNull final BuildingInventoryIndex index)
+    {
+        stale.remove(index);
+    }
+
+    /**
+     * Attaches the racks which got loaded since the last refresh, at most once per game tick.
+     */
+    private void refresh()
+    {
+        final Level level = colony.getWorld();
+        if (stale.isEmpty() || level == null || level.getGameTime() == lastRefresh)
+        {
+            return;
+        }
+
+        lastRefresh = level.getGameTime();
+        for (final BuildingInventoryIndex index : stale.toArray(new BuildingInventoryIndex[0]))
+        {
+            index.refresh();
+            if (!index.needsRefresh())
+            {
+                stale.remove(index);
+            }
+        }
+    }
+
+    /**
+     * Count the items matching a predicate in each of the given buildings.
+     *
+     * @param predicate the predicate.
+     * @param buildings the building positions.
+     * @return the count per building position, buildings without matching items are left out.
+     */
+    public Object2IntMap<BlockPos> getCounts(@NotNull final Predicate<ItemStack> predicate, @NotNull final Collection<BlockPos> buildings)
+    {
+        refresh();
+        return counts.getCounts(predicate, buildings);
+    }
+}
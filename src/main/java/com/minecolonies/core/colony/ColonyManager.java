@@ -11,6 +11,7 @@ import com.minecolonies.api.colony.permissions.ColonyPlayer;
 import com.minecolonies.api.compatibility.CompatibilityManager;
 import com.minecolonies.api.compatibility.ICompatibilityManager;
 import com.minecolonies.api.crafting.IRecipeManager;
+import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.sounds.SoundManager;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ColonyUtils;
@@ -19,6 +20,7 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.Network;
 import com.minecolonies.core.client.gui.WindowReactivateBuilding;
+import com.minecolonies.core.colony.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.core.colony.requestsystem.management.manager.StandardRecipeManager;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewRemoveMessage;
 import com.minecolonies.core.util.BackUpHelper;
@@ -183,14 +185,7 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
-            {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
+            ColonyPermissionEventDispatcher.unregister(colony.getDimension(), colony.getID());
 
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
@@ -611,17 +606,7 @@ public final class ColonyManager implements IColonyManager
     {
         if (event.phase == TickEvent.Phase.END)
         {
-            for (final IColony colony : getColonies(event.level))
-            {
-                try
-                {
-                    colony.onWorldTick(event);
-                }
-                catch (final Exception ex)
-                {
-                    Log.getLogger().error("Something went wrong ticking colony: " + colony.getID(), ex);
-                }
-            }
+            ColonyTickScheduler.tickColonies(event, getColonies(event.level));
         }
     }
 
@@ -711,7 +696,11 @@ public final class ColonyManager implements IColonyManager
                 colonyViews.put(dim, list);
             }
         }
-        view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        final IMessage response = view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        if (response != null)
+        {
+            Network.getNetwork().sendToServer(response);
+        }
 
         try
         {
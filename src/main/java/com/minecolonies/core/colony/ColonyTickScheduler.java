@@ -0,0 +1,209 @@
+package com.minecolonies.core.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.core.MineColonies;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.TickEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shares a fixed time budget per server tick between all colony statemachines and worker AIs. Colonies are ticked round-robin per level and work that does not fit into the
+ * budget is deferred to the following ticks, instead of slowing down every colony alike. Colonies with close subscribers are always ticked. Worker AIs run during entity
+ * ticking before the colonies, so a share of the budget is reserved for the colony statemachines which the worker AIs can't use up.
+ */
+public final class ColonyTickScheduler
+{
+    /**
+     * Ticks a worker AI may be deferred before it is ticked regardless of the budget.
+     */
+    public static final int MAX_DEFERRED_TICKS = 10;
+
+    /**
+     * Percentage of the budget reserved for the colony statemachines.
+     */
+    private static final int COLONY_BUDGET_PERCENT = 40;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final long NANOS_PER_MS = 1_000_000L;
+
+    /**
+     * Budget of the current server tick, and the time spent on worker AIs and colony statemachines.
+     */
+    private static long budgetNanos      = Long.MAX_VALUE;
+    private static long workerSpentNanos = 0;
+    private static long colonySpentNanos = 0;
+
+    /**
+     * Index of the next colony to tick, per level.
+     */
+    private static final Map<ResourceKey<Level>, Integer> colonyCursors = new HashMap<>();
+
+    private ColonyTickScheduler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Resets the budget at the start of a server tick.
+     */
+    public static void startTick()
+    {
+        budgetNanos = MineColonies.getConfig().getServer().colonyTickBudget.get() * NANOS_PER_MS;
+        workerSpentNanos = 0;
+        colonySpentNanos = 0;
+    }
+
+    /**
+     * Whether there is budget left for worker AIs in the current server tick, leaving the colony share untouched.
+     *
+     * @return true if so.
+     */
+    public static boolean hasWorkerBudget()
+    {
+        return workerSpentNanos < budgetNanos - getColonyReserve();
+    }
+
+    /**
+     * Whether there is budget left for colony statemachines in the current server tick: their reserved share, or what the worker AIs left of the budget if that is more.
+     *
+     * @return true if so.
+     */
+    public static boolean hasColonyBudget()
+    {
+        return colonySpentNanos < Math.max(getColonyReserve(), budgetNanos - workerSpentNanos);
+    }
+
+    /**
+     * Adds time spent on worker AIs to the current server tick.
+     *
+     * @param nanos the time spent.
+     */
+    public static void consume(final long nanos)
+    {
+        workerSpentNanos += nanos;
+    }
+
+    /**
+     * Get the share of the budget reserved for the colony statemachines.
+     *
+     * @return the reserved nanoseconds.
+     */
+    private static long getColonyReserve()
+    {
+        return budgetNanos / 100 * COLONY_BUDGET_PERCENT;
+    }
+
+    /**
+     * Whether the colony has players close by, those colonies are never deferred.
+     *
+     * @param colony the colony.
+     * @return true if so.
+     */
+    public static boolean isPriority(@NotNull final IColony colony)
+    {
+        return !colony.getPackageManager().getCloseSubscribers().isEmpty();
+    }
+
+    /**
+     * Whether a worker AI should be ticked this server tick.
+     *
+     * @param colony        the colony of the worker.
+     * @param deferredTicks the ticks the AI was deferred in a row.
+     * @return true if it should run.
+     */
+    public static boolean shouldTickWorker(@NotNull final IColony colony, final int deferredTicks)
+    {
+        return hasWorkerBudget() || deferredTicks >= MAX_DEFERRED_TICKS || isPriority(colony);
+    }
+
+    /**
+     * Ticks the colonies of a level, colonies with close subscribers first, then the others round-robin until the budget is spent. At least one colony progresses each tick.
+     *
+     * @param event    the level tick event.
+     * @param colonies the colonies of the level.
+     */
+    public static void tickColonies(@NotNull final TickEvent.LevelTickEvent event, @NotNull final List<IColony> colonies)
+    {
+        final int size = colonies.size();
+        if (size == 0)
+        {
+            return;
+        }
+
+        final boolean[] priority = new boolean[size];
+        for (int i = 0; i < size; i++)
+        {
+            final IColony colony = colonies.get(i);
+            if (isPriority(colony))
+            {
+                priority[i] = true;
+                tickColony(event, colony);
+            }
+        }
+
+        final ResourceKey<Level> dimension = event.level.dimension();
+        final int start = colonyCursors.getOrDefault(dimension, 0) % size;
+        int next = start;
+        boolean ticked = false;
+        for (int i = 0; i < size; i++)
+        {
+            final int index = (start + i) % size;
+            if (priority[index])
+            {
+                continue;
+            }
+
+            if (ticked && !hasColonyBudget())
+            {
+                break;
+            }
+
+            tickColony(event, colonies.get(index));
+            ticked = true;
+            next = index + 1;
+        }
+
+        colonyCursors.put(dimension, next % size);
+    }
+
+    /**
+     * Ticks a single colony and accounts its time.
+     *
+     * @param event  the level tick event.
+     * @param colony the colony.
+     */
+    private static void tickColony(final TickEvent.LevelTickEvent event, final IColony colony)
+    {
+        final long start = System.nanoTime();
+        try
+        {
+            colony.onWorldTick(event);
+        }
+        catch (final Exception ex)
+        {
+            Log.getLogger().error("Something went wrong ticking colony: " + colony.getID(), ex);
+        }
+        colonySpentNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Clears the scheduler state on server stop.
+     */
+    public static void clear()
+    {
+        colonyCursors.clear();
+        budgetNanos = Long.MAX_VALUE;
+        workerSpentNanos = 0;
+        colonySpentNanos = 0;
+    }
+}
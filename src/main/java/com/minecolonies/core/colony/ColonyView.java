@@ -37,6 +37,7 @@ import com.minecolonies.core.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.core.datalistener.CitizenNameListener;
 import com.minecolonies.core.network.messages.PermissionsMessage;
 import com.minecolonies.core.network.messages.server.colony.ColonyFlagChangeMessage;
+import com.minecolonies.core.network.messages.server.colony.ColonyViewResyncMessage;
 import com.minecolonies.core.network.messages.server.colony.TownHallRenameMessage;
 import com.minecolonies.core.quests.QuestManager;
 import net.minecraft.ChatFormatting;
@@ -78,6 +79,28 @@ public final class ColonyView implements IColonyView
      */
     private static final int REQUEST_MANAGER_MAX_SIZE = 700000;
 
+    /**
+     * Sections of the view network data, used as bit index in the section mask of a view message.
+     */
+    public static final int SECTION_GENERAL     = 0;
+    public static final int SECTION_FREE_BLOCKS = 1;
+    public static final int SECTION_WAYPOINTS   = 2;
+    public static final int SECTION_NAME_FILES  = 3;
+    public static final int SECTION_REQUESTS    = 4;
+    public static final int SECTION_RAID_SPAWNS = 5;
+    public static final int SECTION_FLAG        = 6;
+    public static final int SECTION_DIPLOMACY   = 7;
+    public static final int SECTION_TICKETS     = 8;
+    public static final int SECTION_GRAVES      = 9;
+    public static final int SECTION_STATISTICS  = 10;
+    public static final int SECTION_QUESTS      = 11;
+    public static final int SECTION_COUNT       = 12;
+
+    /**
+     * Section mask of a full snapshot.
+     */
+    public static final int ALL_SECTIONS = (1 << SECTION_COUNT) - 1;
+
     //  General Attributes
     private final int                            id;
     private final Map<Integer, IWorkOrderView>   workOrders  = new HashMap<>();
@@ -246,6 +269,11 @@ public final class ColonyView implements IColonyView
      */
     private int day;
 
+    /**
+     * Sequence number of the last applied view message, -1 before the first full snapshot.
+     */
+    private int viewSequence = -1;
+
     /**
      * Base constructor for a colony.
      *
@@ -271,91 +299,124 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Writes one section of the network data of a colony. The view data is split into sections, which are only sent again once their content changed.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link FriendlyByteBuf} to write data in.
-     * @param hasNewSubscribers true if there is a new subscription.
-     */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull FriendlyByteBuf buf, boolean hasNewSubscribers)
-    {
-        //  General Attributes
-        buf.writeUtf(colony.getName());
-        buf.writeUtf(colony.getDimension().location().toString());
-        buf.writeBlockPos(colony.getCenter());
-        //  Citizenry
-        buf.writeInt(colony.getCitizenManager().getMaxCitizens());
-        buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
-
-        final Set<Block> freeBlocks = colony.getFreeBlocks();
-        final Set<BlockPos> freePos = colony.getFreePositions();
-        final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
-
-        buf.writeInt(freeBlocks.size());
-        for (final Block block : freeBlocks)
-        {
-            buf.writeUtf(ForgeRegistries.BLOCKS.getKey(block).toString());
-        }
-
-        buf.writeInt(freePos.size());
-        for (final BlockPos block : freePos)
-        {
-            buf.writeBlockPos(block);
-        }
-        buf.writeDouble(colony.getOverallHappiness());
-        buf.writeBoolean(colony.hasWarehouse());
-
-        buf.writeInt(waypoints.size());
-        for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
-        {
-            buf.writeBlockPos(block.getKey());
-            buf.writeInt(Block.getId(block.getValue()));
-        }
-
-        buf.writeInt(colony.getLastContactInHours());
-        buf.writeUtf(colony.getTextureStyleId());
-
-        buf.writeUtf(colony.getNameStyle());
-        buf.writeInt(CitizenNameListener.nameFileMap.size());
-        for (final String nameFileIndex : CitizenNameListener.nameFileMap.keySet())
-        {
-            buf.writeUtf(nameFileIndex);
-        }
-        //  Citizens are sent as a separate packet
-
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
+     * @param colony   Colony to write data about.
+     * @param section  the section to write, one of the SECTION constants.
+     * @param buf      {@link FriendlyByteBuf} to write data in.
+     * @param fullSync true if the section is part of a full snapshot.
+     */
+    public static void serializeSection(@NotNull final Colony colony, final int section, @NotNull final FriendlyByteBuf buf, final boolean fullSync)
+    {
+        switch (section)
         {
-            final int preSize = buf.writerIndex();
-            buf.writeBoolean(true);
-            colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
+            case SECTION_GENERAL ->
             {
-                Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
+                buf.writeUtf(colony.getName());
+                buf.writeUtf(colony.getDimension().location().toString());
+                buf.writeBlockPos(colony.getCenter());
+                //  Citizenry
+                buf.writeInt(colony.getCitizenManager().getMaxCitizens());
+                buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
+                buf.writeDouble(colony.getOverallHappiness());
+                buf.writeBoolean(colony.hasWarehouse());
+                buf.writeInt(colony.getLastContactInHours());
+                buf.writeUtf(colony.getTextureStyleId());
+                buf.writeUtf(colony.getNameStyle());
+                buf.writeInt(colony.getTeamColonyColor().ordinal());
+                buf.writeLong(colony.getMercenaryUseTime());
+                buf.writeUtf(colony.getStructurePack());
+                buf.writeBoolean(colony.getRaiderManager().isRaided());
+                buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+                buf.writeInt(colony.getDay());
             }
-        }
-        else
-        {
-            buf.writeBoolean(false);
-        }
+            case SECTION_FREE_BLOCKS ->
+            {
+                final Set<Block> freeBlocks = colony.getFreeBlocks();
+                buf.writeInt(freeBlocks.size());
+                for (final Block block : freeBlocks)
+                {
+                    buf.writeUtf(ForgeRegistries.BLOCKS.getKey(block).toString());
+                }
 
-        buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
-        for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
-        {
-            buf.writeBlockPos(block);
+                final Set<BlockPos> freePos = colony.getFreePositions();
+                buf.writeInt(freePos.size());
+                for (final BlockPos block : freePos)
+                {
+                    buf.writeBlockPos(block);
+                }
+            }
+            case SECTION_WAYPOINTS ->
+            {
+                final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
+                buf.writeInt(waypoints.size());
+                for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
+                {
+                    buf.writeBlockPos(block.getKey());
+                    buf.writeInt(Block.getId(block.getValue()));
+                }
+            }
+            case SECTION_NAME_FILES ->
+            {
+                buf.writeInt(CitizenNameListener.nameFileMap.size());
+                for (final String nameFileIndex : CitizenNameListener.nameFileMap.keySet())
+                {
+                    buf.writeUtf(nameFileIndex);
+                }
+            }
+            case SECTION_REQUESTS ->
+            {
+                final int preSize = buf.writerIndex();
+                colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
+                final int postSize = buf.writerIndex();
+                if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
+                {
+                    Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
+                }
+            }
+            case SECTION_RAID_SPAWNS ->
+            {
+                buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
+                for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
+                {
+                    buf.writeBlockPos(block);
+                }
+            }
+            case SECTION_FLAG ->
+            {
+                final CompoundTag flagNBT = new CompoundTag();
+                flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
+                buf.writeNbt(flagNBT);
+            }
+            case SECTION_DIPLOMACY -> serializeDiplomacy(colony, buf);
+            case SECTION_TICKETS ->
+            {
+                buf.writeInt(colony.getTicketedChunks().size());
+                for (final long pos : colony.getTicketedChunks())
+                {
+                    buf.writeLong(pos);
+                }
+            }
+            case SECTION_GRAVES ->
+            {
+                final CompoundTag graveTag = new CompoundTag();
+                colony.getGraveManager().write(graveTag);
+                buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
+            }
+            case SECTION_STATISTICS -> colony.getStatisticsManager().serialize(buf, fullSync);
+            case SECTION_QUESTS -> buf.writeNbt(colony.getQuestManager().serializeNBT());
+            default -> throw new IllegalArgumentException("Unknown colony view section: " + section);
         }
+    }
 
-        buf.writeInt(colony.getTeamColonyColor().ordinal());
-
-        CompoundTag flagNBT = new CompoundTag();
-        flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
-        buf.writeNbt(flagNBT);
-
-        buf.writeLong(colony.getMercenaryUseTime());
-
-        buf.writeUtf(colony.getStructurePack());
-        buf.writeBoolean(colony.getRaiderManager().isRaided());
-        buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+    /**
+     * Writes the allies and feuds of a colony.
+     *
+     * @param colony Colony to write data about.
+     * @param buf    {@link FriendlyByteBuf} to write data in.
+     */
+    private static void serializeDiplomacy(@NotNull final Colony colony, @NotNull final FriendlyByteBuf buf)
+    {
         // ToDo: rework ally system
         final List<IColony> allies = new ArrayList<>();
         for (final ColonyPlayer player : colony.getPermissions().getFilteredPlayers(Rank::isColonyManager))
@@ -407,26 +468,6 @@ public final class ColonyView implements IColonyView
             buf.writeInt(col.getID());
             buf.writeUtf(col.getDimension().location().toString());
         }
-
-        if (hasNewSubscribers || colony.isTicketedChunksDirty())
-        {
-            buf.writeInt(colony.getTicketedChunks().size());
-            for (final long pos : colony.getTicketedChunks())
-            {
-                buf.writeLong(pos);
-            }
-        }
-        else
-        {
-            buf.writeInt(-1);
-        }
-
-        final CompoundTag graveTag = new CompoundTag();
-        colony.getGraveManager().write(graveTag);
-        buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
-        colony.getStatisticsManager().serialize(buf, hasNewSubscribers);
-        buf.writeNbt(colony.getQuestManager().serializeNBT());
-        buf.writeInt(colony.getDay());
     }
 
     /**
@@ -755,7 +796,8 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate a ColonyView from the network data.
+     * Populate a ColonyView from the network data. A full snapshot replaces the view, a delta only contains the changed sections and is applied in place. A delta which does not
+     * follow the last applied message is dropped, and a full snapshot is requested instead.
      *
      * @param buf               {@link FriendlyByteBuf} to read from.
      * @param isNewSubscription Whether this is a new subscription of not.
@@ -766,13 +808,14 @@ public final class ColonyView implements IColonyView
     public IMessage handleColonyViewMessage(@NotNull final FriendlyByteBuf buf, @NotNull final Level world, final boolean isNewSubscription)
     {
         this.world = world;
-        //  General Attributes
-        name = buf.readUtf(32767);
-        dimensionId = ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)));
-        center = buf.readBlockPos();
-        //  Citizenry
-        citizenCount = buf.readInt();
-        citizenCountWithEmptyGuardTowers = buf.readInt();
+        final int sequence = buf.readInt();
+        final int sections = buf.readInt();
+        if (!isNewSubscription && (viewSequence == -1 || sequence != viewSequence + 1))
+        {
+            Log.getLogger().debug("Colony view " + id + " missed an update, requesting a full snapshot");
+            return dimensionId == null ? null : new ColonyViewResyncMessage(dimensionId, id);
+        }
+        viewSequence = sequence;
 
         if (isNewSubscription)
         {
@@ -781,113 +824,149 @@ public final class ColonyView implements IColonyView
             buildings.clear();
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
-        nameFileIds.clear();
-
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
-        {
-            freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
-        }
-
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
+        for (int section = 0; section < SECTION_COUNT; section++)
         {
-            freePositions.add(buf.readBlockPos());
-        }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
-
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
-        {
-            wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
-        }
-        this.lastContactInHours = buf.readInt();
-        this.textureStyle = buf.readUtf(32767);
-
-        this.nameStyle = buf.readUtf(32767);
-        final int nameFileIdSize = buf.readInt();
-        for (int i = 0; i < nameFileIdSize; i++)
-        {
-            nameFileIds.add(buf.readUtf(32767));
-        }
-
-        if (buf.readBoolean())
-        {
-            if (this.requestManager == null)
+            if ((sections & (1 << section)) != 0)
             {
-                this.requestManager = new StandardRequestManager(this);
+                deserializeSection(section, buf, isNewSubscription);
             }
-            this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
         }
+        return null;
+    }
 
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
-        {
-            lastSpawnPoints.add(buf.readBlockPos());
-        }
-        Collections.reverse(lastSpawnPoints);
-
-        this.teamColonyColor = ChatFormatting.values()[buf.readInt()];
-        this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
-
-        this.mercenaryLastUseTime = buf.readLong();
-
-        this.style = buf.readUtf(32767);
-        if (isNewSubscription
-              && StructurePacks.hasPack(this.style)
-              && RenderingCache.getOrCreateBlueprintPreviewData("blueprint").getBlueprint() == null
-              && this.isCoordInColony(world, Minecraft.getInstance().player.blockPosition())
-        )
+    /**
+     * Reads one section of the view network data.
+     *
+     * @param section           the section to read, one of the SECTION constants.
+     * @param buf               {@link FriendlyByteBuf} to read from.
+     * @param isNewSubscription Whether this is a new subscription of not.
+     */
+    private void deserializeSection(final int section, @NotNull final FriendlyByteBuf buf, final boolean isNewSubscription)
+    {
+        switch (section)
         {
-            StructurePacks.selectedPack = StructurePacks.getStructurePack(this.style);
-        }
-
-        this.isUnderRaid = buf.readBoolean();
-        this.spiesEnabled = buf.readBoolean();
+            case SECTION_GENERAL ->
+            {
+                name = buf.readUtf(32767);
+                dimensionId = ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)));
+                center = buf.readBlockPos();
+                //  Citizenry
+                citizenCount = buf.readInt();
+                citizenCountWithEmptyGuardTowers = buf.readInt();
+                this.overallHappiness = buf.readDouble();
+                this.hasColonyWarehouse = buf.readBoolean();
+                this.lastContactInHours = buf.readInt();
+                this.textureStyle = buf.readUtf(32767);
+                this.nameStyle = buf.readUtf(32767);
+                this.teamColonyColor = ChatFormatting.values()[buf.readInt()];
+                this.mercenaryLastUseTime = buf.readLong();
+
+                this.style = buf.readUtf(32767);
+                if (isNewSubscription
+                      && StructurePacks.hasPack(this.style)
+                      && RenderingCache.getOrCreateBlueprintPreviewData("blueprint").getBlueprint() == null
+                      && this.isCoordInColony(world, Minecraft.getInstance().player.blockPosition())
+                )
+                {
+                    StructurePacks.selectedPack = StructurePacks.getStructurePack(this.style);
+                }
 
-        this.allies = new ArrayList<>();
-        this.feuds = new ArrayList<>();
+                this.isUnderRaid = buf.readBoolean();
+                this.spiesEnabled = buf.readBoolean();
+                this.day = buf.readInt();
+            }
+            case SECTION_FREE_BLOCKS ->
+            {
+                freeBlocks.clear();
+                final int blockListSize = buf.readInt();
+                for (int i = 0; i < blockListSize; i++)
+                {
+                    freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
+                }
 
-        final int noOfAllies = buf.readInt();
-        for (int i = 0; i < noOfAllies; i++)
-        {
-            allies.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              buf.readBoolean(),
-              ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)))));
-        }
+                freePositions.clear();
+                final int posListSize = buf.readInt();
+                for (int i = 0; i < posListSize; i++)
+                {
+                    freePositions.add(buf.readBlockPos());
+                }
+            }
+            case SECTION_WAYPOINTS ->
+            {
+                wayPoints.clear();
+                final int wayPointListSize = buf.readInt();
+                for (int i = 0; i < wayPointListSize; i++)
+                {
+                    wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
+                }
+            }
+            case SECTION_NAME_FILES ->
+            {
+                nameFileIds.clear();
+                final int nameFileIdSize = buf.readInt();
+                for (int i = 0; i < nameFileIdSize; i++)
+                {
+                    nameFileIds.add(buf.readUtf(32767));
+                }
+            }
+            case SECTION_REQUESTS ->
+            {
+                if (this.requestManager == null)
+                {
+                    this.requestManager = new StandardRequestManager(this);
+                }
+                this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+            }
+            case SECTION_RAID_SPAWNS ->
+            {
+                lastSpawnPoints.clear();
+                final int barbSpawnListSize = buf.readInt();
+                for (int i = 0; i < barbSpawnListSize; i++)
+                {
+                    lastSpawnPoints.add(buf.readBlockPos());
+                }
+                Collections.reverse(lastSpawnPoints);
+            }
+            case SECTION_FLAG -> this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
+            case SECTION_DIPLOMACY ->
+            {
+                this.allies = new ArrayList<>();
+                this.feuds = new ArrayList<>();
 
-        final int noOfFeuds = buf.readInt();
-        for (int i = 0; i < noOfFeuds; i++)
-        {
-            feuds.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              false,
-              ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)))));
-        }
+                final int noOfAllies = buf.readInt();
+                for (int i = 0; i < noOfAllies; i++)
+                {
+                    allies.add(new CompactColonyReference(buf.readUtf(32767),
+                      buf.readBlockPos(),
+                      buf.readInt(),
+                      buf.readBoolean(),
+                      ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)))));
+                }
 
-        final int ticketChunkCount = buf.readInt();
-        if (ticketChunkCount != -1)
-        {
-            ticketedChunks = new HashSet<>(ticketChunkCount);
-            for (int i = 0; i < ticketChunkCount; i++)
+                final int noOfFeuds = buf.readInt();
+                for (int i = 0; i < noOfFeuds; i++)
+                {
+                    feuds.add(new CompactColonyReference(buf.readUtf(32767),
+                      buf.readBlockPos(),
+                      buf.readInt(),
+                      false,
+                      ResourceKey.create(Registries.DIMENSION, new ResourceLocation(buf.readUtf(32767)))));
+                }
+            }
+            case SECTION_TICKETS ->
             {
-                ticketedChunks.add(buf.readLong());
+                final int ticketChunkCount = buf.readInt();
+                ticketedChunks = new HashSet<>(ticketChunkCount);
+                for (int i = 0; i < ticketChunkCount; i++)
+                {
+                    ticketedChunks.add(buf.readLong());
+                }
             }
+            case SECTION_GRAVES -> this.graveManager.read(buf.readNbt());
+            case SECTION_STATISTICS -> this.statisticManager.deserialize(buf);
+            case SECTION_QUESTS -> this.questManager.deserializeNBT(buf.readNbt());
+            default -> throw new IllegalArgumentException("Unknown colony view section: " + section);
         }
-
-        this.graveManager.read(buf.readNbt());
-        this.statisticManager.deserialize(buf);
-        this.questManager.deserializeNBT(buf.readNbt());
-        this.day = buf.readInt();
-        return null;
     }
 
     /**
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.core.util.BackUpHelper;
+import com.minecolonies.core.util.ColonyPersistence;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -134,7 +135,9 @@ public interface IColonyManagerCapability
             {
                 try
                 {
+                    final long start = System.nanoTime();
                     colonies.add(colony.getColonyTag());
+                    ColonyPersistence.reportSaveTime(colony.getID(), start);
                 }
                 catch (Exception e)
                 {
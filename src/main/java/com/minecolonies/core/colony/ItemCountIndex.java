@@ -0,0 +1,233 @@
+package com.minecolonies.core.colony;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.Tuple;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Item counts by exact item key and position, with the total per key. Keys are grouped by item, so lookups which ignore damage or nbt only compare the keys of the same item.
+ */
+public class ItemCountIndex
+{
+    /**
+     * The entries by exact item key, and grouped by item.
+     */
+    private final Map<ItemStorage, Entry> entries = new HashMap<>();
+    private final Map<Item, List<Entry>>  byItem  = new HashMap<>();
+
+    /**
+     * Adds an amount of an item at a position.
+     *
+     * @param key   the exact item key.
+     * @param pos   the position.
+     * @param delta the amount to add, negative to remove.
+     */
+    public void apply(@NotNull final ItemStorage key, @NotNull final BlockPos pos, final int delta)
+    {
+        Entry entry = entries.get(key);
+        if (entry == null)
+        {
+            if (delta <= 0)
+            {
+                return;
+            }
+            entry = new Entry(key);
+            entries.put(key, entry);
+            byItem.computeIfAbsent(key.getItem(), item -> new ArrayList<>()).add(entry);
+        }
+
+        entry.total += delta;
+        final int amount = entry.positions.getInt(pos) + delta;
+        if (amount <= 0)
+        {
+            entry.positions.removeInt(pos);
+        }
+        else
+        {
+            entry.positions.put(pos, amount);
+        }
+
+        if (entry.positions.isEmpty())
+        {
+            entries.remove(key);
+            final List<Entry> itemEntries = byItem.get(key.getItem());
+            itemEntries.remove(entry);
+            if (itemEntries.isEmpty())
+            {
+                byItem.remove(key.getItem());
+            }
+        }
+    }
+
+    /**
+     * Removes everything.
+     */
+    public void clear()
+    {
+        entries.clear();
+        byItem.clear();
+    }
+
+    /**
+     * Count the items matching an item storage, respecting its damage and nbt flags.
+     *
+     * @param storage the item storage.
+     * @return the total count.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        final List<Entry> itemEntries = byItem.get(storage.getItem());
+        if (itemEntries == null)
+        {
+            return 0;
+        }
+
+        int count = 0;
+        for (final Entry entry : itemEntries)
+        {
+            if (entry.key.equals(storage))
+            {
+                count += entry.total;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @param limit     the count to stop counting at.
+     * @return the total count, or at least the limit.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate, final int limit)
+    {
+        int count = 0;
+        for (final Entry entry : entries.values())
+        {
+            if (predicate.test(entry.key.getItemStack()))
+            {
+                count += entry.total;
+                if (count >= limit)
+                {
+                    return count;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the amounts per position of the items matching an item storage.
+     *
+     * @param storage the item storage, respecting its damage and nbt flags.
+     * @return the amount per position.
+     */
+    public Object2IntMap<BlockPos> getPositions(@NotNull final ItemStorage storage)
+    {
+        final List<Entry> itemEntries = byItem.get(storage.getItem());
+        if (itemEntries == null)
+        {
+            return Object2IntMaps.emptyMap();
+        }
+
+        final Object2IntMap<BlockPos> positions = new Object2IntLinkedOpenHashMap<>();
+        for (final Entry entry : itemEntries)
+        {
+            if (entry.key.equals(storage))
+            {
+                for (final Object2IntMap.Entry<BlockPos> position : entry.positions.object2IntEntrySet())
+                {
+                    positions.mergeInt(position.getKey(), position.getIntValue(), Integer::sum);
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Count the items matching a predicate at each of the given positions.
+     *
+     * @param predicate the predicate.
+     * @param positions the positions to count at.
+     * @return the count per position, positions without matching items are left out.
+     */
+    public Object2IntMap<BlockPos> getCounts(@NotNull final Predicate<ItemStack> predicate, @NotNull final Collection<BlockPos> positions)
+    {
+        final Object2IntMap<BlockPos> counts = new Object2IntLinkedOpenHashMap<>();
+        for (final Entry entry : entries.values())
+        {
+            if (!predicate.test(entry.key.getItemStack()))
+            {
+                continue;
+            }
+
+            for (final BlockPos pos : positions)
+            {
+                final int amount = entry.positions.getInt(pos);
+                if (amount > 0)
+                {
+                    counts.mergeInt(pos, amount, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Get the stacks matching a predicate with their positions, split into stacks of at most their max stack size.
+     *
+     * @param predicate the predicate.
+     * @return the list of stacks and positions.
+     */
+    public List<Tuple<ItemStack, BlockPos>> getMatchingStacks(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final List<Tuple<ItemStack, BlockPos>> found = new ArrayList<>();
+        for (final Entry entry : entries.values())
+        {
+            final ItemStack keyStack = entry.key.getItemStack();
+            if (!predicate.test(keyStack))
+            {
+                continue;
+            }
+
+            final int maxStackSize = Math.max(1, keyStack.getMaxStackSize());
+            for (final Object2IntMap.Entry<BlockPos> position : entry.positions.object2IntEntrySet())
+            {
+                int remaining = position.getIntValue();
+                while (remaining > 0)
+                {
+                    final ItemStack stack = keyStack.copy();
+                    stack.setCount(Math.min(remaining, maxStackSize));
+                    remaining -= stack.getCount();
+                    found.add(new Tuple<>(stack, position.getKey()));
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The amounts of one exact item key.
+     */
+    private static final class Entry
+    {
+        private final ItemStorage             key;
+        private final Object2IntMap<BlockPos> positions = new Object2IntLinkedOpenHashMap<>();
+        private       int                     total;
+
+        private Entry(final ItemStorage key)
+        {
+            this.key = key;
+        }
+    }
+}
@@ -424,6 +424,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public void onDestroyed()
     {
+        inventoryIndex.clear();
         final AbstractTileEntityColonyBuilding tileEntityNew = this.getTileEntity();
         final Level world = colony.getWorld();
         final Block block = world.getBlockState(this.getPosition()).getBlock();
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
+import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.core.tileentities.TileEntityRack;
 import com.minecolonies.core.blocks.BlockMinecoloniesRack;
@@ -60,6 +61,11 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
      */
     private int unscaledPickUpPriority = 5;
 
+    /**
+     * The aggregated content of the racks of the building.
+     */
+    protected final BuildingInventoryIndex inventoryIndex;
+
     /**
      * The constructor for the building container.
      *
@@ -69,6 +75,7 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     public AbstractBuildingContainer(final BlockPos pos, final IColony colony)
     {
         super(pos, colony);
+        this.inventoryIndex = new BuildingInventoryIndex(this, colony instanceof Colony ? ((Colony) colony).getItemAvailability() : null);
     }
 
     @Override
@@ -82,6 +89,7 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
             final CompoundTag containerCompound = containerTagList.getCompound(i);
             containerList.add(NbtUtils.readBlockPos(containerCompound));
         }
+        inventoryIndex.invalidate();
         if (compound.contains(TAG_PRIO))
         {
             this.unscaledPickUpPriority = compound.getInt(TAG_PRIO);
@@ -127,13 +135,35 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     @Override
     public void addContainerPosition(@NotNull final BlockPos pos)
     {
-        containerList.add(pos);
+        if (containerList.add(pos))
+        {
+            inventoryIndex.invalidate();
+            markDirty();
+        }
     }
 
     @Override
     public void removeContainerPosition(final BlockPos pos)
     {
-        containerList.remove(pos);
+        if (containerList.remove(pos))
+        {
+            inventoryIndex.invalidate();
+            markDirty();
+        }
+    }
+
+    /**
+     * Get the aggregated content of the loaded racks of the building, attaching the racks which got loaded since the last query.
+     *
+     * @return the inventory index.
+     */
+    public BuildingInventoryIndex getInventoryIndex()
+    {
+        if (inventoryIndex.needsRefresh())
+        {
+            inventoryIndex.refresh();
+        }
+        return inventoryIndex;
     }
 
     @Override
@@ -136,6 +136,7 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider, I
     public void setDeconstructed()
     {
         this.isDeconstructed = true;
+        markDirty();
     }
 
     @Override
@@ -260,8 +261,14 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider, I
     @Override
     public void setCorners(final BlockPos pos1, final BlockPos pos2)
     {
-        this.lowerCorner = new BlockPos(Math.min(pos1.getX(), pos2.getX()), Math.min(pos1.getY(), pos2.getY()), Math.min(pos1.getZ(), pos2.getZ()));
-        this.higherCorner = new BlockPos(Math.max(pos1.getX(), pos2.getX()), Math.max(pos1.getY(), pos2.getY()), Math.max(pos1.getZ(), pos2.getZ()));
+        final BlockPos lower = new BlockPos(Math.min(pos1.getX(), pos2.getX()), Math.min(pos1.getY(), pos2.getY()), Math.min(pos1.getZ(), pos2.getZ()));
+        final BlockPos higher = new BlockPos(Math.max(pos1.getX(), pos2.getX()), Math.max(pos1.getY(), pos2.getY()), Math.max(pos1.getZ(), pos2.getZ()));
+        if (!lower.equals(lowerCorner) || !higher.equals(higherCorner))
+        {
+            this.lowerCorner = lower;
+            this.higherCorner = higher;
+            markDirty();
+        }
     }
 
     @Override
@@ -302,9 +309,10 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider, I
     @Override
     public void setParent(final BlockPos pos)
     {
-        if (isParentValid(pos))
+        if (isParentValid(pos) && !pos.equals(parentSchematic))
         {
             parentSchematic = pos;
+            markDirty();
         }
     }
 
@@ -515,7 +523,11 @@ public abstract class AbstractSchematicProvider implements ISchematicProvider, I
     @Override
     public void setIsMirrored(final boolean isMirrored)
     {
-        this.isBuildingMirrored = isMirrored;
+        if (this.isBuildingMirrored != isMirrored)
+        {
+            this.isBuildingMirrored = isMirrored;
+            markDirty();
+        }
     }
 
     @Override
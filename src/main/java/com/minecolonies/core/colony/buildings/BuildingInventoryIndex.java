@@ -0,0 +1,300 @@
+package com.minecolonies.core.colony.buildings;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.Tuple;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.colony.ColonyItemAvailability;
+import com.minecolonies.core.colony.ItemCountIndex;
+import com.minecolonies.core.tileentities.TileEntityRack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Aggregated content of all loaded racks of a building. Racks attached to the index push their content on every change, so queries only touch the matching item keys instead of
+ * every rack. Racks which get unloaded or removed detach themselves and are attached again on the next refresh once they are loaded. Every change is forwarded to the colony
+ * wide {@link ColonyItemAvailability}.
+ */
+public class BuildingInventoryIndex
+{
+    /**
+     * The building the racks belong to.
+     */
+    private final AbstractBuildingContainer building;
+
+    /**
+     * The colony wide availability the changes are forwarded to, if any.
+     */
+    @Nullable
+    private final ColonyItemAvailability availability;
+
+    /**
+     * The last known content of every attached rack.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> rackContents = new HashMap<>();
+
+    /**
+     * The aggregated counts by rack position.
+     */
+    private final ItemCountIndex counts = new ItemCountIndex();
+
+    /**
+     * Container positions which are not attached yet, for example because they are not loaded.
+     */
+    private final Set<BlockPos> pending = new HashSet<>();
+
+    /**
+     * Whether the index has to be rebuilt from the container list.
+     */
+    private boolean invalid = true;
+
+    /**
+     * Creates the index of a building.
+     *
+     * @param building     the building.
+     * @param availability the colony wide availability, if any.
+     */
+    public BuildingInventoryIndex(@NotNull final AbstractBuildingContainer building, @Nullable final ColonyItemAvailability availability)
+    {
+        this.building = building;
+        this.availability = availability;
+        if (availability != null)
+        {
+            availability.markStale(this);
+        }
+    }
+
+    /**
+     * Get the building of the index.
+     *
+     * @return the building.
+     */
+    public AbstractBuildingContainer getBuilding()
+    {
+        return building;
+    }
+
+    /**
+     * Drops the index, it is rebuilt from the container list on the next refresh.
+     */
+    public void invalidate()
+    {
+        invalid = true;
+        if (availability != null)
+        {
+            availability.markStale(this);
+        }
+    }
+
+    /**
+     * Detaches all racks and removes their content, used when the building is removed.
+     */
+    public void clear()
+    {
+        for (final BlockPos pos : new ArrayList<>(rackContents.keySet()))
+        {
+            detach(pos);
+        }
+        pending.clear();
+        invalid = true;
+        if (availability != null)
+        {
+            availability.remove(this);
+        }
+    }
+
+    /**
+     * Whether the index has to be refreshed before a query.
+     *
+     * @return true if there are racks to attach.
+     */
+    public boolean needsRefresh()
+    {
+        return invalid || !pending.isEmpty();
+    }
+
+    /**
+     * Attaches the racks which are not attached yet, rebuilding the index if it was invalidated.
+     */
+    public void refresh()
+    {
+        final Level level = building.getColony().getWorld();
+        if (level == null)
+        {
+            return;
+        }
+
+        if (invalid)
+        {
+            for (final BlockPos pos : new ArrayList<>(rackContents.keySet()))
+            {
+                detach(pos);
+            }
+            pending.clear();
+            pending.addAll(building.getContainers());
+            invalid = false;
+        }
+
+        if (pending.isEmpty())
+        {
+            return;
+        }
+
+        final Iterator<BlockPos> iterator = pending.iterator();
+        while (iterator.hasNext())
+        {
+            final BlockPos pos = iterator.next();
+            if (WorldUtil.isBlockLoaded(level, pos))
+            {
+                final BlockEntity entity = level.getBlockEntity(pos);
+                if (entity instanceof final TileEntityRack rack && !rack.isRemoved())
+                {
+                    iterator.remove();
+                    rackContents.put(pos, new HashMap<>());
+                    rack.setInventoryIndex(this);
+                    onRackContentChanged(pos, rack.getAllContent());
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the difference between the last known and the current content of a rack.
+     *
+     * @param pos     the position of the rack.
+     * @param content the current content.
+     */
+    public void onRackContentChanged(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        final Map<ItemStorage, Integer> previous = rackContents.get(pos);
+        if (previous == null)
+        {
+            return;
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> old : previous.entrySet())
+        {
+            final int amount = content.getOrDefault(old.getKey(), 0);
+            if (amount != old.getValue())
+            {
+                apply(old.getKey(), pos, amount - old.getValue());
+            }
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> current : content.entrySet())
+        {
+            if (!previous.containsKey(current.getKey()))
+            {
+                apply(current.getKey(), pos, current.getValue());
+            }
+        }
+
+        previous.clear();
+        previous.putAll(content);
+    }
+
+    /**
+     * Detaches a rack which got unloaded or removed, it is attached again once it is loaded.
+     *
+     * @param pos the position of the rack.
+     */
+    public void onRackRemoved(@NotNull final BlockPos pos)
+    {
+        if (detach(pos))
+        {
+            pending.add(pos);
+            if (availability != null)
+            {
+                availability.markStale(this);
+            }
+        }
+    }
+
+    /**
+     * Removes the content of a rack from the index.
+     *
+     * @param pos the position of the rack.
+     * @return false if the rack was not attached.
+     */
+    private boolean detach(final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> previous = rackContents.remove(pos);
+        if (previous == null)
+        {
+            return false;
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> old : previous.entrySet())
+        {
+            apply(old.getKey(), pos, -old.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Adds an amount of an item to a rack and forwards it to the colony.
+     *
+     * @param key   the exact item key.
+     * @param pos   the rack position.
+     * @param delta the amount to add, negative to remove.
+     */
+    private void apply(final ItemStorage key, final BlockPos pos, final int delta)
+    {
+        counts.apply(key, pos, delta);
+        if (availability != null)
+        {
+            availability.onContentChanged(building.getPosition(), key, delta);
+        }
+    }
+
+    /**
+     * Count the items matching an item storage, respecting its damage and nbt flags.
+     *
+     * @param storage the item storage.
+     * @return the total count.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        return counts.getCount(storage);
+    }
+
+    /**
+     * Count the items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @param limit     the count to stop counting at.
+     * @return the total count, or at least the limit.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate, final int limit)
+    {
+        return counts.getCount(predicate, limit);
+    }
+
+    /**
+     * Get the positions of the racks holding an item.
+     *
+     * @param storage the item storage, respecting its damage and nbt flags.
+     * @return the rack positions.
+     */
+    public Set<BlockPos> getRackPositions(@NotNull final ItemStorage storage)
+    {
+        return counts.getPositions(storage).keySet();
+    }
+
+    /**
+     * Get the stacks matching a predicate with the racks holding them, split into stacks of at most their max stack size.
+     *
+     * @param predicate the predicate.
+     * @return the list of stacks and positions.
+     */
+    public List<Tuple<ItemStack, BlockPos>> getMatchingStacks(@NotNull final Predicate<ItemStack> predicate)
+    {
+        return counts.getMatchingStacks(predicate);
+    }
+}
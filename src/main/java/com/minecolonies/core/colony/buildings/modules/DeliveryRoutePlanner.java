@@ -0,0 +1,556 @@
+package com.minecolonies.core.colony.buildings.modules;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Delivery;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Pickup;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.BlockPosUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Plans the routes of the couriers of a warehouse from its request queue. The queued requests are resolved once per game tick and bucketed by the chunk of the building the
+ * courier has to walk to, so every courier picking up work in the same tick shares that pass and only looks at the requests around its first stop. The picked requests are
+ * ordered by cheapest insertion followed by 2-opt.
+ */
+public class DeliveryRoutePlanner
+{
+    /**
+     * The maximum amount of requests taken at once, the first one included.
+     */
+    private static final int MAX_ROUTE_TASKS = 7;
+
+    /**
+     * The radius in chunks around the first stop requests are taken from.
+     */
+    private static final int BUCKET_RADIUS = 1;
+
+    /**
+     * The queue module the planner belongs to.
+     */
+    private final WarehouseRequestQueueModule module;
+
+    /**
+     * The resolved requests in queue order, and bucketed by the chunk of the building which is not the warehouse.
+     */
+    private final List<Task>                 tasks   = new ArrayList<>();
+    private final Long2ObjectMap<List<Task>> buckets = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The first task which might not be taken yet, and the amount of tasks which are not taken.
+     */
+    private int head      = 0;
+    private int available = 0;
+
+    /**
+     * The game tick the tasks were resolved at, and the queue size after resolving them.
+     */
+    private long plannedTick = -1;
+    private int  plannedSize = -1;
+
+    /**
+     * Metrics of the planned routes, not persisted.
+     */
+    private long   routes      = 0;
+    private long   routedTasks = 0;
+    private double routeLength = 0;
+
+    /**
+     * Creates the planner of a queue module.
+     *
+     * @param module the module.
+     */
+    public DeliveryRoutePlanner(@NotNull final WarehouseRequestQueueModule module)
+    {
+        this.module = module;
+    }
+
+    /**
+     * Drops the resolved tasks, called when the queue changes.
+     */
+    public void invalidate()
+    {
+        plannedTick = -1;
+    }
+
+    /**
+     * Takes a route from the queue for a courier, removing its requests from the queue.
+     *
+     * @param start    the position the courier starts at.
+     * @param couriers the amount of couriers of the warehouse, limiting how many nearby requests one courier takes.
+     * @return the request tokens in the order they should be done, empty if there is nothing to do.
+     */
+    public List<IToken<?>> takeRoute(@NotNull final BlockPos start, final int couriers)
+    {
+        prepare();
+
+        final Task seed = nextTask();
+        if (seed == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final int fairShare = Math.max(1, (available + couriers - 1) / Math.max(1, couriers));
+        final List<Task> picked = new ArrayList<>();
+        take(seed, picked);
+
+        final List<Task> nearby = new ArrayList<>();
+        for (final Task task : getTasksAround(seed.leg.anchor()))
+        {
+            if (task.taken)
+            {
+                continue;
+            }
+
+            if (seed.isSameTrip(task))
+            {
+                if (picked.size() < MAX_ROUTE_TASKS)
+                {
+                    take(task, picked);
+                }
+            }
+            else if (isNear(seed.leg.source(), task.leg.source()))
+            {
+                nearby.add(task);
+            }
+        }
+
+        nearby.sort(Comparator.comparingInt(task -> task.order));
+        for (int i = 0; i < nearby.size() && i < fairShare - 1 && picked.size() < MAX_ROUTE_TASKS; i++)
+        {
+            take(nearby.get(i), picked);
+        }
+
+        final List<Task> route = orderRoute(start, picked);
+        final Set<IToken<?>> tokens = new LinkedHashSet<>();
+        for (final Task task : route)
+        {
+            tokens.add(task.token);
+        }
+
+        final List<IToken<?>> queue = module.getMutableRequestList();
+        queue.removeIf(tokens::contains);
+        plannedSize = queue.size();
+        module.markDirty();
+
+        routes++;
+        routedTasks += route.size();
+        routeLength += getRouteLength(start, route);
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * Resolves and buckets the queued requests, at most once per game tick unless the queue changed.
+     */
+    private void prepare()
+    {
+        final IColony colony = module.getBuilding().getColony();
+        final long gameTime = colony.getWorld().getGameTime();
+        final List<IToken<?>> queue = module.getMutableRequestList();
+        if (gameTime == plannedTick && queue.size() == plannedSize)
+        {
+            return;
+        }
+
+        tasks.clear();
+        buckets.clear();
+        head = 0;
+        plannedTick = gameTime;
+
+        final IRequestManager requestManager = colony.getRequestManager();
+        final BlockPos wareHouse = module.getBuilding().getID();
+        final Iterator<IToken<?>> iterator = queue.iterator();
+        while (iterator.hasNext())
+        {
+            final IToken<?> token = iterator.next();
+            final IRequest<?> request = requestManager.getRequestForToken(token);
+            if (request == null)
+            {
+                iterator.remove();
+                module.markDirty();
+                continue;
+            }
+
+            final Leg leg = Leg.of(request, wareHouse);
+            if (leg == null)
+            {
+                continue;
+            }
+
+            final boolean delivery = request.getRequest() instanceof Delivery;
+            final Task task = new Task(token, tasks.size(), leg, delivery, delivery ? getSourceKey(colony, leg.source()) : leg.source());
+            tasks.add(task);
+            buckets.computeIfAbsent(getBucket(leg.anchor()), key -> new ArrayList<>()).add(task);
+        }
+
+        available = tasks.size();
+        plannedSize = queue.size();
+    }
+
+    /**
+     * Marks a task as taken and adds it to the picked tasks.
+     *
+     * @param task   the task.
+     * @param picked the picked tasks.
+     */
+    private void take(final Task task, final List<Task> picked)
+    {
+        task.taken = true;
+        available--;
+        picked.add(task);
+    }
+
+    /**
+     * Get the oldest task which is not taken yet.
+     *
+     * @return the task or null if there is none.
+     */
+    @Nullable
+    private Task nextTask()
+    {
+        while (head < tasks.size())
+        {
+            final Task task = tasks.get(head);
+            if (!task.taken)
+            {
+                return task;
+            }
+            head++;
+        }
+        return null;
+    }
+
+    /**
+     * Get the tasks in the buckets around a position.
+     *
+     * @param pos the position.
+     * @return the tasks, including taken ones.
+     */
+    private List<Task> getTasksAround(final BlockPos pos)
+    {
+        final List<Task> around = new ArrayList<>();
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
+        for (int x = -BUCKET_RADIUS; x <= BUCKET_RADIUS; x++)
+        {
+            for (int z = -BUCKET_RADIUS; z <= BUCKET_RADIUS; z++)
+            {
+                final List<Task> bucket = buckets.get(ChunkPos.asLong(chunkX + x, chunkZ + z));
+                if (bucket != null)
+                {
+                    around.addAll(bucket);
+                }
+            }
+        }
+        return around;
+    }
+
+    /**
+     * Get the bucket of a position.
+     *
+     * @param pos the position.
+     * @return the chunk key.
+     */
+    private static long getBucket(final BlockPos pos)
+    {
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Check if two positions are within the bucket radius of each other.
+     *
+     * @param pos1 the first position.
+     * @param pos2 the second position.
+     * @return true if so.
+     */
+    private static boolean isNear(final BlockPos pos1, final BlockPos pos2)
+    {
+        return Math.abs((pos1.getX() >> 4) - (pos2.getX() >> 4)) <= BUCKET_RADIUS && Math.abs((pos1.getZ() >> 4) - (pos2.getZ() >> 4)) <= BUCKET_RADIUS;
+    }
+
+    /**
+     * Get the key deliveries are grouped by for their source, deliveries from any rack of the same warehouse count as the same source.
+     *
+     * @param colony the colony.
+     * @param source the source of the delivery.
+     * @return the source key.
+     */
+    private static BlockPos getSourceKey(final IColony colony, final BlockPos source)
+    {
+        for (final IWareHouse wareHouse : colony.getBuildingManager().getWareHouses())
+        {
+            if (wareHouse.hasContainerPosition(source))
+            {
+                return wareHouse.getID();
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Orders the stops of a route by cheapest insertion and improves it with 2-opt. Deliveries of the same trip are done at once by the courier and count as one stop.
+     *
+     * @param start  the start position of the courier.
+     * @param picked the picked tasks.
+     * @return the ordered tasks.
+     */
+    private static List<Task> orderRoute(final BlockPos start, final List<Task> picked)
+    {
+        final List<List<Task>> stops = new ArrayList<>();
+        for (final Task task : picked)
+        {
+            List<Task> stop = null;
+            for (final List<Task> existing : stops)
+            {
+                if (existing.get(0).isSameTrip(task))
+                {
+                    stop = existing;
+                    break;
+                }
+            }
+
+            if (stop == null)
+            {
+                stops.add(new ArrayList<>(List.of(task)));
+            }
+            else
+            {
+                stop.add(task);
+            }
+        }
+
+        final List<Leg> route = new ArrayList<>();
+        final List<List<Task>> ordered = new ArrayList<>();
+        for (final List<Task> stop : stops)
+        {
+            final Leg leg = stop.get(0).leg;
+            final int index = getCheapestInsertion(start, route, leg);
+            route.add(index, leg);
+            ordered.add(index, stop);
+        }
+
+        boolean improved = true;
+        while (improved)
+        {
+            improved = false;
+            for (int i = 0; i < route.size() - 1; i++)
+            {
+                for (int j = i + 1; j < route.size(); j++)
+                {
+                    final double before = getLegsLength(start, route);
+                    Collections.reverse(route.subList(i, j + 1));
+                    if (getLegsLength(start, route) < before - 0.001)
+                    {
+                        Collections.reverse(ordered.subList(i, j + 1));
+                        improved = true;
+                    }
+                    else
+                    {
+                        Collections.reverse(route.subList(i, j + 1));
+                    }
+                }
+            }
+        }
+
+        final List<Task> result = new ArrayList<>();
+        ordered.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Get the index inserting a leg into a route adds the least walking distance at.
+     *
+     * @param start the start position of the courier.
+     * @param route the legs of the route.
+     * @param leg   the leg to insert.
+     * @return the index to insert at.
+     */
+    public static int getCheapestInsertion(@NotNull final BlockPos start, @NotNull final List<Leg> route, @NotNull final Leg leg)
+    {
+        int bestIndex = route.size();
+        double bestCost = Double.MAX_VALUE;
+        BlockPos previous = start;
+        for (int i = 0; i <= route.size(); i++)
+        {
+            final BlockPos next = i < route.size() ? route.get(i).source() : null;
+            final double cost = getInsertionCost(previous, leg, next);
+            if (cost < bestCost)
+            {
+                bestCost = cost;
+                bestIndex = i;
+            }
+
+            if (next != null)
+            {
+                previous = route.get(i).target();
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Get the walking distance inserting a leg between two positions adds.
+     *
+     * @param previous the position before the leg.
+     * @param leg      the leg.
+     * @param next     the position after the leg, null at the end of the route.
+     * @return the additional distance.
+     */
+    public static double getInsertionCost(@NotNull final BlockPos previous, @NotNull final Leg leg, @Nullable final BlockPos next)
+    {
+        double cost = BlockPosUtil.getDistance(previous, leg.source()) + BlockPosUtil.getDistance(leg.source(), leg.target());
+        if (next != null)
+        {
+            cost += BlockPosUtil.getDistance(leg.target(), next) - BlockPosUtil.getDistance(previous, next);
+        }
+        return cost;
+    }
+
+    /**
+     * Get the walking distance of a route of legs.
+     *
+     * @param start the start position of the courier.
+     * @param route the legs.
+     * @return the distance.
+     */
+    private static double getLegsLength(final BlockPos start, final List<Leg> route)
+    {
+        double length = 0;
+        BlockPos current = start;
+        for (final Leg leg : route)
+        {
+            length += BlockPosUtil.getDistance(current, leg.source()) + BlockPosUtil.getDistance(leg.source(), leg.target());
+            current = leg.target();
+        }
+        return length;
+    }
+
+    /**
+     * Get the walking distance of a route of tasks, the tasks of the same trip are walked once.
+     *
+     * @param start the start position of the courier.
+     * @param route the tasks.
+     * @return the distance.
+     */
+    private static double getRouteLength(final BlockPos start, final List<Task> route)
+    {
+        final List<Leg> legs = new ArrayList<>();
+        for (int i = 0; i < route.size(); i++)
+        {
+            if (i == 0 || !route.get(i - 1).isSameTrip(route.get(i)))
+            {
+                legs.add(route.get(i).leg);
+            }
+        }
+        return getLegsLength(start, legs);
+    }
+
+    /**
+     * Get the amount of routes planned since the server started.
+     *
+     * @return the amount.
+     */
+    public long getRoutes()
+    {
+        return routes;
+    }
+
+    /**
+     * Get the average amount of requests per planned route.
+     *
+     * @return the average, 0 if there was no route.
+     */
+    public double getAverageRouteTasks()
+    {
+        return routes == 0 ? 0 : (double) routedTasks / routes;
+    }
+
+    /**
+     * Get the average walking distance of the planned routes.
+     *
+     * @return the average in blocks, 0 if there was no route.
+     */
+    public double getAverageRouteLength()
+    {
+        return routes == 0 ? 0 : routeLength / routes;
+    }
+
+    /**
+     * The positions a courier walks between for a request.
+     *
+     * @param source where the courier goes first.
+     * @param target where the courier brings the items.
+     * @param anchor the position which is not the warehouse, which the request is bucketed by.
+     */
+    public record Leg(BlockPos source, BlockPos target, BlockPos anchor)
+    {
+        /**
+         * Get the leg of a request, pickups go from the requester to the warehouse.
+         *
+         * @param request   the request.
+         * @param wareHouse the position of the warehouse.
+         * @return the leg, or null if the request is no delivery or pickup.
+         */
+        @Nullable
+        public static Leg of(@NotNull final IRequest<?> request, @NotNull final BlockPos wareHouse)
+        {
+            if (request.getRequest() instanceof final Delivery delivery)
+            {
+                final BlockPos target = delivery.getTarget().getInDimensionLocation();
+                return new Leg(delivery.getStart().getInDimensionLocation(), target, target);
+            }
+
+            if (request.getRequest() instanceof Pickup)
+            {
+                final BlockPos requester = request.getRequester().getLocation().getInDimensionLocation();
+                return new Leg(requester, wareHouse, requester);
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * A resolved request of the queue.
+     */
+    private static final class Task
+    {
+        private final IToken<?> token;
+        private final int       order;
+        private final Leg       leg;
+        private final boolean   delivery;
+        private final BlockPos  sourceKey;
+        private       boolean   taken = false;
+
+        private Task(final IToken<?> token, final int order, final Leg leg, final boolean delivery, final BlockPos sourceKey)
+        {
+            this.token = token;
+            this.order = order;
+            this.leg = leg;
+            this.delivery = delivery;
+            this.sourceKey = sourceKey;
+        }
+
+        /**
+         * Check if both tasks are deliveries the courier does in one trip, having the same target and source.
+         *
+         * @param other the other task.
+         * @return true if so.
+         */
+        private boolean isSameTrip(final Task other)
+        {
+            return delivery && other.delivery
+                     && leg.target().equals(other.leg.target())
+                     && sourceKey.equals(other.sourceKey);
+        }
+    }
+}
@@ -26,6 +26,11 @@ public class WarehouseRequestQueueModule extends AbstractBuildingModule implemen
     @NotNull
     private final List<IToken<?>> requestList = new ArrayList<>();
 
+    /**
+     * Plans the courier routes from the queue.
+     */
+    private final DeliveryRoutePlanner routePlanner = new DeliveryRoutePlanner(this);
+
     @Override
     public void deserializeNBT(final CompoundTag compound)
     {
@@ -34,6 +39,7 @@ public class WarehouseRequestQueueModule extends AbstractBuildingModule implemen
         {
             requestList.add(StandardFactoryController.getInstance().deserialize(requestTagList.getCompound(i)));
         }
+        routePlanner.invalidate();
     }
 
     @Override
@@ -68,9 +74,32 @@ public class WarehouseRequestQueueModule extends AbstractBuildingModule implemen
     public void addRequest(IToken<?> requestToken)
     {
         requestList.add(requestToken);
+        routePlanner.invalidate();
         markDirty();
     }
 
+    /**
+     * Remove a request from the warehouse queue.
+     * @param requestToken request to remove.
+     */
+    public void removeRequest(final IToken<?> requestToken)
+    {
+        if (requestList.remove(requestToken))
+        {
+            routePlanner.invalidate();
+            markDirty();
+        }
+    }
+
+    /**
+     * Get the planner of the courier routes.
+     * @return the route planner.
+     */
+    public DeliveryRoutePlanner getRoutePlanner()
+    {
+        return routePlanner;
+    }
+
     /**
      * Get a mutable version of the request list.
      * @return the mutable request list.
@@ -1,8 +1,8 @@
 package com.minecolonies.core.colony.jobs;
 
 import com.google.common.collect.ImmutableList;
-import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
+import com.minecolonies.core.colony.buildings.modules.DeliveryRoutePlanner;
 import com.minecolonies.core.colony.buildings.modules.WarehouseRequestQueueModule;
 import net.minecraft.resources.ResourceLocation;
 import com.minecolonies.api.client.render.modeltype.ModModelTypes;
@@ -19,13 +19,11 @@ import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.IDelive
 import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Pickup;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
-import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Tuple;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.core.colony.buildings.modules.CourierAssignmentModule;
-import com.minecolonies.core.colony.requestsystem.requests.StandardRequests;
 import com.minecolonies.core.entity.ai.workers.service.EntityAIWorkDeliveryman;
 import com.minecolonies.core.util.AttributeModifierUtils;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
@@ -60,6 +58,12 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     private int ongoingDeliveries;
 
+    /**
+     * Game time the courier ran out of work at, -1 while it has work, and the ticks spent without work. Not persisted.
+     */
+    private long idleSince = -1;
+    private long idleTicks = 0;
+
     /**
      * Instantiates the job for the deliveryman.
      *
@@ -196,57 +200,38 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         IToken<?> request = getTaskQueueFromDataStore().peekFirst();
         if (request == null)
         {
-            IBuilding wareHouse = findWareHouse();
+            final IWareHouse wareHouse = findWareHouse();
             if (wareHouse == null)
             {
                 return null;
             }
 
             final WarehouseRequestQueueModule module = wareHouse.getModule(BuildingModules.WAREHOUSE_REQUEST_QUEUE);
-            if (module.getMutableRequestList().isEmpty())
+            final long gameTime = getColony().getWorld().getGameTime();
+            final List<IToken<?>> route = module.getMutableRequestList().isEmpty()
+                                            ? List.of()
+                                            : module.getRoutePlanner()
+                                                .takeRoute(getCitizen().getLastPosition(), wareHouse.getModule(BuildingModules.WAREHOUSE_COURIERS).getAssignedCitizen().size());
+            if (route.isEmpty())
             {
+                if (idleSince == -1)
+                {
+                    idleSince = gameTime;
+                }
                 return null;
             }
 
-            final List<IToken<?>> reqsToRemove = new ArrayList<>();
-            int extendedReqs = 0;
-            for (final IToken<?> reqId : module.getMutableRequestList())
+            if (idleSince != -1)
             {
-                final IRequest localRequest = getColony().getRequestManager().getRequestForToken(reqId);
-                if (localRequest == null)
-                {
-                    reqsToRemove.add(reqId);
-                    continue;
-                }
-
-                if (request == null)
-                {
-                    addRequest(reqId, 0);
-                    request = reqId;
-                    reqsToRemove.add(reqId);
-                }
-                else if (localRequest instanceof StandardRequests.DeliveryRequest && hasSameDestinationDelivery(localRequest))
-                {
-                    addRequest(reqId, 0);
-                    extendedReqs++;
-                    reqsToRemove.add(reqId);
-                }
-
-                if (extendedReqs > 5)
-                {
-                    break;
-                }
-
+                idleTicks += gameTime - idleSince;
+                idleSince = -1;
             }
 
-            module.getMutableRequestList().removeAll(reqsToRemove);
-            module.markDirty();
-
-            if (request == null)
+            for (final IToken<?> reqId : route)
             {
-                return null;
+                addRequest(reqId, getTaskQueueFromDataStore().size());
             }
-
+            request = route.get(0);
         }
 
         return (IRequest<IDeliverymanRequestable>) getColony().getRequestManager().getRequestForToken(request);
@@ -417,31 +402,6 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         getColony().getRequestManager().getDataStoreManager().remove(this.rsDataStoreToken);
     }
 
-    /**
-     * Check if the dman has the same destination request.
-     *
-     * @param request the incoming request.
-     * @return 0 if so, and 1 if not.
-     */
-    public boolean hasSameDestinationDelivery(@NotNull final IRequest<? extends Delivery> request)
-    {
-        for (final IToken<?> requestToken : getTaskQueue())
-        {
-            final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestToken);
-            if (compareRequest != null && compareRequest.getRequest() instanceof Delivery)
-            {
-                final Delivery current = (Delivery) compareRequest.getRequest();
-                final Delivery newDev = request.getRequest();
-                if (haveTasksSameSourceAndDest(current, newDev))
-                {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
-
     /**
      * Check if two deliveries have the same source and destination.
      *
@@ -507,180 +467,41 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     public Tuple<Double, Integer> getScoreForDelivery(final IRequest<?> newRequest)
     {
         final List<IToken<?>> requestTokens = getTaskQueueFromDataStore();
-
-        double totalScore = 10000;
-        int bestRequestIndex = Math.max(0, requestTokens.size());
-
-        if (requestTokens.isEmpty())
+        final IWareHouse wareHouse = findWareHouse();
+        final BlockPos wareHousePos = wareHouse == null ? getCitizen().getLastPosition() : wareHouse.getID();
+        final DeliveryRoutePlanner.Leg newLeg = DeliveryRoutePlanner.Leg.of(newRequest, wareHousePos);
+        if (newLeg == null)
         {
-            // No task, compare with dman pos
-            totalScore = getClosenessFactorTo(getSource(newRequest),
-              getTarget(newRequest),
-              getCitizen().getLastPosition(),
-              getTarget(newRequest));
-
-            totalScore -= ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority();
+            return new Tuple<>(10000D, requestTokens.size());
         }
 
+        final List<DeliveryRoutePlanner.Leg> route = new ArrayList<>();
+        final List<Integer> queueIndices = new ArrayList<>();
         for (int i = 0; i < requestTokens.size(); i++)
         {
             final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestTokens.get(i));
-            if (compareRequest == null)
+            final DeliveryRoutePlanner.Leg leg = compareRequest == null ? null : DeliveryRoutePlanner.Leg.of(compareRequest, wareHousePos);
+            if (leg != null)
             {
-                continue;
-            }
-
-            if (compareRequest.getRequest() instanceof AbstractDeliverymanRequestable)
-            {
-                double score = getScoreOfRequestComparedTo(newRequest, compareRequest, i);
-
-                if (score <= totalScore)
-                {
-                    bestRequestIndex = i + getPickupOrRequestOffset(newRequest, compareRequest);
-                    totalScore = score;
-                }
+                route.add(leg);
+                queueIndices.add(i);
             }
         }
 
-        totalScore += bestRequestIndex;
+        final int routeIndex = DeliveryRoutePlanner.getCheapestInsertion(getCitizen().getLastPosition(), route, newLeg);
+        final BlockPos previous = routeIndex == 0 ? getCitizen().getLastPosition() : route.get(routeIndex - 1).target();
+        final BlockPos next = routeIndex < route.size() ? route.get(routeIndex).source() : null;
+        final int bestRequestIndex = routeIndex < route.size() ? queueIndices.get(routeIndex) : requestTokens.size();
 
-        return new Tuple<>(totalScore, bestRequestIndex);
-    }
-
-    /**
-     * Calculates a score between two requesting making them compareable in many aspects.
-     *
-     * @param source         source request
-     * @param comparing      comparing request
-     * @param comparingIndex index of the comparing request in our taskque. Use taskque size when comparing a request not on the que.
-     * @return compare score of the two requests, lower is better.
-     */
-    public double getScoreOfRequestComparedTo(final IRequest<?> source, final IRequest<?> comparing, final int comparingIndex)
-    {
-        if (!(comparing != null && comparing.getRequest() instanceof AbstractDeliverymanRequestable && source != null
-                && source.getRequest() instanceof AbstractDeliverymanRequestable))
+        // Added walking distance, in steps of ten blocks
+        double totalScore = DeliveryRoutePlanner.getInsertionCost(previous, newLeg, next) / 10;
+        if (newRequest.getRequest() instanceof final AbstractDeliverymanRequestable requestable)
         {
-            return 100;
-        }
-
-        // Closeness compared to the existing request
-        double score = getClosenessFactorTo(getSource(source), getTarget(source), getSource(comparing), getTarget(comparing));
-        // Priority of the existing request in diff to priority of the newly incomming one
-        score += (((AbstractDeliverymanRequestable) comparing.getRequest()).getPriority() - ((AbstractDeliverymanRequestable) source.getRequest()).getPriority()) * 0.5;
-
-        // Additional score for alternating between pickup and delivery
-        score += getPickUpRequestScore(source, comparing);
-
-        // Worse score the more requests we have to overtake
-        score += getTaskQueue().size() - comparingIndex;
-
-        return score;
-    }
-
-    /**
-     * Gets the right task insertion order for pickups, if a new request fitting an existing request is added and the existing is a pickup and the new is a delivery it should be
-     * infront.
-     *
-     * @param newRequest the new request to add
-     * @param existing   the existing request
-     * @return 1 for inserting after existing, 0 for infront
-     */
-    private static int getPickupOrRequestOffset(final IRequest<?> newRequest, final IRequest<?> existing)
-    {
-        if (newRequest.getRequest() instanceof Delivery && existing.getRequest() instanceof Pickup)
-        {
-            return 0;
-        }
-
-        return 1;
-    }
-
-    /**
-     * Score for how nicely pickups and deliveries alternate
-     *
-     * @param newRequest the new request
-     * @param existing   existing request
-     * @return better score for when alternating deliveries and pickups nicely
-     */
-    private static int getPickUpRequestScore(final IRequest<?> newRequest, final IRequest<?> existing)
-    {
-        if (newRequest.getRequest() instanceof Pickup && existing.getRequest() instanceof Delivery
-              || newRequest.getRequest() instanceof Delivery && existing.getRequest() instanceof Pickup)
-        {
-            return 0;
-        }
-
-        return 3;
-    }
-
-    /**
-     * Calculates the closeness factor for two different delivery vectors
-     *
-     * @param source1 source of first request
-     * @param target1 target of first request
-     * @param source2 source of second request
-     * @param target2 target of second request
-     * @return closeness factor, representing how close these positions are to eachother. The lower the closer they are.
-     */
-    public static double getClosenessFactorTo(final BlockPos source1, final BlockPos target1, final BlockPos source2, final BlockPos target2)
-    {
-        final double newLength = BlockPosUtil.getDistance(target1, source1);
-        if (newLength <= 0)
-        {
-            // Return a relatively high value(bad) when the distance is bad.
-            return 10;
-        }
-
-        final double targetCloseness = BlockPosUtil.getDistance(target1, target2) / newLength;
-        final double sourceCloseness = BlockPosUtil.getDistance(source1, source2) / newLength;
-
-        return (targetCloseness + sourceCloseness) * 5;
-    }
-
-    /**
-     * Gets the source position of a request, pickups are reversed
-     *
-     * @param request
-     * @return
-     */
-    private BlockPos getSource(final IRequest<?> request)
-    {
-        if (request.getRequest() instanceof Delivery)
-        {
-            return ((Delivery) request.getRequest()).getStart().getInDimensionLocation();
-        }
-
-        if (request.getRequest() instanceof Pickup)
-        {
-            final IWareHouse wareHouse = findWareHouse();
-            if (wareHouse != null)
-            {
-                return wareHouse.getID();
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Gets the target position of a request, pickups are reversed
-     *
-     * @param request
-     * @return
-     */
-    private BlockPos getTarget(final IRequest<?> request)
-    {
-        if (request.getRequest() instanceof Delivery)
-        {
-            return ((Delivery) request.getRequest()).getTarget().getInDimensionLocation();
-        }
-
-        if (request.getRequest() instanceof Pickup)
-        {
-            return request.getRequester().getLocation().getInDimensionLocation();
+            totalScore -= requestable.getPriority();
         }
+        totalScore += bestRequestIndex;
 
-        return null;
+        return new Tuple<>(totalScore, bestRequestIndex);
     }
 
     /**
@@ -718,4 +539,18 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     {
         getDataStore().getOngoingDeliveries().remove(requestToken);
     }
+
+    /**
+     * Get the ticks the courier spent without any work since it was loaded.
+     *
+     * @return the idle ticks.
+     */
+    public long getIdleTicks()
+    {
+        if (idleSince == -1)
+        {
+            return idleTicks;
+        }
+        return idleTicks + getColony().getWorld().getGameTime() - idleSince;
+    }
 }
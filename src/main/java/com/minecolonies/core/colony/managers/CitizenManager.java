@@ -223,10 +223,11 @@ public class CitizenManager implements ICitizenManager
             players.addAll(newSubscribers);
             for (@NotNull final ICitizenData citizen : citizens.values())
             {
-                if (citizen.isDirty() || !newSubscribers.isEmpty())
+                // Unchanged citizens are only sent to the new subscribers.
+                final Set<ServerPlayer> recipients = citizen.isDirty() ? players : newSubscribers;
+                if (!recipients.isEmpty())
                 {
-                    final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen);
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewCitizenViewMessage(colony, citizen), recipients);
                 }
             }
         }
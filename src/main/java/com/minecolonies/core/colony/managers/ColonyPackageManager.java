@@ -1,6 +1,7 @@
 package com.minecolonies.core.colony.managers;
 
 import com.minecolonies.api.colony.managers.interfaces.IColonyPackageManager;
+import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.api.util.ColonyUtils;
@@ -64,6 +65,16 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private final Colony colony;
 
+    /**
+     * The content of every colony view section as it was last sent, to only send the changed sections.
+     */
+    private final byte[][] sentViewSections = new byte[ColonyView.SECTION_COUNT][];
+
+    /**
+     * Sequence number of the last sent colony view message.
+     */
+    private int viewSequence = 0;
+
     /**
      * Creates the ColonyPackageManager for a colony.
      *
@@ -200,27 +211,115 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void sendColonyViewPackets()
     {
-        if (isDirty || !newSubscribers.isEmpty())
+        if ((isDirty && !closeSubscribers.isEmpty()) || !newSubscribers.isEmpty())
         {
-            final FriendlyByteBuf colonyFriendlyByteBuf = new FriendlyByteBuf(Unpooled.buffer());
-            ColonyView.serializeNetworkData(colony, colonyFriendlyByteBuf, !newSubscribers.isEmpty());
-            final Set<ServerPlayer> players = new HashSet<>();
-            if (isDirty)
+            // Existing subscribers get the changed sections, new subscribers a full snapshot.
+            final Set<ServerPlayer> players = new HashSet<>(closeSubscribers);
+            players.removeAll(newSubscribers);
+
+            final FriendlyByteBuf[] fullSections = new FriendlyByteBuf[ColonyView.SECTION_COUNT];
+            final FriendlyByteBuf delta = new FriendlyByteBuf(Unpooled.buffer());
+            int changedSections = 0;
+            for (int section = 0; section < ColonyView.SECTION_COUNT; section++)
             {
-                players.addAll(closeSubscribers);
+                final FriendlyByteBuf content = new FriendlyByteBuf(Unpooled.buffer());
+                final boolean changed;
+                if (section == ColonyView.SECTION_REQUESTS)
+                {
+                    changed = colony.getRequestManager().isDirty();
+                    if (changed || !newSubscribers.isEmpty())
+                    {
+                        ColonyView.serializeSection(colony, section, content, true);
+                    }
+                }
+                else if (section == ColonyView.SECTION_STATISTICS)
+                {
+                    // Statistics send their own changes, which have to be written before the full data.
+                    changed = !players.isEmpty();
+                    if (changed)
+                    {
+                        ColonyView.serializeSection(colony, section, content, false);
+                        changed = isSectionChanged(section, content);
+                    }
+                    if (!newSubscribers.isEmpty())
+                    {
+                        fullSections[section] = new FriendlyByteBuf(Unpooled.buffer());
+                        ColonyView.serializeSection(colony, section, fullSections[section], true);
+                    }
+                }
+                else
+                {
+                    ColonyView.serializeSection(colony, section, content, false);
+                    changed = isSectionChanged(section, content);
+                }
+
+                if (fullSections[section] == null)
+                {
+                    fullSections[section] = content;
+                }
+
+                if (changed && !players.isEmpty())
+                {
+                    changedSections |= 1 << section;
+                    delta.writeBytes(content, 0, content.writerIndex());
+                }
             }
-            players.addAll(newSubscribers);
 
-            final ColonyViewMessage message = new ColonyViewMessage(colony, colonyFriendlyByteBuf);
-            for (ServerPlayer player : players)
+            if (changedSections != 0)
             {
-                message.setIsNewSubscription(newSubscribers.contains(player));
-                Network.getNetwork().sendToPlayer(message, player);
+                final FriendlyByteBuf colonyFriendlyByteBuf = new FriendlyByteBuf(Unpooled.buffer());
+                colonyFriendlyByteBuf.writeInt(++viewSequence);
+                colonyFriendlyByteBuf.writeInt(changedSections);
+                colonyFriendlyByteBuf.writeBytes(delta);
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyFriendlyByteBuf), players);
+            }
+
+            if (!newSubscribers.isEmpty())
+            {
+                final FriendlyByteBuf colonyFriendlyByteBuf = new FriendlyByteBuf(Unpooled.buffer());
+                colonyFriendlyByteBuf.writeInt(viewSequence);
+                colonyFriendlyByteBuf.writeInt(ColonyView.ALL_SECTIONS);
+                for (final FriendlyByteBuf section : fullSections)
+                {
+                    colonyFriendlyByteBuf.writeBytes(section, 0, section.writerIndex());
+                }
+
+                final ColonyViewMessage message = new ColonyViewMessage(colony, colonyFriendlyByteBuf);
+                message.setIsNewSubscription(true);
+                Network.getNetwork().sendToPlayers(message, newSubscribers);
             }
         }
         colony.getRequestManager().setDirty(false);
     }
 
+    /**
+     * Compares the content of a view section with the last one sent and remembers it.
+     *
+     * @param section the section.
+     * @param content the current content.
+     * @return true if the content changed.
+     */
+    private boolean isSectionChanged(final int section, final FriendlyByteBuf content)
+    {
+        final byte[] bytes = new byte[content.writerIndex()];
+        content.getBytes(0, bytes);
+        if (Arrays.equals(bytes, sentViewSections[section]))
+        {
+            return false;
+        }
+        sentViewSections[section] = bytes;
+        return true;
+    }
+
+    @Override
+    public void resendColonyView(@NotNull final ServerPlayer player)
+    {
+        if (closeSubscribers.contains(player) || importantColonyPlayers.contains(player))
+        {
+            newSubscribers.add(player);
+        }
+    }
+
     @Override
     public void sendPermissionsPackets()
     {
@@ -233,7 +332,14 @@ public class ColonyPackageManager implements IColonyPackageManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new PermissionsMessage.View(colony, permissions.getRank(player)), player));
+
+            // The view depends on the rank of the player, so it is serialized once per rank.
+            final Map<Rank, List<ServerPlayer>> playersByRank = new HashMap<>();
+            for (final ServerPlayer player : players)
+            {
+                playersByRank.computeIfAbsent(permissions.getRank(player), rank -> new ArrayList<>()).add(player);
+            }
+            playersByRank.forEach((rank, rankPlayers) -> Network.getNetwork().sendToPlayers(new PermissionsMessage.View(colony, rank), rankPlayers));
         }
     }
 
@@ -250,7 +356,7 @@ public class ColonyPackageManager implements IColonyPackageManager
 
             List<IWorkOrder> workOrders = new ArrayList<>(workManager.getWorkOrders().values());
             final ColonyViewWorkOrderMessage message = new ColonyViewWorkOrderMessage(colony, workOrders);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+            Network.getNetwork().sendToPlayers(message, players);
 
             workManager.setDirty(false);
         }
@@ -827,18 +827,22 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         if (isBuildingsDirty || !newSubscribers.isEmpty())
         {
+            // Players which already have the view only get the changed buildings, the new subscribers get a full sync of all buildings.
             final Set<ServerPlayer> players = new HashSet<>();
             if (isBuildingsDirty)
             {
                 players.addAll(closeSubscribers);
+                players.removeAll(newSubscribers);
             }
-            players.addAll(newSubscribers);
             for (@NotNull final IBuilding building : buildings.values())
             {
-                if (building.isDirty() || !newSubscribers.isEmpty())
+                if (building.isDirty() && !players.isEmpty())
+                {
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building, false), players);
+                }
+                if (!newSubscribers.isEmpty())
                 {
-                    final ColonyViewBuildingViewMessage message = new ColonyViewBuildingViewMessage(building, !newSubscribers.isEmpty());
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building, true), newSubscribers);
                 }
             }
         }
@@ -860,7 +864,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewFieldsUpdateMessage(colony, fields), player));
+            Network.getNetwork().sendToPlayers(new ColonyViewFieldsUpdateMessage(colony, fields), players);
         }
     }
 
@@ -12,6 +12,7 @@ import com.minecolonies.api.research.util.ResearchState;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.SoundUtils;
 import com.minecolonies.core.Network;
+import com.minecolonies.core.colony.CachedSaveTag;
 import com.minecolonies.core.colony.Colony;
 import com.minecolonies.core.network.messages.client.colony.ColonyViewResearchManagerViewMessage;
 import com.minecolonies.core.research.LocalResearch;
@@ -63,16 +64,31 @@ public class ResearchManager implements IResearchManager
      */
     private boolean dirty;
 
+    /**
+     * The tag of the research tree for colony saves.
+     */
+    private final CachedSaveTag saveTag = new CachedSaveTag();
+
     @Override
     public void readFromNBT(@NotNull final CompoundTag compound)
     {
         tree.readFromNBT(compound, effects);
+        saveTag.markChanged();
     }
 
     @Override
     public void writeToNBT(@NotNull final CompoundTag compound)
     {
-        tree.writeToNBT(compound);
+        final CompoundTag treeCompound = saveTag.get(() -> {
+            final CompoundTag tag = new CompoundTag();
+            tree.writeToNBT(tag);
+            return tag;
+        });
+
+        for (final String key : treeCompound.getAllKeys())
+        {
+            compound.put(key, treeCompound.get(key));
+        }
     }
 
     @Override
@@ -88,7 +104,7 @@ public class ResearchManager implements IResearchManager
             players.addAll(newSubscribers);
 
             final ColonyViewResearchManagerViewMessage message = new ColonyViewResearchManagerViewMessage(colony, this);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+            Network.getNetwork().sendToPlayers(message, players);
 
         }
         clearDirty();
@@ -98,6 +114,7 @@ public class ResearchManager implements IResearchManager
     public final void markDirty()
     {
         dirty = true;
+        saveTag.markChanged();
     }
 
     @Override
@@ -37,6 +37,11 @@ public class StatisticsManager implements IStatisticsManager
      */
     private Set<String> dirtyStats = new HashSet<>();
 
+    /**
+     * The saved tag of every stat which did not change since the last save.
+     */
+    private final Map<String, CompoundTag> savedStats = new HashMap<>();
+
     @Override
     public void increment(final @NotNull String id, final int day)
     {
@@ -49,6 +54,7 @@ public class StatisticsManager implements IStatisticsManager
         final Int2IntLinkedOpenHashMap innerMap = stats.computeIfAbsent(id, k -> new Int2IntLinkedOpenHashMap());
         innerMap.addTo(day, qty);
         dirtyStats.add(id);
+        savedStats.remove(id);
     }
 
     @Override
@@ -151,31 +157,44 @@ public class StatisticsManager implements IStatisticsManager
         final ListTag statManagerNBT = new ListTag();
         for (final Map.Entry<String, Int2IntLinkedOpenHashMap> stat : stats.entrySet())
         {
-            final CompoundTag statCompound = new CompoundTag();
-            statCompound.putString(TAG_ID, stat.getKey());
+            statManagerNBT.add(savedStats.computeIfAbsent(stat.getKey(), id -> writeStat(id, stat.getValue())));
+        }
 
-            final ListTag statNBT = new ListTag();
-            for (final Map.Entry<Integer, Integer> dailyStats : stat.getValue().entrySet())
-            {
-                final CompoundTag timeStampTag = new CompoundTag();
+        compound.put(TAG_STAT_MANAGER, statManagerNBT);
+    }
 
-                timeStampTag.putInt(TAG_TIME, dailyStats.getKey());
-                timeStampTag.putInt(TAG_QUANTITY, dailyStats.getValue());
+    /**
+     * Write a single stat to its own tag.
+     *
+     * @param id         the stat id.
+     * @param dailyStats the quantity per day.
+     * @return the tag.
+     */
+    private static CompoundTag writeStat(final String id, final Int2IntLinkedOpenHashMap dailyStats)
+    {
+        final CompoundTag statCompound = new CompoundTag();
+        statCompound.putString(TAG_ID, id);
 
-                statNBT.add(timeStampTag);
-            }
+        final ListTag statNBT = new ListTag();
+        for (final Map.Entry<Integer, Integer> dailyStat : dailyStats.entrySet())
+        {
+            final CompoundTag timeStampTag = new CompoundTag();
+
+            timeStampTag.putInt(TAG_TIME, dailyStat.getKey());
+            timeStampTag.putInt(TAG_QUANTITY, dailyStat.getValue());
 
-            statCompound.put(TAG_STAT, statNBT);
-            statManagerNBT.add(statCompound);
+            statNBT.add(timeStampTag);
         }
 
-        compound.put(TAG_STAT_MANAGER, statManagerNBT);
+        statCompound.put(TAG_STAT, statNBT);
+        return statCompound;
     }
 
     @Override
     public void readFromNBT(@NotNull final CompoundTag compound)
     {
         stats.clear();
+        savedStats.clear();
         if (compound.contains(TAG_STAT_MANAGER))
         {
             final ListTag statsNbts = compound.getList(TAG_STAT_MANAGER, Tag.TAG_COMPOUND);
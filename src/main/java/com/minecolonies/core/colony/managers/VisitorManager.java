@@ -167,42 +167,38 @@ public class VisitorManager implements IVisitorManager
     @Override
     public void sendPackets(@NotNull final Set<ServerPlayer> closeSubscribers, @NotNull final Set<ServerPlayer> newSubscribers)
     {
-        Set<ServerPlayer> players = new HashSet<>(newSubscribers);
-        players.addAll(closeSubscribers);
-        Set<IVisitorData> toSend = new HashSet<>();
-        boolean refresh = !newSubscribers.isEmpty() || this.isDirty;
-
-        if (refresh)
+        // New subscribers, and everyone if the manager is dirty, get all visitors. The others only get the changed visitors.
+        final Set<ServerPlayer> refreshPlayers = new HashSet<>(newSubscribers);
+        final Set<ServerPlayer> updatePlayers = new HashSet<>();
+        if (this.isDirty)
         {
-            toSend = new HashSet<>(visitorMap.values());
-            for (final IVisitorData data : visitorMap.values())
-            {
-                data.clearDirty();
-            }
+            refreshPlayers.addAll(closeSubscribers);
             this.clearDirty();
         }
         else
         {
-            for (final IVisitorData data : visitorMap.values())
+            updatePlayers.addAll(closeSubscribers);
+            updatePlayers.removeAll(newSubscribers);
+        }
+
+        final Set<IVisitorData> changed = new HashSet<>();
+        for (final IVisitorData data : visitorMap.values())
+        {
+            if (data.isDirty())
             {
-                if (data.isDirty())
-                {
-                    toSend.add(data);
-                }
-                data.clearDirty();
+                changed.add(data);
             }
+            data.clearDirty();
         }
 
-        if (toSend.isEmpty())
+        if (!refreshPlayers.isEmpty() && !visitorMap.isEmpty())
         {
-            return;
+            Network.getNetwork().sendToPlayers(new ColonyVisitorViewDataMessage(colony, new HashSet<>(visitorMap.values()), true), refreshPlayers);
         }
 
-        final ColonyVisitorViewDataMessage message = new ColonyVisitorViewDataMessage(colony, toSend, refresh);
-
-        for (final ServerPlayer player : players)
+        if (!updatePlayers.isEmpty() && !changed.isEmpty())
         {
-            Network.getNetwork().sendToPlayer(message, player);
+            Network.getNetwork().sendToPlayers(new ColonyVisitorViewDataMessage(colony, changed, false), updatePlayers);
         }
     }
 
@@ -0,0 +1,421 @@
+package com.minecolonies.core.colony.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.permissions.Explosions;
+import com.minecolonies.api.util.ColonyUtils;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.core.MineColonies;
+import com.minecolonies.core.blocks.BlockDecorationController;
+import com.minecolonies.core.entity.citizen.EntityCitizen;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.animal.horse.Llama;
+import net.minecraft.world.entity.monster.Enemy;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ExplosionEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.NO_COLONY_ID;
+
+/**
+ * Single listener for all colony permission events. Resolves the colony owning the position of an event once through the chunk claim capability and forwards the event to the
+ * {@link ColonyPermissionEventHandler} of only that colony.
+ */
+@Mod.EventBusSubscriber(modid = Constants.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class ColonyPermissionEventDispatcher
+{
+    /**
+     * The permission handlers of the loaded colonies, per dimension and colony id.
+     */
+    private static final Map<ResourceKey<Level>, Map<Integer, ColonyPermissionEventHandler>> handlers = new ConcurrentHashMap<>();
+
+    private ColonyPermissionEventDispatcher()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Starts forwarding the events within a colony to its handler.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the id of the colony.
+     * @param handler   the permission handler of the colony.
+     */
+    public static void register(@NotNull final ResourceKey<Level> dimension, final int colonyId, @NotNull final ColonyPermissionEventHandler handler)
+    {
+        handlers.computeIfAbsent(dimension, key -> new ConcurrentHashMap<>()).put(colonyId, handler);
+    }
+
+    /**
+     * Stops forwarding the events of a colony.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the id of the colony.
+     */
+    public static void unregister(@NotNull final ResourceKey<Level> dimension, final int colonyId)
+    {
+        final Map<Integer, ColonyPermissionEventHandler> dimensionHandlers = handlers.get(dimension);
+        if (dimensionHandlers != null)
+        {
+            dimensionHandlers.remove(colonyId);
+        }
+    }
+
+    /**
+     * Get the handler of a colony.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the id of the colony.
+     * @return the handler or null if the colony is not loaded.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(final ResourceKey<Level> dimension, final int colonyId)
+    {
+        if (colonyId == NO_COLONY_ID)
+        {
+            return null;
+        }
+
+        final Map<Integer, ColonyPermissionEventHandler> dimensionHandlers = handlers.get(dimension);
+        return dimensionHandlers == null ? null : dimensionHandlers.get(colonyId);
+    }
+
+    /**
+     * Get the handler of the colony owning the position.
+     *
+     * @param level the level of the position.
+     * @param pos   the position.
+     * @return the handler or null if the position is in no loaded colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final Level level, @Nullable final BlockPos pos)
+    {
+        if (level == null || pos == null)
+        {
+            return null;
+        }
+
+        final Map<Integer, ColonyPermissionEventHandler> dimensionHandlers = handlers.get(level.dimension());
+        if (dimensionHandlers == null || dimensionHandlers.isEmpty())
+        {
+            return null;
+        }
+
+        final int colonyId = ColonyUtils.getOwningColony(level.getChunkAt(pos));
+        return colonyId == NO_COLONY_ID ? null : dimensionHandlers.get(colonyId);
+    }
+
+    /**
+     * Get the handler of the colony at the position the permission of a player is checked at, for fake players that is their owner.
+     *
+     * @param playerIn the acting player.
+     * @param world    the world of the event.
+     * @param pos      the position of the action, null for the position of the player.
+     * @return the handler or null if the position is in no loaded colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final Player playerIn, @NotNull final Level world, @Nullable final BlockPos pos)
+    {
+        final Player player = EntityUtils.getPlayerOfFakePlayer(playerIn, world);
+        return getHandler(player.getCommandSenderWorld(), pos == null ? player.blockPosition() : pos);
+    }
+
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.EntityPlaceEvent event)
+    {
+        if (event.getEntity() instanceof Player player)
+        {
+            final ColonyPermissionEventHandler handler = getHandler(player.level, event.getPos());
+            if (handler != null)
+            {
+                handler.on(event);
+            }
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler, huts are handled by the colony they belong to.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.BreakEvent event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler;
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            @Nullable final IBuilding building = IColonyManager.getInstance().getBuilding(event.getPlayer().level, event.getPos());
+            handler = building == null ? null : getHandler(building.getColony().getDimension(), building.getColony().getID());
+        }
+        else
+        {
+            handler = getHandler(event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event.getPos());
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+        else if (event.getState().getBlock() instanceof BlockDecorationController)
+        {
+            // leisure sites may lie outside of the claims of their colony
+            for (final IColony colony : IColonyManager.getInstance().getColonies(event.getPlayer().level))
+            {
+                colony.getBuildingManager().removeLeisureSite(event.getPos());
+            }
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler, removes the affected blocks and entities of all colonies at once, resolving each chunk only once.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Detonate event)
+    {
+        final Explosions explosions = MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get();
+        if (explosions == Explosions.DAMAGE_EVERYTHING)
+        {
+            return;
+        }
+
+        final Level level = event.getLevel();
+        final Map<Integer, ColonyPermissionEventHandler> dimensionHandlers = handlers.get(level.dimension());
+        if (dimensionHandlers == null || dimensionHandlers.isEmpty())
+        {
+            return;
+        }
+
+        final Long2IntMap chunkOwners = new Long2IntOpenHashMap();
+        final Predicate<BlockPos> isInColony = pos -> dimensionHandlers.containsKey(chunkOwners.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4),
+          chunk -> ColonyUtils.getOwningColony(level.getChunkAt(pos))));
+
+        switch (explosions)
+        {
+            case DAMAGE_NOTHING:
+                // remove all non player entities in colonies
+                event.getAffectedEntities().removeIf(entity -> !(entity instanceof ServerPlayer) && isInColony.test(entity.blockPosition()));
+                event.getAffectedBlocks().removeIf(isInColony);
+                break;
+            case DAMAGE_PLAYERS:
+                // remove non-mob or llama entities in colonies
+                event.getAffectedEntities().removeIf(entity -> !(entity instanceof ServerPlayer) && isProtectedFromExplosion(entity) && isInColony.test(entity.blockPosition()));
+                event.getAffectedBlocks().removeIf(isInColony);
+                break;
+            case DAMAGE_ENTITIES:
+                event.getAffectedBlocks().removeIf(isInColony);
+                break;
+            case DAMAGE_EVERYTHING:
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Whether an entity is protected from explosions in colonies which only damage players.
+     *
+     * @param entity the entity.
+     * @return true if it is no enemy, or a llama.
+     */
+    private static boolean isProtectedFromExplosion(final Entity entity)
+    {
+        return !(entity instanceof Enemy) || entity instanceof Llama;
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Start event)
+    {
+        if (MineColonies.getConfig().getServer().enableColonyProtection.get()
+              && MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_NOTHING)
+        {
+            final ColonyPermissionEventHandler handler = getHandler(event.getLevel(), BlockPos.containing(event.getExplosion().getPosition()));
+            if (handler != null)
+            {
+                handler.on(event);
+            }
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent event)
+    {
+        if (event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(event.getLevel(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getLevel(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getLevel(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public static void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event.getPlayer().blockPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemEntityPickupEvent handler.
+     *
+     * @param event ItemEntityPickupEvent
+     */
+    @SubscribeEvent
+    public static void on(final EntityItemPickupEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getEntity().getCommandSenderWorld(), event.getEntity().blockPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public static void on(final FillBucketEvent event)
+    {
+        final ColonyPermissionEventHandler handler =
+          getHandler(event.getEntity(), event.getEntity().getCommandSenderWorld(), ColonyPermissionEventHandler.getBucketTarget(event));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public static void on(final ArrowLooseEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getEntity().getCommandSenderWorld(), event.getEntity().blockPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * LivingHurtEvent handler, players hurt by citizens are handled by the colony of the citizen.
+     *
+     * @param event LivingHurtEvent
+     */
+    @SubscribeEvent
+    public static void on(final LivingHurtEvent event)
+    {
+        if (event.getEntity() instanceof ServerPlayer && event.getSource().getEntity() instanceof EntityCitizen citizen)
+        {
+            final ColonyPermissionEventHandler handler = getHandler(citizen.level.dimension(), citizen.getCitizenColonyHandler().getColonyId());
+            if (handler != null)
+            {
+                handler.on(event);
+            }
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public static void on(final AttackEntityEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity(), event.getEntity().getCommandSenderWorld(), null);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+}
@@ -28,7 +28,6 @@ import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.entity.animal.horse.Llama;
 import net.minecraft.world.entity.monster.Enemy;
 import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
@@ -49,22 +48,19 @@ import net.minecraftforge.event.entity.player.*;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ExplosionEvent;
 import net.minecraftforge.eventbus.api.Event;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 import static com.minecolonies.api.util.constant.TranslationConstants.PERMISSION_DENIED;
 
 /**
- * This class handles all permission checks on events and cancels them if needed.
+ * This class handles all permission checks on events and cancels them if needed. Events are forwarded by the {@link ColonyPermissionEventDispatcher} only to the handler of the
+ * colony they happen in.
  */
 public class ColonyPermissionEventHandler
 {
@@ -98,7 +94,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.PlaceEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.EntityPlaceEvent event)
     {
         final Action action = event.getPlacedBlock().getBlock() instanceof AbstractBlockHut ? Action.PLACE_HUTS : Action.PLACE_BLOCKS;
@@ -129,20 +124,16 @@ public class ColonyPermissionEventHandler
         if (entity instanceof Player)
         {
             @NotNull final Player player = EntityUtils.getPlayerOfFakePlayer((Player) entity, entity.level);
-            if (colony.isCoordInColony(entity.level, posIn))
+            if (blockState.getBlock() instanceof AbstractBlockHut
+                  && colony.getPermissions().hasPermission(player, action))
             {
-                if (blockState.getBlock() instanceof AbstractBlockHut
-                      && colony.getPermissions().hasPermission(player, action))
-                {
-                    return false;
-                }
-
-                return !colony.getPermissions().hasPermission(player, action);
+                return false;
             }
+
+            return !colony.getPermissions().hasPermission(player, action);
         }
         /*
-         * - We are not inside the colony
-         * - We are in but not denied
+         * - We are not denied
          * - The placer is not a player.
          */
         return false;
@@ -210,7 +201,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.BreakEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.BreakEvent event)
     {
         final LevelAccessor world = event.getLevel();
@@ -268,61 +258,15 @@ public class ColonyPermissionEventHandler
         }
     }
 
-    /**
-     * ExplosionEvent.Detonate handler.
-     *
-     * @param event ExplosionEvent.Detonate
-     */
-    @SubscribeEvent
-    public void on(final ExplosionEvent.Detonate event)
-    {
-        if (MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_EVERYTHING)
-        {
-            return;
-        }
-
-        final Level eventWorld = event.getLevel();
-        final Predicate<BlockPos> getBlocksInColony = pos -> colony.isCoordInColony(eventWorld, pos);
-        Predicate<Entity> getEntitiesInColony = entity -> (!(entity instanceof Enemy) || (entity instanceof Llama))
-                                                            && colony.isCoordInColony(entity.getCommandSenderWorld(), entity.blockPosition());
-        switch(MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get())
-        {
-            case DAMAGE_NOTHING:
-                // if any entity is in colony -> remove from list
-                getEntitiesInColony = entity -> colony.isCoordInColony(entity.getCommandSenderWorld(), entity.blockPosition());
-                // intentional fall-through to next case.
-            case DAMAGE_PLAYERS:
-                // if non-mob or llama entity is in colony -> remove from list
-                final List<Entity> entitiesToRemove = event.getAffectedEntities().stream()
-                                                          .filter(getEntitiesInColony)
-                                                          .filter(entity -> !(entity instanceof ServerPlayer))
-                                                          .collect(Collectors.toList());
-                event.getAffectedEntities().removeAll(entitiesToRemove);
-                // intentional fall-through to next case.
-            case DAMAGE_ENTITIES:
-                // if block is in colony -> remove from list
-                final List<BlockPos> blocksToRemove = event.getAffectedBlocks().stream()
-                                                        .filter(getBlocksInColony)
-                                                        .collect(Collectors.toList());
-                event.getAffectedBlocks().removeAll(blocksToRemove);
-                break;
-            case DAMAGE_EVERYTHING:
-            default:
-                break;
-        }
-    }
-
     /**
      * ExplosionEvent.Start handler.
      *
-     * @param event ExplosionEvent.Detonate
+     * @param event ExplosionEvent.Start
      */
-    @SubscribeEvent
     public void on(final ExplosionEvent.Start event)
     {
         if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_NOTHING
-              && colony.isCoordInColony(event.getLevel(), BlockPos.containing(event.getExplosion().getPosition())))
+              && MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_NOTHING)
         {
             cancelEvent(event, null, colony, Action.EXPLODE, BlockPos.containing(event.getExplosion().getPosition()));
         }
@@ -335,11 +279,9 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent event)
     {
-        if (colony.isCoordInColony(event.getLevel(), event.getPos())
-              && !(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
+        if (!(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
         {
             final BlockState state = event.getLevel().getBlockState(event.getPos());
             final Block block = state.getBlock();
@@ -427,7 +369,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteract event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -466,7 +407,6 @@ public class ColonyPermissionEventHandler
             positionToCheck = player.blockPosition();
         }
         if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && colony.isCoordInColony(player.getCommandSenderWorld(), positionToCheck)
               && !colony.getPermissions().hasPermission(player, action))
         {
             if (MineColonies.getConfig().getServer().pvp_mode.get() && !world.isClientSide && colony.isValidAttackingPlayer(playerIn))
@@ -489,7 +429,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteractSpecific event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -507,7 +446,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemTossEvent
      */
-    @SubscribeEvent
     public void on(final ItemTossEvent event)
     {
         if (checkEventCancelation(Action.TOSS_ITEM, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, event.getPlayer().blockPosition()))
@@ -523,7 +461,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final EntityItemPickupEvent event)
     {
         checkEventCancelation(Action.PICKUP_ITEM, event.getEntity(), event.getEntity().getCommandSenderWorld(), event, event.getEntity().blockPosition());
@@ -536,19 +473,29 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final FillBucketEvent event)
     {
-        @Nullable BlockPos targetBlockPos = null;
+        checkEventCancelation(Action.FILL_BUCKET, event.getEntity(), event.getEntity().getCommandSenderWorld(), event, getBucketTarget(event));
+    }
+
+    /**
+     * Get the position a bucket is filled at.
+     *
+     * @param event the FillBucketEvent.
+     * @return the targeted block or entity position, null if nothing is targeted.
+     */
+    @Nullable
+    public static BlockPos getBucketTarget(final FillBucketEvent event)
+    {
         if (event.getTarget() instanceof BlockHitResult)
         {
-            targetBlockPos = ((BlockHitResult) event.getTarget()).getBlockPos();
+            return ((BlockHitResult) event.getTarget()).getBlockPos();
         }
         else if (event.getTarget() instanceof EntityHitResult)
         {
-            targetBlockPos = ((EntityHitResult) event.getTarget()).getEntity().blockPosition();
+            return ((EntityHitResult) event.getTarget()).getEntity().blockPosition();
         }
-        checkEventCancelation(Action.FILL_BUCKET, event.getEntity(), event.getEntity().getCommandSenderWorld(), event, targetBlockPos);
+        return null;
     }
 
     /**
@@ -558,7 +505,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final ArrowLooseEvent event)
     {
         checkEventCancelation(Action.SHOOT_ARROW, event.getEntity(), event.getEntity().getCommandSenderWorld(), event, event.getEntity().blockPosition());
@@ -572,12 +518,9 @@ public class ColonyPermissionEventHandler
      * this here is handling players getting hurt by citizens.
      * @param event
      */
-    @SubscribeEvent
     public void on(final LivingHurtEvent event)
     {
         if (event.getEntity() instanceof ServerPlayer
-              && event.getSource().getEntity() instanceof EntityCitizen
-              && ((EntityCitizen) event.getSource().getEntity()).getCitizenColonyHandler().getColonyId() == colony.getID()
               && colony.getRaiderManager().isRaided()
               && !colony.getPermissions().hasPermission((Player) event.getEntity(), Action.GUARDS_ATTACK))
         {
@@ -592,7 +535,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final AttackEntityEvent event)
     {
         if (event.getTarget() instanceof Monster)
@@ -602,8 +544,7 @@ public class ColonyPermissionEventHandler
 
         @NotNull final Player player = EntityUtils.getPlayerOfFakePlayer(event.getEntity(), event.getEntity().getCommandSenderWorld());
 
-        if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && colony.isCoordInColony(player.getCommandSenderWorld(), player.blockPosition()))
+        if (MineColonies.getConfig().getServer().enableColonyProtection.get())
         {
             final Permissions perms = colony.getPermissions();
             if (event.getTarget() instanceof EntityCitizen)
@@ -1,7 +1,9 @@
 package com.minecolonies.core.colony.requestsystem.data;
 
 import com.google.common.collect.BiMap;
+import com.google.common.collect.ForwardingBiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
@@ -9,6 +11,8 @@ import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.NBTUtils;
@@ -22,33 +26,53 @@ import net.minecraft.util.Tuple;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
- * A default implementation of the {@link IRequestIdentitiesDataStore} interface.
+ * A default implementation of the {@link IRequestIdentitiesDataStore} interface. Keeps the requests indexed by requester, state and requestable type, the indexes are updated
+ * through the identities map and {@link #onRequestStateChanged(IRequest)}. The serialized form of every request is kept until the modification count of the request or of
+ * its requestable changes, so saves only serialize the requests which changed since the previous save.
  */
 public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDataStore
 {
     private       IToken<?>                     id;
     private final BiMap<IToken<?>, IRequest<?>> map;
 
+    /**
+     * The request tokens per requester id.
+     */
+    private final Map<IToken<?>, Set<IToken<?>>> byRequester = new HashMap<>();
+
+    /**
+     * The request tokens per state, and the state each request is indexed under.
+     */
+    private final Map<RequestState, Set<IToken<?>>> byState      = new EnumMap<>(RequestState.class);
+    private final Map<IToken<?>, RequestState>      indexedState = new HashMap<>();
+
+    /**
+     * The request tokens per requestable class.
+     */
+    private final Map<Class<?>, Set<IToken<?>>> byType = new HashMap<>();
+
+    /**
+     * The serialized entries of the last save by request token.
+     */
+    private Map<IToken<?>, SerializedRequest> serializedRequests = new HashMap<>();
+
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
       final BiMap<IToken<?>, IRequest<?>> map)
     {
         this.id = id;
-        this.map = map;
+        this.map = new IndexedBiMap(map);
+        map.values().forEach(this::index);
     }
 
     public StandardRequestIdentitiesDataStore()
     {
-        this.id = StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN);
-        this.map = HashBiMap.create();
+        this(StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN), HashBiMap.create());
     }
 
     @Override
@@ -57,6 +81,195 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         return map;
     }
 
+    @Override
+    public Collection<IToken<?>> getRequestsByRequester(@NotNull final IToken<?> requesterId)
+    {
+        return view(byRequester.get(requesterId));
+    }
+
+    @Override
+    public Collection<IToken<?>> getRequestsByState(@NotNull final RequestState state)
+    {
+        return view(byState.get(state));
+    }
+
+    @Override
+    public Collection<IToken<?>> getRequestsByType(@NotNull final Class<?> requestableClass)
+    {
+        return view(byType.get(requestableClass));
+    }
+
+    @Override
+    public void onRequestStateChanged(@NotNull final IRequest<?> request)
+    {
+        final RequestState previous = indexedState.get(request.getId());
+        if (previous == null || previous == request.getState() || map.get(request.getId()) != request)
+        {
+            return;
+        }
+
+        removeFromIndex(byState, previous, request.getId());
+        addToIndex(byState, request.getState(), request.getId());
+        indexedState.put(request.getId(), request.getState());
+    }
+
+    /**
+     * Adds a request to all indexes.
+     *
+     * @param request the request.
+     */
+    private void index(final IRequest<?> request)
+    {
+        final IToken<?> token = request.getId();
+        addToIndex(byRequester, request.getRequester().getId(), token);
+        addToIndex(byState, request.getState(), token);
+        addToIndex(byType, request.getRequest().getClass(), token);
+        indexedState.put(token, request.getState());
+    }
+
+    /**
+     * Removes a request from all indexes.
+     *
+     * @param request the request.
+     */
+    private void unindex(final IRequest<?> request)
+    {
+        final IToken<?> token = request.getId();
+        removeFromIndex(byRequester, request.getRequester().getId(), token);
+        removeFromIndex(byType, request.getRequest().getClass(), token);
+        final RequestState state = indexedState.remove(token);
+        if (state != null)
+        {
+            removeFromIndex(byState, state, token);
+        }
+    }
+
+    private static <K> void addToIndex(final Map<K, Set<IToken<?>>> index, final K key, final IToken<?> token)
+    {
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(token);
+    }
+
+    private static <K> void removeFromIndex(final Map<K, Set<IToken<?>>> index, final K key, final IToken<?> token)
+    {
+        final Set<IToken<?>> tokens = index.get(key);
+        if (tokens != null && tokens.remove(token) && tokens.isEmpty())
+        {
+            index.remove(key);
+        }
+    }
+
+    private static Collection<IToken<?>> view(final Set<IToken<?>> tokens)
+    {
+        return tokens == null ? Collections.emptySet() : Collections.unmodifiableSet(tokens);
+    }
+
+    /**
+     * The identities map, keeps the indexes in sync with every modification. The collection views are read only so modifications can not bypass the indexes.
+     */
+    private final class IndexedBiMap extends ForwardingBiMap<IToken<?>, IRequest<?>>
+    {
+        private final BiMap<IToken<?>, IRequest<?>> delegate;
+
+        private IndexedBiMap(final BiMap<IToken<?>, IRequest<?>> delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected BiMap<IToken<?>, IRequest<?>> delegate()
+        {
+            return delegate;
+        }
+
+        @Override
+        public IRequest<?> put(final IToken<?> key, final IRequest<?> value)
+        {
+            final IRequest<?> previous = delegate.put(key, value);
+            reindex(previous, value);
+            return previous;
+        }
+
+        @Override
+        public IRequest<?> forcePut(final IToken<?> key, final IRequest<?> value)
+        {
+            final IRequest<?> previousForKey = delegate.get(key);
+            final IToken<?> previousKey = delegate.inverse().get(value);
+            final IRequest<?> previous = delegate.forcePut(key, value);
+            if (previousKey != null && !previousKey.equals(key))
+            {
+                unindex(value);
+            }
+            reindex(previousForKey, value);
+            return previous;
+        }
+
+        @Override
+        public void putAll(final Map<? extends IToken<?>, ? extends IRequest<?>> map)
+        {
+            map.forEach(this::put);
+        }
+
+        @Override
+        public IRequest<?> remove(final Object key)
+        {
+            final IRequest<?> previous = delegate.remove(key);
+            if (previous != null)
+            {
+                unindex(previous);
+            }
+            return previous;
+        }
+
+        @Override
+        public void clear()
+        {
+            delegate.clear();
+            byRequester.clear();
+            byState.clear();
+            indexedState.clear();
+            byType.clear();
+        }
+
+        @Override
+        public Set<IToken<?>> keySet()
+        {
+            return Collections.unmodifiableSet(delegate.keySet());
+        }
+
+        @Override
+        public Set<IRequest<?>> values()
+        {
+            return Collections.unmodifiableSet(delegate.values());
+        }
+
+        @Override
+        public Set<Map.Entry<IToken<?>, IRequest<?>>> entrySet()
+        {
+            return Collections.unmodifiableSet(delegate.entrySet());
+        }
+
+        @Override
+        public BiMap<IRequest<?>, IToken<?>> inverse()
+        {
+            return Maps.unmodifiableBiMap(delegate.inverse());
+        }
+
+        /**
+         * Replaces a request in the indexes.
+         *
+         * @param previous the request which was replaced, if any.
+         * @param value    the new request.
+         */
+        private void reindex(final IRequest<?> previous, final IRequest<?> value)
+        {
+            if (previous != null)
+            {
+                unindex(previous);
+            }
+            index(value);
+        }
+    }
+
     @Override
     public IToken<?> getId()
     {
@@ -69,6 +282,39 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         this.id = id;
     }
 
+    /**
+     * The serialized entry of a request, with the state of the request it was serialized from. The tag is shared between saves and must not be modified.
+     *
+     * @param request                      the request it was serialized from.
+     * @param modificationCount            the modification count of the request at that time.
+     * @param requestable                  the requestable of the request at that time.
+     * @param requestableModificationCount the modification count of the requestable at that time, which covers changes like delivery aging.
+     * @param tag                          the serialized entry.
+     */
+    private record SerializedRequest(IRequest<?> request, int modificationCount, IRequestable requestable, int requestableModificationCount, CompoundTag tag)
+    {
+        private static SerializedRequest of(final IRequest<?> request, final CompoundTag tag)
+        {
+            return new SerializedRequest(request, request.getModificationCount(), request.getRequest(), request.getRequest().getModificationCount(), tag);
+        }
+
+        /**
+         * Check if the request did not change since it was serialized.
+         *
+         * @param current the current request of the token.
+         * @return true if the tag can be reused.
+         */
+        private boolean isUpToDate(final IRequest<?> current)
+        {
+            return request == current
+                     && modificationCount != -1
+                     && modificationCount == current.getModificationCount()
+                     && requestable == current.getRequest()
+                     && requestableModificationCount != -1
+                     && requestableModificationCount == current.getRequest().getModificationCount();
+        }
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardRequestIdentitiesDataStore>
     {
 
@@ -102,14 +348,23 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
 
             systemCompound.put(TAG_TOKEN, controller.serialize(standardRequestIdentitiesDataStore.getId()));
             final ListTag listTag = new ListTag();
+            final Map<IToken<?>, SerializedRequest> previous = standardRequestIdentitiesDataStore.serializedRequests;
+
+            final Map<IToken<?>, SerializedRequest> serialized = new HashMap<>();
             for (final Map.Entry<IToken<?>, IRequest<?>> entry : new HashSet<>(standardRequestIdentitiesDataStore.getIdentities().entrySet()))
             {
                 try
                 {
-                    CompoundTag mapCompound = new CompoundTag();
-                    mapCompound.put(TAG_TOKEN, controller.serialize(entry.getKey()));
-                    mapCompound.put(TAG_REQUEST, controller.serialize(entry.getValue()));
-                    listTag.add(mapCompound);
+                    SerializedRequest serializedRequest = previous.get(entry.getKey());
+                    if (serializedRequest == null || !serializedRequest.isUpToDate(entry.getValue()))
+                    {
+                        final CompoundTag mapCompound = new CompoundTag();
+                        mapCompound.put(TAG_TOKEN, controller.serialize(entry.getKey()));
+                        mapCompound.put(TAG_REQUEST, controller.serialize(entry.getValue()));
+                        serializedRequest = SerializedRequest.of(entry.getValue(), mapCompound);
+                    }
+                    serialized.put(entry.getKey(), serializedRequest);
+                    listTag.add(serializedRequest.tag());
                 }
                 catch (final Exception e)
                 {
@@ -117,6 +372,7 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
                     Log.getLogger().error(e);
                 }
             }
+            standardRequestIdentitiesDataStore.serializedRequests = serialized;
             systemCompound.put(TAG_LIST, listTag);
             return systemCompound;
         }
@@ -129,6 +385,7 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
             final ListTag list = nbt.getList(TAG_LIST, Tag.TAG_COMPOUND);
 
             final BiMap<IToken<?>, IRequest<?>> map = HashBiMap.create();
+            final Map<IToken<?>, SerializedRequest> serialized = new HashMap<>();
             for (int i = 0; i < list.size(); i++)
             {
                 final CompoundTag tag = list.getCompound(i);
@@ -137,6 +394,11 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
                     final IToken<?> id = controller.deserialize(tag.getCompound(TAG_TOKEN));
                     final IRequest<?> request = controller.deserialize(tag.getCompound(TAG_REQUEST));
                     map.put(id, request);
+                    if (request != null)
+                    {
+                        // The loaded entry is the serialized form of the request until it changes.
+                        serialized.put(id, SerializedRequest.of(request, tag));
+                    }
                 }
                 catch (final Exception ex)
                 {
@@ -144,7 +406,9 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
                 }
             }
 
-            return new StandardRequestIdentitiesDataStore(token, map);
+            final StandardRequestIdentitiesDataStore dataStore = new StandardRequestIdentitiesDataStore(token, map);
+            dataStore.serializedRequests = serialized;
+            return dataStore;
         }
 
         @Override
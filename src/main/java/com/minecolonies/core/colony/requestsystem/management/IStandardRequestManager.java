@@ -3,6 +3,7 @@ package com.minecolonies.core.colony.requestsystem.management;
 import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.management.*;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.core.colony.requestsystem.management.handlers.ResolverRoutingTable;
 import com.minecolonies.core.colony.requestsystem.management.manager.StandardRequestManager;
 import org.jetbrains.annotations.NotNull;
 
@@ -37,6 +38,8 @@ public interface IStandardRequestManager extends IRequestManager
 
     IUpdateHandler getUpdateHandler();
 
+    ResolverRoutingTable getResolverRoutingTable();
+
     int getCurrentVersion();
 
     void setCurrentVersion(int currentVersion);
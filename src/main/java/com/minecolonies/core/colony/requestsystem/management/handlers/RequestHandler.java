@@ -2,7 +2,6 @@ package com.minecolonies.core.colony.requestsystem.management.handlers;
 
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
-import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.management.IRequestHandler;
 import com.minecolonies.api.colony.requestsystem.manager.AssigningStrategy;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
@@ -14,14 +13,15 @@ import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.core.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.core.colony.requestsystem.management.manager.wrapped.WrappedBlacklistAssignmentRequestManager;
 import com.minecolonies.core.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
+import static com.minecolonies.api.util.constant.Constants.MAX_REQUEST_CHAIN_DEPTH;
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
@@ -48,7 +48,7 @@ public class RequestHandler implements IRequestHandler
         final IToken<?> token = manager.getTokenHandler().generateNewToken();
 
         final IRequest<Request> constructedRequest = manager.getFactoryController()
-          .getNewInstance(TypeToken.of((Class<? extends IRequest<Request>>) RequestMappingHandler.getRequestableMappings()
+          .getNewInstance(ReflectionUtils.getTypeToken((Class<? extends IRequest<Request>>) RequestMappingHandler.getRequestableMappings()
             .get(request.getClass())), request, token, requester);
 
         manager.log("Creating request for: " + request + ", token: " + token + " and output: " + constructedRequest);
@@ -129,36 +129,7 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        List<IRequestResolver<? extends IRequestable>> resolverList = new ArrayList<>();
-        for (final TypeToken<?> requestTypeToken : requestTypes)
-        {
-            final Collection<IToken<?>> resolverTokens = manager.getRequestableTypeRequestResolverAssignmentDataStore()
-              .getAssignments()
-              .get(requestTypeToken);
-
-            if (resolverTokens == null)
-            {
-                continue;
-            }
-
-            for (IToken<?> iToken : resolverTokens)
-            {
-                final IRequestResolver<? extends IRequestable> iRequestResolver = manager.getResolverHandler().getResolver(iToken);
-                if (requestTypes.contains(iRequestResolver.getRequestType()))
-                {
-                    resolverList.add(iRequestResolver);
-                }
-            }
-        }
-
-        resolverList.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-          .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())));
-
-        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>(resolverList);
+        final IRequestResolver<?>[] resolvers = manager.getResolverRoutingTable().getResolvers(request);
 
         IRequestResolver previousResolver = null;
         int previousMetric = Integer.MAX_VALUE;
@@ -231,6 +202,18 @@ public class RequestHandler implements IRequestHandler
       final Collection<IToken<?>> resolverTokenBlackList,
       @Nullable final List<IToken<?>> attemptResult)
     {
+        //Refuse the assignment if a child can not be linked, rather than leaving the resolver with a child outside of the request chain.
+        for (final IToken<?> childRequestToken : attemptResult)
+        {
+            if (!canLinkChild(request, manager.getRequestHandler().getRequest(childRequestToken)))
+            {
+                Log.getLogger().error("Refusing to assign request: " + request.getId() + " to: " + resolver.getId() + " as its child: " + childRequestToken
+                                        + " would create a request cycle or exceed the maximum request chain depth.");
+                attemptResult.forEach(token -> cancelUnlinkedChild(manager.getRequestHandler().getRequest(token)));
+                return null;
+            }
+        }
+
         //Successfully found a resolver. Registering
         manager.log("Finished resolver assignment search for request: " + request + " successfully");
 
@@ -241,9 +224,7 @@ public class RequestHandler implements IRequestHandler
         for (final IToken<?> childRequestToken : attemptResult)
         {
             final IRequest<?> childRequest = manager.getRequestHandler().getRequest(childRequestToken);
-
-            childRequest.setParent(request.getId());
-            request.addChild(childRequest.getId());
+            linkChild(request, childRequest);
         }
 
         for (final IToken<?> childRequestToken : attemptResult)
@@ -328,20 +309,30 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(manager, RequestState.FOLLOWUP_IN_PROGRESS);
 
-        //Assign the followup to the parent as a child so that processing is still halted.
+        //Assign the followup to the parent as a child so that processing is still halted. Followups which can not be linked are cancelled.
+        final List<IRequest<?>> linkedFollowups = new ArrayList<>();
         if (followupRequests != null && !followupRequests.isEmpty())
         {
-            followupRequests.forEach(followupRequest -> request.addChild(followupRequest.getId()));
-            followupRequests.forEach(followupRequest -> followupRequest.setParent(request.getId()));
+            for (final IRequest<?> followupRequest : followupRequests)
+            {
+                if (canLinkChild(request, followupRequest))
+                {
+                    linkChild(request, followupRequest);
+                    linkedFollowups.add(followupRequest);
+                }
+                else
+                {
+                    Log.getLogger().error("Refusing to link followup request: " + followupRequest.getId() + " to: " + request.getId()
+                                            + " as it would create a request cycle or exceed the maximum request chain depth.");
+                    cancelUnlinkedChild(followupRequest);
+                }
+            }
         }
 
         //Assign the followup request if need be
-        if (followupRequests != null && !followupRequests.isEmpty())
-        {
-            followupRequests.stream()
-              .filter(followupRequest -> !isAssigned(followupRequest.getId()))
-              .forEach(this::assignRequest);
-        }
+        linkedFollowups.stream()
+          .filter(followupRequest -> !isAssigned(followupRequest.getId()))
+          .forEach(this::assignRequest);
 
         //All follow ups resolved immediately or none where present.
         if (!request.hasChildren())
@@ -371,6 +362,7 @@ public class RequestHandler implements IRequestHandler
             parentRequest.removeChild(request.getId());
 
             request.setParent(null);
+            updateChainPosition(request, request.getId(), 0);
 
             if (!parentRequest.hasChildren())
             {
@@ -507,6 +499,7 @@ public class RequestHandler implements IRequestHandler
             getRequest(request.getParent()).removeChild(request.getId());
         }
         request.setParent(null);
+        updateChainPosition(request, request.getId(), 0);
         request.setState(manager, RequestState.CANCELLED);
 
         if (assigned)
@@ -576,11 +569,116 @@ public class RequestHandler implements IRequestHandler
     @Override
     public void removeRequester(final IRequester requester)
     {
-        for (final IRequest<?> req : new ArrayList<>(manager.getRequestIdentitiesDataStore().getIdentities().values()))
+        for (final IToken<?> token : new ArrayList<>(manager.getRequestIdentitiesDataStore().getRequestsByRequester(requester.getId())))
+        {
+            if (manager.getRequestIdentitiesDataStore().getIdentities().containsKey(token))
+            {
+                onRequestCancelled(token);
+            }
+        }
+    }
+
+    @Override
+    public void updateChainPositions()
+    {
+        for (final IRequest<?> request : manager.getRequestIdentitiesDataStore().getIdentities().values())
+        {
+            if (request != null && (!request.hasParent() || getRequestOrNull(request.getParent()) == null))
+            {
+                updateChainPosition(request, request.getId(), 0);
+            }
+        }
+    }
+
+    /**
+     * Checks if a request can be linked as child of another, which is refused if the child is the parent or one of its ancestors, or if the chain of the parent is deeper
+     * than the maximum request chain depth.
+     *
+     * @param parent the parent request.
+     * @param child  the child request.
+     * @return true if the child can be linked.
+     */
+    private boolean canLinkChild(final IRequest<?> parent, final IRequest<?> child)
+    {
+        IRequest<?> current = parent;
+        for (int depth = 0; depth < MAX_REQUEST_CHAIN_DEPTH; depth++)
+        {
+            if (current.getId().equals(child.getId()))
+            {
+                return false;
+            }
+
+            current = current.hasParent() ? getRequestOrNull(current.getParent()) : null;
+            if (current == null)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cancels a child request a resolver created, after linking it got refused. Requests which are already part of a request chain are left to that chain.
+     *
+     * @param child the child request.
+     */
+    private void cancelUnlinkedChild(final IRequest<?> child)
+    {
+        if (!child.hasParent() && !child.hasChildren() && getRequestOrNull(child.getId()) != null)
+        {
+            onRequestCancelledDirectly(child.getId());
+        }
+    }
+
+    /**
+     * Links a child request to its parent, moving the child and its own children into the request chain of the parent. The child is detached from its previous parent, and
+     * must pass {@link #canLinkChild(IRequest, IRequest)}.
+     *
+     * @param parent the parent request.
+     * @param child  the child request.
+     */
+    private void linkChild(final IRequest<?> parent, final IRequest<?> child)
+    {
+        if (child.hasParent() && !child.getParent().equals(parent.getId()))
         {
-            if (req.getRequester().getId().equals(requester.getId()))
+            final IRequest<?> previousParent = getRequestOrNull(child.getParent());
+            if (previousParent != null)
             {
-                onRequestCancelled(req.getId());
+                previousParent.removeChild(child.getId());
+            }
+        }
+
+        child.setParent(parent.getId());
+        parent.addChild(child.getId());
+        updateChainPosition(child, parent.getRootToken(), parent.getChainDepth() + 1);
+    }
+
+    /**
+     * Sets the root and depth of a request and updates all requests below it.
+     *
+     * @param request the request.
+     * @param root    the token of the root request.
+     * @param depth   the depth of the request.
+     */
+    private void updateChainPosition(final IRequest<?> request, final IToken<?> root, final int depth)
+    {
+        final Deque<IRequest<?>> open = new ArrayDeque<>();
+        request.setChainPosition(root, depth);
+        open.add(request);
+
+        // Bounded by the amount of requests, so a corrupted chain can not loop forever.
+        int remaining = manager.getRequestIdentitiesDataStore().getIdentities().size();
+        while (!open.isEmpty() && remaining-- >= 0)
+        {
+            final IRequest<?> current = open.poll();
+            for (final IToken<?> childToken : current.getChildren())
+            {
+                final IRequest<?> child = getRequestOrNull(childToken);
+                if (child != null)
+                {
+                    child.setChainPosition(root, current.getChainDepth() + 1);
+                    open.add(child);
+                }
             }
         }
     }
@@ -623,11 +721,6 @@ public class RequestHandler implements IRequestHandler
     @Override
     public Collection<IRequest<?>> getRequestsMadeByRequester(final IRequester requester)
     {
-        return manager.getRequestIdentitiesDataStore()
-          .getIdentities()
-          .values()
-          .stream()
-          .filter(iRequest -> iRequest.getRequester().getId().equals(requester.getId()))
-          .collect(Collectors.toList());
+        return manager.getRequestsByRequester(requester);
     }
 }
@@ -11,7 +11,6 @@ import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.core.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.core.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
 import org.apache.commons.lang3.Validate;
@@ -87,8 +86,7 @@ public class ResolverHandler implements IResolverHandler
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
 
-        final Set<TypeToken<?>> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
-        resolverTypes.remove(TypeConstants.OBJECT);
+        final Set<TypeToken<?>> resolverTypes = ReflectionUtils.getSuperClassesWithoutObject(resolver.getRequestType());
         resolverTypes.forEach(c -> {
             if (!manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(c))
             {
@@ -98,6 +96,7 @@ public class ResolverHandler implements IResolverHandler
             manager.log("Registering resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getId());
         });
+        manager.getResolverRoutingTable().onResolverChanged(resolver);
 
         return resolver.getId();
     }
@@ -291,12 +290,12 @@ public class ResolverHandler implements IResolverHandler
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
-        final Set<TypeToken<?>> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
-        requestTypes.remove(TypeConstants.OBJECT);
+        final Set<TypeToken<?>> requestTypes = ReflectionUtils.getSuperClassesWithoutObject(resolver.getRequestType());
         requestTypes.forEach(c -> {
             manager.log("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getId());
         });
+        manager.getResolverRoutingTable().onResolverChanged(resolver);
     }
 
     /**
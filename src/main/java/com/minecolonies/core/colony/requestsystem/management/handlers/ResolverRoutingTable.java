@@ -0,0 +1,140 @@
+package com.minecolonies.core.colony.requestsystem.management.handlers;
+
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestResolverIdentitiesDataStore;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.core.colony.requestsystem.management.IStandardRequestManager;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.*;
+
+/**
+ * Caches the resolvers able to handle a requestable class, sorted by priority and by the position of their request type in the type hierarchy of the requestable, as used by
+ * the default assigning strategy. Routes are dropped when a resolver of one of their types is registered or removed.
+ */
+public class ResolverRoutingTable
+{
+    /**
+     * The manager this table belongs to.
+     */
+    private final IStandardRequestManager manager;
+
+    /**
+     * The cached routes per concrete requestable class.
+     */
+    private final Map<Class<?>, Route> routes = new HashMap<>();
+
+    /**
+     * The data stores the routes were built from, the routes are dropped when the manager swaps them.
+     */
+    private IRequestableTypeRequestResolverAssignmentDataStore typeAssignments = null;
+    private IRequestResolverIdentitiesDataStore                resolverIdentities = null;
+
+    /**
+     * Creates a new routing table.
+     *
+     * @param manager the manager it belongs to.
+     */
+    public ResolverRoutingTable(final IStandardRequestManager manager)
+    {
+        this.manager = manager;
+    }
+
+    /**
+     * Get the sorted resolvers of a request, without checking the blacklist or whether they can resolve the request.
+     *
+     * @param request the request.
+     * @return the resolvers, the array must not be modified.
+     */
+    public IRequestResolver<?>[] getResolvers(final IRequest<?> request)
+    {
+        if (typeAssignments != manager.getRequestableTypeRequestResolverAssignmentDataStore()
+              || resolverIdentities != manager.getRequestResolverIdentitiesDataStore())
+        {
+            routes.clear();
+            typeAssignments = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+            resolverIdentities = manager.getRequestResolverIdentitiesDataStore();
+        }
+
+        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
+        final Class<?> requestableClass = request.getRequest().getClass();
+        Route route = routes.get(requestableClass);
+        if (route == null || route.types() != requestTypes)
+        {
+            route = new Route(requestTypes, buildResolvers(requestTypes));
+            routes.put(requestableClass, route);
+        }
+
+        return route.resolvers();
+    }
+
+    /**
+     * Builds the sorted resolver list for a type hierarchy.
+     *
+     * @param requestTypes the type hierarchy of the requestable.
+     * @return the sorted resolvers, without duplicates.
+     */
+    private IRequestResolver<?>[] buildResolvers(final Set<TypeToken<?>> requestTypes)
+    {
+        final Object2IntMap<TypeToken<?>> typeIndex = new Object2IntOpenHashMap<>();
+        for (final TypeToken<?> type : requestTypes)
+        {
+            typeIndex.putIfAbsent(type, typeIndex.size());
+        }
+
+        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>();
+        for (final TypeToken<?> requestTypeToken : requestTypes)
+        {
+            final Collection<IToken<?>> resolverTokens = typeAssignments.getAssignments().get(requestTypeToken);
+            if (resolverTokens == null)
+            {
+                continue;
+            }
+
+            for (final IToken<?> token : resolverTokens)
+            {
+                final IRequestResolver<?> resolver = manager.getResolverHandler().getResolver(token);
+                if (requestTypes.contains(resolver.getRequestType()))
+                {
+                    resolvers.add(resolver);
+                }
+            }
+        }
+
+        final IRequestResolver<?>[] sorted = resolvers.toArray(new IRequestResolver<?>[0]);
+        Arrays.sort(sorted, Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+          .thenComparingInt((IRequestResolver<?> r) -> typeIndex.getInt(r.getRequestType())));
+        return sorted;
+    }
+
+    /**
+     * Drops the routes a resolver could be part of, called when it gets registered or removed.
+     *
+     * @param resolver the resolver.
+     */
+    public void onResolverChanged(final IRequestResolver<?> resolver)
+    {
+        final TypeToken<?> type = resolver.getRequestType();
+        routes.values().removeIf(route -> route.types().contains(type));
+    }
+
+    /**
+     * Drops all routes.
+     */
+    public void clear()
+    {
+        routes.clear();
+    }
+
+    /**
+     * The sorted resolvers of a type hierarchy.
+     *
+     * @param types     the type hierarchy the route was built for.
+     * @param resolvers the resolvers, sorted by priority and type index.
+     */
+    private record Route(Set<TypeToken<?>> types, IRequestResolver<?>[] resolvers) {}
+}
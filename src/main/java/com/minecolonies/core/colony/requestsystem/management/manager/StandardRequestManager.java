@@ -1,5 +1,6 @@
 package com.minecolonies.core.colony.requestsystem.management.manager;
 
+import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.IMinecoloniesAPI;
@@ -32,7 +33,9 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -105,6 +108,9 @@ public class StandardRequestManager implements IStandardRequestManager
     @NotNull
     private final IProviderHandler providerHandler = new ProviderHandler(this);
 
+    @NotNull
+    private final ResolverRoutingTable resolverRoutingTable = new ResolverRoutingTable(this);
+
     private int version = -1;
 
     /**
@@ -364,6 +370,50 @@ public class StandardRequestManager implements IStandardRequestManager
         getProviderHandler().removeProvider(provider);
     }
 
+    @Override
+    public void onRequestStateChanged(@NotNull final IRequest<?> request)
+    {
+        getRequestIdentitiesDataStore().onRequestStateChanged(request);
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getRequestsByRequester(@NotNull final IRequester requester)
+    {
+        return getRequestsForTokens(getRequestIdentitiesDataStore().getRequestsByRequester(requester.getId()));
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getRequestsByState(@NotNull final RequestState state)
+    {
+        return getRequestsForTokens(getRequestIdentitiesDataStore().getRequestsByState(state));
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getRequestsByType(@NotNull final Class<? extends IRequestable> requestableClass)
+    {
+        return getRequestsForTokens(getRequestIdentitiesDataStore().getRequestsByType(requestableClass));
+    }
+
+    /**
+     * Looks up the requests of indexed tokens.
+     *
+     * @param tokens the tokens from an index.
+     * @return a copy of the requests.
+     */
+    private List<IRequest<?>> getRequestsForTokens(final Collection<IToken<?>> tokens)
+    {
+        final BiMap<IToken<?>, IRequest<?>> identities = getRequestIdentitiesDataStore().getIdentities();
+        final List<IRequest<?>> requests = new ArrayList<>(tokens.size());
+        for (final IToken<?> token : tokens)
+        {
+            requests.add(identities.get(token));
+        }
+        return requests;
+    }
+
     @Override
     public void onRequesterRemovedFromColony(@NotNull final IRequester requester) throws IllegalArgumentException
     {
@@ -416,6 +466,7 @@ public class StandardRequestManager implements IStandardRequestManager
     private void reset(UpdateType type)
     {
         setup();
+        resolverRoutingTable.clear();
 
         version = -1;
         getUpdateHandler().handleUpdate(UpdateType.RESET);
@@ -500,6 +551,7 @@ public class StandardRequestManager implements IStandardRequestManager
         }
 
         updateIfRequired();
+        getRequestHandler().updateChainPositions();
     }
 
     @Override
@@ -642,6 +694,12 @@ public class StandardRequestManager implements IStandardRequestManager
         return updateHandler;
     }
 
+    @Override
+    public ResolverRoutingTable getResolverRoutingTable()
+    {
+        return resolverRoutingTable;
+    }
+
     private void updateIfRequired()
     {
         if (version < updateHandler.getCurrentVersion())
@@ -165,6 +165,33 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         wrappedManager.updateRequestState(token, state);
     }
 
+    @Override
+    public void onRequestStateChanged(@NotNull final IRequest<?> request)
+    {
+        wrappedManager.onRequestStateChanged(request);
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getRequestsByRequester(@NotNull final IRequester requester)
+    {
+        return wrappedManager.getRequestsByRequester(requester);
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getRequestsByState(@NotNull final RequestState state)
+    {
+        return wrappedManager.getRequestsByState(state);
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getRequestsByType(@NotNull final Class<? extends IRequestable> requestableClass)
+    {
+        return wrappedManager.getRequestsByType(requestableClass);
+    }
+
     @Override
     public void overruleRequest(@NotNull final IToken<?> token, @Nullable final ItemStack stack) throws IllegalArgumentException
     {
@@ -15,6 +15,7 @@ import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.ReflectionUtils;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.network.chat.MutableComponent;
@@ -57,6 +58,18 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
 
     private ImmutableList<ItemStack> itemExamples;
 
+    /**
+     * Incremented on every change of the request.
+     */
+    private int modificationCount = 0;
+
+    /**
+     * The root of the request chain and the depth of this request in it, maintained by the request handler.
+     */
+    @Nullable
+    private IToken<?> root;
+    private int       chainDepth = 0;
+
     protected AbstractRequest(@NotNull final IRequester requester, @NotNull final IToken<?> token, @NotNull final R requested)
     {
         this.requester = requester;
@@ -86,7 +99,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     @SuppressWarnings("unchecked")
     public TypeToken<? extends R> getType()
     {
-        return TypeToken.of((Class<? extends R>) getRequest().getClass());
+        return ReflectionUtils.getTypeToken((Class<? extends R>) getRequest().getClass());
     }
 
     /**
@@ -137,6 +150,8 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void setState(@NotNull final IRequestManager manager, @NotNull final RequestState state)
     {
         this.state = state;
+        modificationCount++;
+        manager.onRequestStateChanged(this);
         manager.log("Updated state from: " + getId() + " to: " + state);
 
         if (this.hasParent() && this.getParent() != null)
@@ -188,6 +203,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void setResult(@NotNull final R result)
     {
         this.result = result;
+        modificationCount++;
     }
 
     /**
@@ -223,6 +239,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken<?>> void setParent(@Nullable final T parent)
     {
         this.parent = parent;
+        modificationCount++;
     }
 
     /**
@@ -245,6 +262,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken<?>> void addChild(@NotNull final T child)
     {
         this.children.add(child);
+        modificationCount++;
     }
 
     /**
@@ -284,6 +302,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken<?>> void removeChild(@NotNull final T child)
     {
         this.children.remove(child);
+        modificationCount++;
     }
 
     /**
@@ -397,6 +416,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void overrideCurrentDeliveries(@NotNull final ImmutableList<ItemStack> stacks)
     {
         this.deliveries = Lists.newArrayList(stacks);
+        modificationCount++;
     }
 
     @Override
@@ -404,6 +424,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     {
         this.deliveries.add(stack);
         this.deliveries = InventoryUtils.processItemStackListAndMerge(this.deliveries);
+        modificationCount++;
     }
 
     @Override
@@ -411,12 +432,14 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     {
         this.deliveries.addAll(list);
         this.deliveries = InventoryUtils.processItemStackListAndMerge(this.deliveries);
+        modificationCount++;
     }
 
     @Override
     public void resetDeliveries()
     {
         this.deliveries.clear();
+        modificationCount++;
     }
 
     @NotNull
@@ -540,4 +563,30 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     {
         return requested.getSuperClasses();
     }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
+    }
+
+    @NotNull
+    @Override
+    public IToken<?> getRootToken()
+    {
+        return root == null ? token : root;
+    }
+
+    @Override
+    public int getChainDepth()
+    {
+        return chainDepth;
+    }
+
+    @Override
+    public void setChainPosition(@NotNull final IToken<?> root, final int depth)
+    {
+        this.root = root;
+        this.chainDepth = depth;
+    }
 }
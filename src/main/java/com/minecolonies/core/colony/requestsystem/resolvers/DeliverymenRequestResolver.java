@@ -154,7 +154,7 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
             }
 
             final WarehouseRequestQueueModule module = wareHouse.getModule(BuildingModules.WAREHOUSE_REQUEST_QUEUE);
-            module.getMutableRequestList().remove(request.getId());
+            module.removeRequest(request.getId());
         }
     }
 
@@ -19,11 +19,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.RSConstants.CONST_RETRYING_RESOLVER_PRIORITY;
 
+/**
+ * Resolver which retries the requests no other resolver could handle. Retries are kept in a hashed timer wheel, so a tick only touches the requests due in it, are spread
+ * with a jittered backoff and are limited to a number of reassignments per tick. Requests matching a colony update are woken directly instead of waiting for their delay.
+ */
 public class StandardRetryingRequestResolver implements IRetryingRequestResolver
 {
 
@@ -31,13 +35,54 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     private static final int MAX_RETRIES = 3;
     private static final int RETRY_DELAY = 1200;
 
+    /**
+     * The delay of the first retry, doubled on each following retry up to the retry delay.
+     */
+    private static final int INITIAL_RETRY_DELAY = RETRY_DELAY / 4;
+
+    /**
+     * Part of the delay which is randomly taken off, to spread requests scheduled at the same time.
+     */
+    private static final double RETRY_JITTER = 0.1D;
+
+    /**
+     * Maximum number of reassignments per tick, the remaining due requests wait for the following ticks.
+     */
+    private static final int MAX_REASSIGNMENTS_PER_TICK = 8;
+
+    /**
+     * Number of slots of the timer wheel, must be a power of two.
+     */
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
     private       IRequestManager             manager;
     private final ILocation                   location;
     private final IToken<?>                   id;
     private       IToken<?>                   current;
-    private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
 
+    /**
+     * The timer wheel, each slot holds the requests due in a tick with the same lower bits.
+     */
+    private final List<Set<IToken<?>>> wheel = createWheel();
+
+    /**
+     * The tick each scheduled request is due at.
+     */
+    private final Map<IToken<?>, Long> dueTicks = new HashMap<>();
+
+    /**
+     * The requests waiting for a reassignment: the ones woken by a colony update, which are reassigned first, and the ones which became due.
+     */
+    private final Set<IToken<?>> woken = new LinkedHashSet<>();
+    private final Set<IToken<?>> ready = new LinkedHashSet<>();
+
+    /**
+     * The number of ticks of this resolver.
+     */
+    private long tickCount = 0;
+
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
         this.updateManager(manager);
@@ -52,6 +97,21 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         this.location = location;
     }
 
+    /**
+     * Creates the empty slots of the timer wheel.
+     *
+     * @return the slots.
+     */
+    private static List<Set<IToken<?>>> createWheel()
+    {
+        final List<Set<IToken<?>>> slots = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++)
+        {
+            slots.add(new LinkedHashSet<>());
+        }
+        return slots;
+    }
+
     @Override
     public void updateManager(final IRequestManager manager)
     {
@@ -106,8 +166,68 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IRetryable> request) throws RuntimeException
     {
-        delays.put(request.getId(), getMaximalDelayBetweenRetriesInTicks());
-        assignedRequests.put(request.getId(), assignedRequests.containsKey(request.getId()) ? assignedRequests.get(request.getId()) + 1 : 1);
+        final int attempt = assignedRequests.containsKey(request.getId()) ? assignedRequests.get(request.getId()) + 1 : 1;
+        assignedRequests.put(request.getId(), attempt);
+        schedule(request.getId(), getRetryDelay(attempt));
+    }
+
+    /**
+     * Get the jittered delay before a retry.
+     *
+     * @param attempt the attempt the request is in.
+     * @return the delay in ticks.
+     */
+    private int getRetryDelay(final int attempt)
+    {
+        final int delay = Math.min(getMaximalDelayBetweenRetriesInTicks(), INITIAL_RETRY_DELAY << Math.min(Math.max(0, attempt - 1), MAX_RETRIES));
+        return Math.max(1, delay - ThreadLocalRandom.current().nextInt((int) (delay * RETRY_JITTER) + 1));
+    }
+
+    /**
+     * Schedules the retry of a request.
+     *
+     * @param token the request token.
+     * @param delay the delay in ticks, the request is due right away if not positive.
+     */
+    private void schedule(final IToken<?> token, final int delay)
+    {
+        unschedule(token);
+        if (delay <= 0)
+        {
+            ready.add(token);
+            return;
+        }
+
+        final long due = tickCount + delay;
+        dueTicks.put(token, due);
+        wheel.get((int) (due & WHEEL_MASK)).add(token);
+    }
+
+    /**
+     * Removes a request from the timer wheel and the due requests.
+     *
+     * @param token the request token.
+     */
+    private void unschedule(final IToken<?> token)
+    {
+        final Long due = dueTicks.remove(token);
+        if (due != null)
+        {
+            wheel.get((int) (due & WHEEL_MASK)).remove(token);
+        }
+        ready.remove(token);
+        woken.remove(token);
+    }
+
+    /**
+     * Makes a request due right away, ahead of the requests which became due by their delay. It is reassigned without considering this resolver.
+     *
+     * @param token the request token.
+     */
+    private void wake(final IToken<?> token)
+    {
+        unschedule(token);
+        woken.add(token);
     }
 
     @Nullable
@@ -124,7 +244,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         if (assignedRequests.containsKey(request.getId()))
         {
-            delays.remove(request.getId());
+            unschedule(request.getId());
             assignedRequests.remove(request.getId());
         }
     }
@@ -145,53 +265,94 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void tick()
     {
-        manager.log("Starting reassignment.");
-
-        //Lets decrement all delays
-        getAllAssignedRequests().forEach(t -> {
-            Integer current = delays.remove(t);
-            delays.put(t, --current);
-        });
-
-        //Lets get all keys with 0 residual delay:
-        final Set<IToken<?>> retryables = delays.keySet().stream().filter(t -> delays.get(t) == 0).collect(Collectors.toSet());
-        final Set<IToken<?>> successfully = retryables.stream().filter(t -> {
-            final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+        tickCount++;
+        final Set<IToken<?>> slot = wheel.get((int) (tickCount & WHEEL_MASK));
+        if (!slot.isEmpty())
+        {
+            final Iterator<IToken<?>> iterator = slot.iterator();
+            while (iterator.hasNext())
+            {
+                final IToken<?> token = iterator.next();
+                if (dueTicks.get(token) <= tickCount)
+                {
+                    iterator.remove();
+                    dueTicks.remove(token);
+                    ready.add(token);
+                }
+            }
+        }
 
-            Integer currentAttempt = assignedRequests.get(t);
+        if (woken.isEmpty() && ready.isEmpty())
+        {
+            return;
+        }
 
-            this.setCurrent(t);
-            final IToken<?> resultingResolver;
+        manager.log("Starting reassignment.");
 
-            try
-            {
-                resultingResolver = manager.reassignRequest(t, blackList);
-            }
-            catch (Exception ex)
+        int budget = MAX_REASSIGNMENTS_PER_TICK;
+        while (budget > 0 && (!woken.isEmpty() || !ready.isEmpty()))
+        {
+            final boolean wasWoken = !woken.isEmpty();
+            final Set<IToken<?>> queue = wasWoken ? woken : ready;
+            final IToken<?> token = queue.iterator().next();
+            queue.remove(token);
+            if (assignedRequests.containsKey(token))
             {
-                assignedRequests.remove(t);
-                delays.remove(t);
-                return false;
+                budget--;
+                reassign(token, wasWoken);
             }
+        }
 
-            this.setCurrent(null);
+        manager.log("Finished reassignment.");
+    }
 
-            assignedRequests.put(t, ++currentAttempt);
+    /**
+     * Reassigns a due request, requests which end up with this resolver again are scheduled for their next retry.
+     *
+     * @param token    the request token.
+     * @param wasWoken if the request was woken by a colony update, then it is not assigned to this resolver again.
+     */
+    private void reassign(final IToken<?> token, final boolean wasWoken)
+    {
+        int currentAttempt = assignedRequests.get(token);
+        final Set<IToken<?>> blackList = !wasWoken && currentAttempt < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
 
-            if (resultingResolver != null && !resultingResolver.equals(getId()))
-            {
-                assignedRequests.remove(t);
-                delays.remove(t);
-            }
+        this.setCurrent(token);
+        final IToken<?> resultingResolver;
+
+        try
+        {
+            resultingResolver = manager.reassignRequest(token, blackList);
+        }
+        catch (Exception ex)
+        {
+            assignedRequests.remove(token);
+            unschedule(token);
+            return;
+        }
+        finally
+        {
+            this.setCurrent(null);
+        }
 
-            return resultingResolver != null;
-        }).collect(Collectors.toSet());
+        if (resultingResolver != null && !resultingResolver.equals(getId()))
+        {
+            assignedRequests.remove(token);
+            unschedule(token);
+            return;
+        }
 
-        successfully.forEach(t -> {
-            manager.log("Failed to reassign a retryable request: " + id);
-        });
+        if (resultingResolver == null)
+        {
+            manager.log("Failed to reassign a retryable request: " + token);
+        }
 
-        manager.log("Finished reassignment.");
+        // The reassignment cancelled and resolved the request again, which restarted its attempts, so the attempt and its backoff are restored here
+        if (assignedRequests.containsKey(token))
+        {
+            assignedRequests.put(token, ++currentAttempt);
+            schedule(token, getRetryDelay(currentAttempt));
+        }
     }
 
     @Override
@@ -204,7 +365,10 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     public void onSystemReset()
     {
         assignedRequests.clear();
-        delays.clear();
+        dueTicks.clear();
+        ready.clear();
+        woken.clear();
+        wheel.forEach(Set::clear);
     }
 
     public void setCurrent(@Nullable final IToken<?> token)
@@ -246,15 +410,22 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
 
     public void updateData(@NotNull final Map<IToken<?>, Integer> newAssignedRequests, @NotNull final Map<IToken<?>, Integer> newDelays)
     {
-        this.assignedRequests.clear();
+        onSystemReset();
         this.assignedRequests.putAll(newAssignedRequests);
-
-        this.delays.clear();
-        this.delays.putAll(newDelays);
+        newDelays.forEach(this::schedule);
     }
 
+    /**
+     * Get the remaining delays of the scheduled requests.
+     *
+     * @return a new map of the remaining delay per request, 0 for the due ones.
+     */
     public Map<IToken<?>, Integer> getDelays()
     {
+        final Map<IToken<?>, Integer> delays = new HashMap<>();
+        dueTicks.forEach((token, due) -> delays.put(token, (int) (due - tickCount)));
+        ready.forEach(token -> delays.put(token, 0));
+        woken.forEach(token -> delays.put(token, 0));
         return delays;
     }
 
@@ -274,11 +445,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
               {
                   if (shouldTriggerReassign.test(request))
                   {
-                      final IToken<?> newResolverToken = manager.reassignRequest(request.getId(), ImmutableList.of(getId()));
-                      if (newResolverToken != null && !newResolverToken.equals(getId()))
-                      {
-                          assignedRequests.remove(request.getId());
-                      }
+                      wake(request.getId());
                   }
                   else
                   {
@@ -298,6 +465,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
                               if (newResolverToken != getId())
                               {
                                   assignedRequests.remove(request.getId());
+                                  unschedule(request.getId());
                                   break;
                               }
                           }
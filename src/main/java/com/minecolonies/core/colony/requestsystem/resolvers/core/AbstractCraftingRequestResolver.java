@@ -205,7 +205,8 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
       @Nullable final IRequest<? extends IDeliverable> targetRequest,
         final int count)
     {
-        if (count > MAX_CRAFTING_CYCLE_DEPTH)
+        // The depth of the remaining parents is known, so too deep chains are aborted without walking them.
+        if (count + request.getChainDepth() > MAX_CRAFTING_CYCLE_DEPTH)
         {
             return true;
         }
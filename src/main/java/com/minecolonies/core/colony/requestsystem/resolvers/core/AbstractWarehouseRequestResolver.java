@@ -35,6 +35,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 
 import static com.minecolonies.api.colony.requestsystem.requestable.deliveryman.AbstractDeliverymanRequestable.getDefaultDeliveryPriority;
+import static com.minecolonies.api.util.constant.Constants.MAX_REQUEST_CHAIN_DEPTH;
 import static com.minecolonies.api.util.constant.RSConstants.CONST_WAREHOUSE_RESOLVER_PRIORITY;
 
 /**
@@ -101,19 +102,28 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
                 return false;
             }
 
+            if (totalCount >= requestToCheck.getRequest().getCount())
+            {
+                return true;
+            }
+
             try
             {
-                for (final Map.Entry<BlockPos, IBuilding> building : colony.getBuildingManager().getBuildings().entrySet())
+                final List<BlockPos> otherWareHouses = new ArrayList<>();
+                for (final IWareHouse otherWareHouse : colony.getBuildingManager().getWareHouses())
                 {
-                    if (building.getValue().getBuildingType() == ModBuildings.wareHouse.get() && building.getValue() != wareHouse)
+                    if (otherWareHouse != wareHouse && otherWareHouse instanceof BuildingWareHouse)
                     {
-                        totalCount += getWarehouseInternalCount((BuildingWareHouse) building.getValue(), requestToCheck);
-                        if (totalCount >= requestToCheck.getRequest().getCount())
-                        {
-                            return true;
-                        }
+                        otherWareHouses.add(otherWareHouse.getPosition());
                     }
                 }
+
+                // The other warehouses are counted through the colony wide index instead of their racks
+                final int leftOver = requestToCheck.getRequest() instanceof INonExhaustiveDeliverable neDeliverable ? neDeliverable.getLeftOver() : 0;
+                for (final int count : colony.getItemAvailability().getCounts(stack -> requestToCheck.getRequest().matches(stack), otherWareHouses).values())
+                {
+                    totalCount += Math.max(0, count - leftOver);
+                }
                 return totalCount >= requestToCheck.getRequest().getCount();
             }
             catch (Exception e)
@@ -125,27 +135,15 @@ public abstract class AbstractWarehouseRequestResolver extends AbstractRequestRe
     }
 
     /**
-     * Use to verify that a request chain is valid, and doesn't contain recursive cycles.
-     * @param manager
-     * @param requestToCheck
-     * @return
+     * Use to verify that a request chain is valid, and doesn't contain recursive cycles. The request handler refuses to link cycles and keeps the depth of every request in its
+     * chain, so this does not walk the parents.
+     * @param manager the request manager.
+     * @param requestToCheck the request to check.
+     * @return true if the chain is not deeper than the max request chain depth.
      */
     public boolean isRequestChainValid(@NotNull final IRequestManager manager, final IRequest<?> requestToCheck)
     {
-        if (!requestToCheck.hasParent())
-        {
-            return true;
-        }
-
-        final IRequest<?> parentRequest = manager.getRequestForToken(requestToCheck.getParent());
-
-        //Should not happen but just to be sure.
-        if (parentRequest == null)
-        {
-            return true;
-        }
-
-        return isRequestChainValid(manager, parentRequest);
+        return requestToCheck.getChainDepth() <= MAX_REQUEST_CHAIN_DEPTH;
     }
 
     @Nullable
@@ -11,7 +11,10 @@ public abstract class CommandArgumentNames
     public static final String RAID_NOW       = "now";
     public static final String RAID_TONIGHT   = "tonight";
     public static final String POS_ARG = "location";
+    public static final String PROFILE_ACTION_ARG = "action";
 
     public static final String RANGE_ARG = "range";
     public static final String ADD_ARG   = "add";
+
+    public static final String BACKUP_ARG = "backup";
 }
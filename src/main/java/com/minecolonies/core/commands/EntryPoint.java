@@ -54,6 +54,7 @@ public class EntryPoint
           .addNode(new CommandReclaimChunks().build())
           .addNode(new CommandLoadBackup().build())
           .addNode(new CommandLoadAllBackups().build())
+          .addNode(new CommandRestoreBackup().build())
           .addNode(new CommandColonyInfo().build())
           .addNode(new CommandColonyPrintStats().build())
           .addNode(new CommandColonyRaidsInfo().build())
@@ -61,7 +62,9 @@ public class EntryPoint
           .addNode(new CommandRSReset().build())
           .addNode(new CommandRSResetAll().build())
           .addNode(new CommandSetAbandoned().build())
-          .addNode(new CommandExportColony().build());
+          .addNode(new CommandExportColony().build())
+          .addNode(new CommandColonyProfile().build())
+          .addNode(new CommandColonyCouriers().build());
 
         /*
          * Citizen commands subtree
@@ -93,7 +96,8 @@ public class EntryPoint
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
           .addNode(new ScanCommand().build())
-          .addNode(new CommandPruneWorld().build());
+          .addNode(new CommandPruneWorld().build())
+          .addNode(new CommandPathfindingStats().build());
 
         /*
          * Root minecolonies alias command tree, all subtrees are added here.
@@ -112,7 +116,8 @@ public class EntryPoint
           .addNode(new CommandBackup().build())
           .addNode(new CommandResetPlayerSupplies().build())
           .addNode(new CommandHelp().build())
-          .addNode(new CommandPruneWorld().build());
+          .addNode(new CommandPruneWorld().build())
+          .addNode(new CommandPathfindingStats().build());
 
         // Adds all command trees to the dispatcher to register the commands.
         dispatcher.register(minecoloniesRoot.build());
@@ -0,0 +1,83 @@
+package com.minecolonies.core.commands.colonycommands;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import com.minecolonies.core.colony.buildings.modules.BuildingModules;
+import com.minecolonies.core.colony.buildings.modules.DeliveryRoutePlanner;
+import com.minecolonies.core.colony.buildings.modules.WarehouseRequestQueueModule;
+import com.minecolonies.core.colony.jobs.JobDeliveryman;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.COMMAND_COLONY_ID_NOT_FOUND;
+import static com.minecolonies.core.commands.CommandArgumentNames.COLONYID_ARG;
+
+/**
+ * Prints the route metrics of the warehouses and the idle time of their couriers.
+ */
+public class CommandColonyCouriers implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final int colonyID = IntegerArgumentType.getInteger(context, COLONYID_ARG);
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyID, context.getSource().getLevel().dimension());
+        if (colony == null)
+        {
+            context.getSource().sendSuccess(() -> Component.translatable(COMMAND_COLONY_ID_NOT_FOUND, colonyID), true);
+            return 0;
+        }
+
+        for (final IWareHouse wareHouse : colony.getBuildingManager().getWareHouses())
+        {
+            final WarehouseRequestQueueModule module = wareHouse.getModule(BuildingModules.WAREHOUSE_REQUEST_QUEUE);
+            final DeliveryRoutePlanner planner = module.getRoutePlanner();
+            final String line = String.format("Warehouse %s: %d queued, %d routes, %.1f requests and %.1f blocks per route",
+              wareHouse.getID().toShortString(),
+              module.getMutableRequestList().size(),
+              planner.getRoutes(),
+              planner.getAverageRouteTasks(),
+              planner.getAverageRouteLength());
+            context.getSource().sendSuccess(() -> Component.literal(line), false);
+
+            for (final ICitizenData citizen : wareHouse.getModule(BuildingModules.WAREHOUSE_COURIERS).getAssignedCitizen())
+            {
+                if (citizen.getJob() instanceof final JobDeliveryman job)
+                {
+                    final String courierLine = String.format("  %s: %d queued, idle for %ds", citizen.getName(), job.getTaskQueue().size(), job.getIdleTicks() / 20);
+                    context.getSource().sendSuccess(() -> Component.literal(courierLine), false);
+                }
+            }
+        }
+
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "couriers";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+          .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1)).executes(this::checkPreConditionAndExecute));
+    }
+}
@@ -0,0 +1,204 @@
+package com.minecolonies.core.commands.colonycommands;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickProfiler;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+import static com.minecolonies.core.commands.CommandArgumentNames.COLONYID_ARG;
+import static com.minecolonies.core.commands.CommandArgumentNames.PROFILE_ACTION_ARG;
+
+/**
+ * Controls the tick profiler of the colony and worker statemachines, prints its report and dumps it to json.
+ */
+public class CommandColonyProfile implements IMCOPCommand
+{
+    /**
+     * The possible actions.
+     */
+    private static final String START  = "start";
+    private static final String STOP   = "stop";
+    private static final String REPORT = "report";
+    private static final String DUMP   = "dump";
+
+    /**
+     * Amount of entries printed by the report.
+     */
+    private static final int REPORT_ENTRIES = 10;
+
+    /**
+     * File name of the dumps.
+     */
+    private static final String FILENAME_PROFILE = "profile-%s.json";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        return profileExecute(context, -1);
+    }
+
+    /**
+     * Executes the report for a single colony.
+     *
+     * @param context the context of the command execution
+     * @return 1 if successful and 0 if incomplete.
+     */
+    public int onColonyExecute(final CommandContext<CommandSourceStack> context)
+    {
+        if (!checkPreCondition(context))
+        {
+            return 0;
+        }
+        return profileExecute(context, IntegerArgumentType.getInteger(context, COLONYID_ARG));
+    }
+
+    /**
+     * Runs the requested action.
+     *
+     * @param context  the context of the command execution
+     * @param colonyId the colony to limit the report to, -1 for all.
+     * @return 1 if successful and 0 if incomplete.
+     */
+    private int profileExecute(final CommandContext<CommandSourceStack> context, final int colonyId)
+    {
+        final CommandSourceStack source = context.getSource();
+        switch (StringArgumentType.getString(context, PROFILE_ACTION_ARG))
+        {
+            case START:
+                TickProfiler.start();
+                source.sendSuccess(() -> Component.literal("Started profiling colony and worker transitions."), true);
+                return 1;
+            case STOP:
+                TickProfiler.stop();
+                source.sendSuccess(() -> Component.literal("Stopped profiling after " + TickProfiler.getRecordedMillis() + "ms."), true);
+                return 1;
+            case REPORT:
+                report(source, colonyId);
+                return 1;
+            case DUMP:
+                return dump(source);
+            default:
+                source.sendFailure(Component.literal("Unknown action, use one of: " + String.join(", ", START, STOP, REPORT, DUMP)));
+                return 0;
+        }
+    }
+
+    /**
+     * Prints the transitions with the highest total time.
+     *
+     * @param source   the command source.
+     * @param colonyId the colony to limit the report to, -1 for all.
+     */
+    private static void report(final CommandSourceStack source, final int colonyId)
+    {
+        final long millis = TickProfiler.getRecordedMillis();
+        source.sendSuccess(() -> Component.literal("Profiled " + millis + "ms" + (TickProfiler.isEnabled() ? " (still recording)" : "") + ":"), false);
+
+        int printed = 0;
+        final List<TickProfiler.Entry> entries = TickProfiler.getEntries();
+        for (final TickProfiler.Entry entry : entries)
+        {
+            if (colonyId != -1 && entry.colony() != colonyId)
+            {
+                continue;
+            }
+
+            final String line = String.format("Colony %d %s %s/%s: %d calls, total %.2fms, p50 %dus, p99 %dus, max %dus",
+              entry.colony(),
+              entry.owner(),
+              entry.state(),
+              entry.transition(),
+              entry.count(),
+              entry.totalNanos() / 1_000_000D,
+              entry.p50Nanos() / 1000,
+              entry.p99Nanos() / 1000,
+              entry.maxNanos() / 1000);
+            source.sendSuccess(() -> Component.literal(line), false);
+
+            if (++printed >= REPORT_ENTRIES)
+            {
+                break;
+            }
+        }
+
+        if (printed == 0)
+        {
+            source.sendSuccess(() -> Component.literal("No samples recorded."), false);
+        }
+    }
+
+    /**
+     * Writes the full recording to a json file in the minecolonies save folder.
+     *
+     * @param source the command source.
+     * @return 1 if successful and 0 if not.
+     */
+    private static int dump(final CommandSourceStack source)
+    {
+        final Path saveDir = source.getServer().getWorldPath(LevelResource.ROOT).resolve(FILENAME_MINECOLONIES_PATH);
+        final Path file = saveDir.resolve(String.format(FILENAME_PROFILE, new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date())));
+        try
+        {
+            Files.createDirectories(saveDir);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+            {
+                GSON.toJson(TickProfiler.toJson(), writer);
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Failed to write the tick profile to: " + file, e);
+            source.sendFailure(Component.literal("Failed to write the profile, see the log."));
+            return 0;
+        }
+
+        source.sendSuccess(() -> Component.literal("Wrote profile to " + file.toAbsolutePath()), true);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "profile";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .then(IMCCommand.newArgument(PROFILE_ACTION_ARG, StringArgumentType.word())
+                         .suggests((ctx, builder) -> SharedSuggestionProvider.suggest(new String[] {START, STOP, REPORT, DUMP}, builder))
+                         .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1)).executes(this::onColonyExecute))
+                         .executes(this::checkPreConditionAndExecute));
+    }
+}
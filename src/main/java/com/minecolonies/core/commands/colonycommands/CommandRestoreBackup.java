@@ -0,0 +1,81 @@
+package com.minecolonies.core.commands.colonycommands;
+
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.util.BackUpHelper;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import static com.minecolonies.core.commands.CommandArgumentNames.BACKUP_ARG;
+
+/**
+ * Lists the stored backups, or restores the colonies from one of them.
+ */
+public class CommandRestoreBackup implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final String name = getBackupName(context);
+        if (name == null)
+        {
+            for (final String backup : BackUpHelper.getBackups())
+            {
+                context.getSource().sendSuccess(() -> Component.literal(backup), false);
+            }
+            return 1;
+        }
+
+        if (!BackUpHelper.restoreBackup(name))
+        {
+            context.getSource().sendSuccess(() -> Component.literal("Unable to restore backup " + name), true);
+            return 0;
+        }
+
+        context.getSource().sendSuccess(() -> Component.literal("Restored backup " + name), true);
+        return 1;
+    }
+
+    /**
+     * Get the backup name argument.
+     *
+     * @param context the context of the command execution.
+     * @return the name, or null if none was given.
+     */
+    private static String getBackupName(final CommandContext<CommandSourceStack> context)
+    {
+        try
+        {
+            return StringArgumentType.getString(context, BACKUP_ARG);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "restoreBackup";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .executes(this::checkPreConditionAndExecute)
+                 .then(IMCCommand.newArgument(BACKUP_ARG, StringArgumentType.word()).executes(this::checkPreConditionAndExecute));
+    }
+}
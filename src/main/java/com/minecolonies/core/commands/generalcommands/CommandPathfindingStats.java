@@ -0,0 +1,55 @@
+package com.minecolonies.core.commands.generalcommands;
+
+import com.minecolonies.core.commands.commandTypes.IMCCommand;
+import com.minecolonies.core.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.core.entity.pathfinding.PathJobQueue;
+import com.minecolonies.core.entity.pathfinding.Pathfinding;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import java.util.Map;
+
+/**
+ * Prints the pathfinding queue depth and wait time metrics.
+ */
+public class CommandPathfindingStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final PathJobQueue queue = Pathfinding.getJobQueue();
+        context.getSource().sendSuccess(() -> Component.literal(queue.getMetrics()), false);
+
+        for (final Map.Entry<Integer, Integer> entry : queue.getQueueDepthPerColony().entrySet())
+        {
+            context.getSource().sendSuccess(() -> Component.literal("Colony " + entry.getKey() + ": " + entry.getValue() + " queued"), false);
+        }
+
+        queue.resetMetrics();
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     *
+     * @return this commands name.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathfindingstats";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName()).executes(this::checkPreConditionAndExecute);
+    }
+}
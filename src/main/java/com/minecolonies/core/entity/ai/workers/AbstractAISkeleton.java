@@ -10,6 +10,7 @@ import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingT
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.core.colony.ColonyTickScheduler;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
@@ -37,6 +38,11 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> implements ITickingS
     @NotNull
     private final ITickRateStateMachine<IAIState> stateMachine;
 
+    /**
+     * Amount of ticks in a row this AI was deferred by the {@link ColonyTickScheduler}.
+     */
+    private int deferredTicks = 0;
+
     /**
      * Sets up some important skeleton stuff for every ai.
      *
@@ -55,12 +61,22 @@ public abstract class AbstractAISkeleton<J extends IJob<?>> implements ITickingS
         this.worker = this.job.getCitizen().getEntity().get();
         this.world = CompatibilityUtils.getWorldFromCitizen(this.worker);
         stateMachine = new TickRateStateMachine<>(AIWorkerState.INIT, this::onException, ENTITY_AI_TICKRATE);
+        stateMachine.setProfilingContext(job.getColony().getID(), job.getJobRegistryEntry().getKey().getPath());
     }
 
     @Override
     public void tick()
     {
+        if (!ColonyTickScheduler.shouldTickWorker(job.getColony(), deferredTicks))
+        {
+            deferredTicks++;
+            return;
+        }
+
+        deferredTicks = 0;
+        final long start = System.nanoTime();
         stateMachine.tick();
+        ColonyTickScheduler.consume(System.nanoTime() - start);
     }
 
     /**
@@ -0,0 +1,680 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.BlockPosUtil.HORIZONTAL_DIRS;
+
+/**
+ * Abstract long distance layer of the pathfinding (HPA*). Every chunk stores the walkable surface entrances on its borders, called portals, together with the walking cost
+ * between each pair of its portals. Long paths are planned over this portal graph first and then refined segment by segment by the regular pathjobs. Chunk entries are built
+ * lazily from the chunk snapshot of a pathjob and dropped when a block in or next to the chunk changes.
+ */
+public final class ChunkPortalGraph
+{
+    /**
+     * Manhattan distance from which paths are planned over the portal graph.
+     */
+    public static final int MIN_HIERARCHICAL_DISTANCE = 128;
+
+    /**
+     * Route cost after which a refined segment ends.
+     */
+    private static final int SEGMENT_COST = 64;
+
+    /**
+     * Maximum amount of cached chunks per dimension.
+     */
+    private static final int MAX_CACHED_CHUNKS = 8192;
+
+    /**
+     * Maximum amount of portals expanded by a single route search.
+     */
+    private static final int MAX_EXPANSIONS = 8192;
+
+    /**
+     * Cost of walking and of swimming onto a column.
+     */
+    private static final int STEP_COST = 1;
+    private static final int SWIM_COST = 3;
+
+    /**
+     * Maximum height difference between two neighbouring columns which is walked.
+     */
+    private static final int MAX_STEP_HEIGHT = 1;
+
+    /**
+     * Maximum height difference between a position and its column surface for it to count as standing on the surface.
+     */
+    private static final int MAX_SURFACE_OFFSET = 2;
+
+    /**
+     * Cost multiplier for connecting positions away from the surface, e.g. inside buildings or underground, straight to the portals of their chunk.
+     */
+    private static final int OFF_SURFACE_COST_FACTOR = 2;
+
+    /**
+     * Marker values.
+     */
+    private static final int NO_SURFACE  = Integer.MIN_VALUE;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * The cached chunk portals per dimension, in access order to evict the least recently used first.
+     */
+    private static final Map<ResourceKey<Level>, Long2ObjectLinkedOpenHashMap<ChunkPortals>> graphs = new HashMap<>();
+
+    /**
+     * Amount of invalidations so far, used to not cache chunks which changed while they were built.
+     */
+    private static long invalidations = 0;
+
+    private ChunkPortalGraph()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * A position along a planned route.
+     *
+     * @param pos  the position.
+     * @param cost the route cost from the start to it.
+     */
+    public record Waypoint(BlockPos pos, int cost)
+    {}
+
+    /**
+     * Portals of one chunk.
+     *
+     * @param portals  positions of the portal columns inside the chunk, as long.
+     * @param links    positions of the connected columns in the neighbouring chunks, as long.
+     * @param costs    walking cost between each pair of portals, row major, UNREACHABLE if not connected within the chunk.
+     * @param complete whether all neighbouring chunks were available while building.
+     */
+    private record ChunkPortals(long[] portals, long[] links, int[] costs, boolean complete)
+    {
+        /**
+         * Get the index of the portal at the given position.
+         *
+         * @param pos the position as long.
+         * @return the index or -1.
+         */
+        int indexOf(final long pos)
+        {
+            for (int i = 0; i < portals.length; i++)
+            {
+                if (portals[i] == pos)
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Walkable surface of one chunk.
+     *
+     * @param heights standing height per local column (x | z << 4), or NO_SURFACE.
+     * @param swim    whether the column surface is a liquid.
+     */
+    private record Surface(int[] heights, boolean[] swim)
+    {}
+
+    /**
+     * Portal visited by a route search.
+     */
+    private static final class RouteNode
+    {
+        private final long         pos;
+        private final ChunkPortals portals;
+        private final long         chunk;
+        private final int          index;
+        private final int          heuristic;
+        private       int          cost   = UNREACHABLE;
+        private       RouteNode    parent = null;
+        private       boolean      closed = false;
+
+        private RouteNode(final long pos, final ChunkPortals portals, final long chunk, final int index, final int heuristic)
+        {
+            this.pos = pos;
+            this.portals = portals;
+            this.chunk = chunk;
+            this.index = index;
+            this.heuristic = heuristic;
+        }
+    }
+
+    /**
+     * Open set entry, stale once the node cost changed.
+     *
+     * @param node  the node.
+     * @param score the cost plus heuristic when queued.
+     */
+    private record OpenEntry(RouteNode node, int score)
+    {}
+
+    /**
+     * Get the end of the next refined segment of a long path: the first portal on the planned route which is at least SEGMENT_COST away from the start.
+     *
+     * @param world     the chunk snapshot of the pathjob.
+     * @param dimension the dimension.
+     * @param start     the start.
+     * @param goal      the goal.
+     * @return the segment target, or null if the path should be searched directly.
+     */
+    @Nullable
+    public static BlockPos getSegmentTarget(@NotNull final LevelReader world, @NotNull final ResourceKey<Level> dimension, @NotNull final BlockPos start, @NotNull final BlockPos goal)
+    {
+        if (BlockPosUtil.distManhattan(start, goal) < MIN_HIERARCHICAL_DISTANCE)
+        {
+            return null;
+        }
+
+        final List<Waypoint> route = findRoute(world, dimension, start, goal);
+        if (route == null)
+        {
+            return null;
+        }
+
+        for (int i = 0; i < route.size() - 1; i++)
+        {
+            if (route.get(i).cost() >= SEGMENT_COST)
+            {
+                return route.get(i).pos();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Plans a route over the portal graph.
+     *
+     * @param world     the chunk snapshot of the pathjob.
+     * @param dimension the dimension.
+     * @param start     the start.
+     * @param goal      the goal.
+     * @return the portals to pass in order, ending with the goal, or null if start and goal share a chunk or no route was found.
+     */
+    @Nullable
+    public static List<Waypoint> findRoute(@NotNull final LevelReader world, @NotNull final ResourceKey<Level> dimension, @NotNull final BlockPos start, @NotNull final BlockPos goal)
+    {
+        final int startChunkX = start.getX() >> 4;
+        final int startChunkZ = start.getZ() >> 4;
+        final int goalChunkX = goal.getX() >> 4;
+        final int goalChunkZ = goal.getZ() >> 4;
+        if (startChunkX == goalChunkX && startChunkZ == goalChunkZ)
+        {
+            return null;
+        }
+
+        final ChunkPortals startPortals = getPortals(world, dimension, startChunkX, startChunkZ);
+        final ChunkPortals goalPortals = getPortals(world, dimension, goalChunkX, goalChunkZ);
+        if (startPortals == null || goalPortals == null)
+        {
+            return null;
+        }
+
+        final int[] startCosts = connect(world, startPortals, start);
+        final int[] goalCosts = connect(world, goalPortals, goal);
+        final long startChunk = ChunkPos.asLong(startChunkX, startChunkZ);
+        final long goalChunk = ChunkPos.asLong(goalChunkX, goalChunkZ);
+
+        final Long2ObjectOpenHashMap<RouteNode> nodes = new Long2ObjectOpenHashMap<>();
+        final PriorityQueue<OpenEntry> open = new PriorityQueue<>(Comparator.comparingInt(OpenEntry::score));
+        for (int i = 0; i < startCosts.length; i++)
+        {
+            if (startCosts[i] != UNREACHABLE)
+            {
+                relax(nodes, open, null, startPortals, startChunk, i, startCosts[i], goal);
+            }
+        }
+
+        RouteNode best = null;
+        int bestCost = UNREACHABLE;
+        int expansions = 0;
+        while (!open.isEmpty() && expansions++ < MAX_EXPANSIONS)
+        {
+            final OpenEntry entry = open.poll();
+            final RouteNode node = entry.node();
+            if (node.closed || entry.score() != node.cost + node.heuristic)
+            {
+                continue;
+            }
+
+            if (entry.score() >= bestCost)
+            {
+                break;
+            }
+
+            node.closed = true;
+
+            if (node.chunk == goalChunk && goalCosts[node.index] != UNREACHABLE && node.cost + goalCosts[node.index] < bestCost)
+            {
+                best = node;
+                bestCost = node.cost + goalCosts[node.index];
+            }
+
+            // Within the chunk
+            final int count = node.portals.portals().length;
+            for (int j = 0; j < count; j++)
+            {
+                final int edgeCost = node.portals.costs()[node.index * count + j];
+                if (j != node.index && edgeCost != UNREACHABLE)
+                {
+                    relax(nodes, open, node, node.portals, node.chunk, j, node.cost + edgeCost, goal);
+                }
+            }
+
+            // Across the border
+            final long link = node.portals.links()[node.index];
+            final int linkChunkX = BlockPos.getX(link) >> 4;
+            final int linkChunkZ = BlockPos.getZ(link) >> 4;
+            final ChunkPortals linked = getPortals(world, dimension, linkChunkX, linkChunkZ);
+            if (linked != null)
+            {
+                final int linkIndex = linked.indexOf(link);
+                if (linkIndex >= 0)
+                {
+                    relax(nodes, open, node, linked, ChunkPos.asLong(linkChunkX, linkChunkZ), linkIndex, node.cost + STEP_COST, goal);
+                }
+            }
+        }
+
+        if (best == null)
+        {
+            return null;
+        }
+
+        final List<Waypoint> route = new ArrayList<>();
+        route.add(new Waypoint(goal, bestCost));
+        for (RouteNode node = best; node != null; node = node.parent)
+        {
+            route.add(new Waypoint(BlockPos.of(node.pos), node.cost));
+        }
+        Collections.reverse(route);
+        return route;
+    }
+
+    /**
+     * Drops the cached portals around a changed block.
+     *
+     * @param dimension the dimension.
+     * @param pos       the changed position.
+     */
+    public static void onBlockChanged(@NotNull final ResourceKey<Level> dimension, @NotNull final BlockPos pos)
+    {
+        synchronized (graphs)
+        {
+            invalidations++;
+            final Long2ObjectLinkedOpenHashMap<ChunkPortals> graph = graphs.get(dimension);
+            if (graph == null || graph.isEmpty())
+            {
+                return;
+            }
+
+            final int chunkX = pos.getX() >> 4;
+            final int chunkZ = pos.getZ() >> 4;
+            graph.remove(ChunkPos.asLong(chunkX, chunkZ));
+
+            // Border columns are part of the neighbour's portals too
+            final int localX = pos.getX() & 15;
+            final int localZ = pos.getZ() & 15;
+            if (localX == 0)
+            {
+                graph.remove(ChunkPos.asLong(chunkX - 1, chunkZ));
+            }
+            else if (localX == 15)
+            {
+                graph.remove(ChunkPos.asLong(chunkX + 1, chunkZ));
+            }
+
+            if (localZ == 0)
+            {
+                graph.remove(ChunkPos.asLong(chunkX, chunkZ - 1));
+            }
+            else if (localZ == 15)
+            {
+                graph.remove(ChunkPos.asLong(chunkX, chunkZ + 1));
+            }
+        }
+    }
+
+    /**
+     * Clears the whole graph.
+     */
+    public static void clear()
+    {
+        synchronized (graphs)
+        {
+            graphs.clear();
+        }
+    }
+
+    /**
+     * Queues the given portal with the given cost, if that is cheaper than known so far.
+     */
+    private static void relax(
+      final Long2ObjectOpenHashMap<RouteNode> nodes,
+      final PriorityQueue<OpenEntry> open,
+      @Nullable final RouteNode parent,
+      final ChunkPortals portals,
+      final long chunk,
+      final int index,
+      final int cost,
+      final BlockPos goal)
+    {
+        final long pos = portals.portals()[index];
+        RouteNode node = nodes.get(pos);
+        if (node == null)
+        {
+            node = new RouteNode(pos, portals, chunk, index, Math.abs(BlockPos.getX(pos) - goal.getX()) + Math.abs(BlockPos.getZ(pos) - goal.getZ()));
+            nodes.put(pos, node);
+        }
+
+        if (node.closed || cost >= node.cost)
+        {
+            return;
+        }
+
+        node.cost = cost;
+        node.parent = parent;
+        open.add(new OpenEntry(node, cost + node.heuristic));
+    }
+
+    /**
+     * Computes the cost from a position to each portal of its chunk.
+     *
+     * @param world   the chunk snapshot.
+     * @param portals the portals of the chunk of the position.
+     * @param pos     the position.
+     * @return the cost per portal index.
+     */
+    private static int[] connect(final LevelReader world, final ChunkPortals portals, final BlockPos pos)
+    {
+        final long[] positions = portals.portals();
+        final int[] costs = new int[positions.length];
+
+        final Surface surface = computeSurface(world, pos.getX() >> 4, pos.getZ() >> 4);
+        final int cell = (pos.getX() & 15) | (pos.getZ() & 15) << 4;
+        if (surface != null && surface.heights()[cell] != NO_SURFACE && Math.abs(surface.heights()[cell] - pos.getY()) <= MAX_SURFACE_OFFSET)
+        {
+            final int[] dist = computeDistances(surface, cell);
+            for (int i = 0; i < positions.length; i++)
+            {
+                costs[i] = dist[localCell(positions[i])];
+            }
+            return costs;
+        }
+
+        // Away from the surface the grid tells nothing, let the refining pathjob find the way out
+        for (int i = 0; i < positions.length; i++)
+        {
+            costs[i] = BlockPosUtil.distManhattan(pos, BlockPos.getX(positions[i]), BlockPos.getY(positions[i]), BlockPos.getZ(positions[i])) * OFF_SURFACE_COST_FACTOR;
+        }
+        return costs;
+    }
+
+    /**
+     * Get the portals of a chunk, building them if not cached.
+     *
+     * @param world     the chunk snapshot.
+     * @param dimension the dimension.
+     * @param chunkX    the chunk x.
+     * @param chunkZ    the chunk z.
+     * @return the portals or null if the chunk is not available.
+     */
+    @Nullable
+    private static ChunkPortals getPortals(final LevelReader world, final ResourceKey<Level> dimension, final int chunkX, final int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final long invalidationsBefore;
+        synchronized (graphs)
+        {
+            final Long2ObjectLinkedOpenHashMap<ChunkPortals> graph = graphs.get(dimension);
+            if (graph != null)
+            {
+                final ChunkPortals cached = graph.getAndMoveToLast(key);
+                if (cached != null)
+                {
+                    return cached;
+                }
+            }
+            invalidationsBefore = invalidations;
+        }
+
+        final ChunkPortals portals = buildPortals(world, chunkX, chunkZ);
+        if (portals == null || !portals.complete())
+        {
+            return portals;
+        }
+
+        synchronized (graphs)
+        {
+            if (invalidations == invalidationsBefore)
+            {
+                final Long2ObjectLinkedOpenHashMap<ChunkPortals> graph = graphs.computeIfAbsent(dimension, k -> new Long2ObjectLinkedOpenHashMap<>());
+                graph.putAndMoveToLast(key, portals);
+                while (graph.size() > MAX_CACHED_CHUNKS)
+                {
+                    graph.removeFirst();
+                }
+            }
+        }
+
+        return portals;
+    }
+
+    /**
+     * Builds the portals of a chunk, one per walkable stretch of each border.
+     *
+     * @param world  the chunk snapshot.
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the portals or null if the chunk is not available.
+     */
+    @Nullable
+    private static ChunkPortals buildPortals(final LevelReader world, final int chunkX, final int chunkZ)
+    {
+        final Surface surface = computeSurface(world, chunkX, chunkZ);
+        if (surface == null)
+        {
+            return null;
+        }
+
+        boolean complete = true;
+        final LongArrayList portals = new LongArrayList();
+        final LongArrayList links = new LongArrayList();
+        for (final Direction dir : HORIZONTAL_DIRS)
+        {
+            final int otherChunkX = chunkX + dir.getStepX();
+            final int otherChunkZ = chunkZ + dir.getStepZ();
+            final Surface other = computeSurface(world, otherChunkX, otherChunkZ);
+            if (other == null)
+            {
+                complete = false;
+                continue;
+            }
+
+            int runStart = -1;
+            for (int i = 0; i <= 16; i++)
+            {
+                final boolean open = i < 16 && canStep(surface.heights()[edgeCell(dir, i, true)], other.heights()[edgeCell(dir, i, false)]);
+                if (open && runStart < 0)
+                {
+                    runStart = i;
+                }
+                else if (!open && runStart >= 0)
+                {
+                    final int middle = (runStart + i - 1) / 2;
+                    portals.add(cellPos(surface, chunkX, chunkZ, edgeCell(dir, middle, true)));
+                    links.add(cellPos(other, otherChunkX, otherChunkZ, edgeCell(dir, middle, false)));
+                    runStart = -1;
+                }
+            }
+        }
+
+        final int count = portals.size();
+        final int[] costs = new int[count * count];
+        for (int i = 0; i < count; i++)
+        {
+            final int[] dist = computeDistances(surface, localCell(portals.getLong(i)));
+            for (int j = 0; j < count; j++)
+            {
+                costs[i * count + j] = dist[localCell(portals.getLong(j))];
+            }
+        }
+
+        return new ChunkPortals(portals.toLongArray(), links.toLongArray(), costs, complete);
+    }
+
+    /**
+     * Computes the walkable surface of a chunk from its heightmap.
+     *
+     * @param world  the chunk snapshot.
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the surface or null if the chunk is not available.
+     */
+    @Nullable
+    private static Surface computeSurface(final LevelReader world, final int chunkX, final int chunkZ)
+    {
+        final ChunkAccess chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+        if (chunk == null)
+        {
+            return null;
+        }
+
+        final int[] heights = new int[256];
+        final boolean[] swim = new boolean[256];
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int cell = 0; cell < 256; cell++)
+        {
+            final int top = chunk.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, cell & 15, cell >> 4);
+            pos.set((chunkX << 4) + (cell & 15), top, (chunkZ << 4) + (cell >> 4));
+            final BlockState ground = chunk.getBlockState(pos);
+            if (top < world.getMinBuildHeight() || SurfaceType.getSurfaceType(world, ground, pos) != SurfaceType.WALKABLE)
+            {
+                heights[cell] = NO_SURFACE;
+                continue;
+            }
+
+            heights[cell] = top + 1;
+            swim[cell] = PathfindingUtils.isLiquid(ground);
+        }
+
+        return new Surface(heights, swim);
+    }
+
+    /**
+     * Computes the walking cost from a column to every other column of the chunk.
+     *
+     * @param surface the chunk surface.
+     * @param source  the local source column.
+     * @return the cost per local column, UNREACHABLE if not reachable.
+     */
+    private static int[] computeDistances(final Surface surface, final int source)
+    {
+        final int[] dist = new int[256];
+        Arrays.fill(dist, UNREACHABLE);
+        if (surface.heights()[source] == NO_SURFACE)
+        {
+            return dist;
+        }
+
+        dist[source] = 0;
+        final LongHeapPriorityQueue queue = new LongHeapPriorityQueue();
+        queue.enqueue(source);
+        while (!queue.isEmpty())
+        {
+            final long entry = queue.dequeueLong();
+            final int cell = (int) (entry & 0xFF);
+            final int cost = (int) (entry >>> 8);
+            if (cost > dist[cell])
+            {
+                continue;
+            }
+
+            for (final Direction dir : HORIZONTAL_DIRS)
+            {
+                final int x = (cell & 15) + dir.getStepX();
+                final int z = (cell >> 4) + dir.getStepZ();
+                if (x < 0 || x > 15 || z < 0 || z > 15)
+                {
+                    continue;
+                }
+
+                final int next = x | z << 4;
+                if (!canStep(surface.heights()[cell], surface.heights()[next]))
+                {
+                    continue;
+                }
+
+                final int nextCost = cost + (surface.swim()[next] ? SWIM_COST : STEP_COST);
+                if (nextCost < dist[next])
+                {
+                    dist[next] = nextCost;
+                    queue.enqueue((long) nextCost << 8 | next);
+                }
+            }
+        }
+
+        return dist;
+    }
+
+    /**
+     * Whether two neighbouring columns are connected.
+     */
+    private static boolean canStep(final int height, final int otherHeight)
+    {
+        return height != NO_SURFACE && otherHeight != NO_SURFACE && Math.abs(height - otherHeight) <= MAX_STEP_HEIGHT;
+    }
+
+    /**
+     * Get the local column at the given offset along a chunk border.
+     *
+     * @param dir    the direction of the border, seen from the own chunk.
+     * @param offset the offset along the border.
+     * @param own    whether to get the column of the own chunk or the neighbouring one.
+     * @return the local column.
+     */
+    private static int edgeCell(final Direction dir, final int offset, final boolean own)
+    {
+        final int edge = (dir.getAxisDirection() == Direction.AxisDirection.POSITIVE) == own ? 15 : 0;
+        return dir.getAxis() == Direction.Axis.X ? edge | offset << 4 : offset | edge << 4;
+    }
+
+    /**
+     * Get the world position of a local column, as long.
+     */
+    private static long cellPos(final Surface surface, final int chunkX, final int chunkZ, final int cell)
+    {
+        return BlockPos.asLong((chunkX << 4) + (cell & 15), surface.heights()[cell], (chunkZ << 4) + (cell >> 4));
+    }
+
+    /**
+     * Get the local column of a world position given as long.
+     */
+    private static int localCell(final long pos)
+    {
+        return (BlockPos.getX(pos) & 15) | (BlockPos.getZ(pos) & 15) << 4;
+    }
+}
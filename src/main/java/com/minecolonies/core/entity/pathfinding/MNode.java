@@ -1,12 +1,10 @@
 package com.minecolonies.core.entity.pathfinding;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static com.minecolonies.api.util.constant.PathingConstants.SHIFT_X_BY;
-import static com.minecolonies.api.util.constant.PathingConstants.SHIFT_Y_BY;
-
 /**
  * Nodes used in pathfinding.
  */
@@ -23,9 +21,9 @@ public class MNode implements Comparable<MNode>
      * The position of the node.
      */
     @NotNull
-    public final int x;
-    public final int y;
-    public final int z;
+    public int x;
+    public int y;
+    public int z;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -78,6 +76,11 @@ public class MNode implements Comparable<MNode>
      */
     private boolean isReachedByWorker = false;
 
+    /**
+     * Slot of this node in the open set heap, -1 if not queued.
+     */
+    private int heapIndex = -1;
+
     /**
      * Create a Node that inherits from a parent, and has a Cost and Heuristic estimate.
      *
@@ -95,6 +98,31 @@ public class MNode implements Comparable<MNode>
         this.heuristic = heuristic;
     }
 
+    /**
+     * Resets a node of the search arena's pool for reuse as a new node.
+     *
+     * @param parent    parent node arrives from.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     */
+    void reset(@Nullable final MNode parent, final int posX, final int posY, final int posZ, final double cost, final double heuristic)
+    {
+        this.parent = parent;
+        this.x = posX;
+        this.y = posY;
+        this.z = posZ;
+        this.cost = cost;
+        this.heuristic = heuristic;
+        this.counterAdded = 0;
+        this.visited = false;
+        this.ladder = false;
+        this.swimming = false;
+        this.isOnRails = false;
+        this.isCornerNode = false;
+        this.isReachedByWorker = false;
+        this.heapIndex = -1;
+    }
+
     /**
      * Create an MNode from a bytebuf.
      * @param byteBuf the buffer to load it from.
@@ -366,6 +394,26 @@ public class MNode implements Comparable<MNode>
         return isCornerNode;
     }
 
+    /**
+     * Get the slot of this node in the open set heap.
+     *
+     * @return the slot, -1 if not queued.
+     */
+    public int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Sets the slot of this node in the open set heap.
+     *
+     * @param heapIndex the slot.
+     */
+    public void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
+
     /**
      * Get the added index
      *
@@ -377,15 +425,12 @@ public class MNode implements Comparable<MNode>
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates Encodes the lowest 12 bits of x,z and all useful bits of y. This creates unique keys for all
-     * blocks within a 4096x256x4096 cube, which is FAR bigger volume than one should attempt to pathfind within
+     * Generate the key for identifying a given node by it's coordinates, unique for every position in the world.
      *
      * @return key for node in map
      */
-    public static int computeNodeKey(final int x, final int y, final int z)
+    public static long computeNodeKey(final int x, final int y, final int z)
     {
-        return ((x & 0xFFF) << SHIFT_X_BY)
-                 | ((y & 0xFF) << SHIFT_Y_BY)
-                 | (z & 0xFFF);
+        return BlockPos.asLong(x, y, z);
     }
 }
@@ -0,0 +1,286 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Indexed binary min-heap of nodes. Each node stores its own heap slot, which makes contains, remove and key updates O(log n) instead of the linear scans of a
+ * {@link java.util.PriorityQueue}.
+ */
+public class MNodeHeap
+{
+    /**
+     * Initial capacity of the backing array.
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Capacity above which the backing array is shrunk again on clear, to not hold on to huge arrays.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    /**
+     * The heap array.
+     */
+    private MNode[] heap = new MNode[INITIAL_CAPACITY];
+
+    /**
+     * Amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * The ordering used.
+     */
+    private Comparator<MNode> comparator = MNode::compareTo;
+
+    /**
+     * Adds a node.
+     *
+     * @param node the node to add.
+     */
+    public void offer(@NotNull final MNode node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+
+        heap[size] = node;
+        node.setHeapIndex(size);
+        siftUp(size++);
+    }
+
+    /**
+     * Removes and returns the smallest node.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public MNode poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final MNode result = heap[0];
+        removeAt(0);
+        return result;
+    }
+
+    /**
+     * Whether the node is queued in this heap.
+     *
+     * @param node the node to check.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final MNode node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * Removes the given node if queued.
+     *
+     * @param node the node to remove.
+     * @return true if it was removed.
+     */
+    public boolean remove(@NotNull final MNode node)
+    {
+        if (!contains(node))
+        {
+            return false;
+        }
+
+        removeAt(node.getHeapIndex());
+        return true;
+    }
+
+    /**
+     * Restores the heap order for a node whose cost or heuristic changed, or adds it if not queued.
+     *
+     * @param node the changed node.
+     */
+    public void update(@NotNull final MNode node)
+    {
+        if (!contains(node))
+        {
+            offer(node);
+            return;
+        }
+
+        final int index = node.getHeapIndex();
+        siftUp(index);
+        siftDown(node.getHeapIndex());
+    }
+
+    /**
+     * Rebuilds the heap order in place, used after changing keys of many nodes at once.
+     */
+    public void heapify()
+    {
+        for (int i = (size >>> 1) - 1; i >= 0; i--)
+        {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Changes the ordering of the heap and rebuilds it in place.
+     *
+     * @param comparator the new ordering.
+     */
+    public void setComparator(@NotNull final Comparator<MNode> comparator)
+    {
+        this.comparator = comparator;
+        heapify();
+    }
+
+    /**
+     * Get the node at the given slot, in heap array order.
+     *
+     * @param index the slot.
+     * @return the node.
+     */
+    public MNode get(final int index)
+    {
+        return heap[index];
+    }
+
+    /**
+     * Amount of queued nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Whether the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Removes all nodes and resets the ordering.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+        }
+
+        if (heap.length > MAX_RETAINED_CAPACITY)
+        {
+            heap = new MNode[INITIAL_CAPACITY];
+        }
+        else
+        {
+            Arrays.fill(heap, 0, size, null);
+        }
+
+        size = 0;
+        comparator = MNode::compareTo;
+    }
+
+    /**
+     * Removes the node at the given slot.
+     *
+     * @param index the slot.
+     */
+    private void removeAt(final int index)
+    {
+        final MNode removed = heap[index];
+        removed.setHeapIndex(-1);
+
+        final int last = --size;
+        if (index != last)
+        {
+            final MNode moved = heap[last];
+            heap[index] = moved;
+            moved.setHeapIndex(index);
+            heap[last] = null;
+            siftDown(index);
+            if (heap[index] == moved)
+            {
+                siftUp(index);
+            }
+        }
+        else
+        {
+            heap[last] = null;
+        }
+    }
+
+    /**
+     * Moves the node at the slot up until its parent is smaller.
+     *
+     * @param index the slot.
+     */
+    private void siftUp(int index)
+    {
+        final MNode node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final MNode parent = heap[parentIndex];
+            if (comparator.compare(node, parent) >= 0)
+            {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    /**
+     * Moves the node at the slot down until its children are larger.
+     *
+     * @param index the slot.
+     */
+    private void siftDown(int index)
+    {
+        final MNode node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            MNode child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && comparator.compare(heap[rightIndex], child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[childIndex];
+            }
+
+            if (comparator.compare(node, child) <= 0)
+            {
+                break;
+            }
+
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
@@ -0,0 +1,285 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.core.MineColonies;
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Server wide cache of computed paths, shared by all path jobs. Entries are invalidated when a block update is notified in any chunk the path crosses. Not every block
+ * change notifies its neighbours, so the blocks along a path are also compared against the world before the path is handed out again.
+ */
+public final class PathCache
+{
+    /**
+     * Maximum amount of cached paths.
+     */
+    private static final int MAX_ENTRIES = 2000;
+
+    /**
+     * Time in ms after which a cached path is no longer handed out.
+     */
+    private static final long MAX_AGE_MS = 60 * 1000;
+
+    /**
+     * The blocks recorded per path point: below, at and above the point.
+     */
+    private static final int STATES_PER_POINT = 3;
+
+    /**
+     * The cached paths, in insertion order to evict the oldest first.
+     */
+    private static final LinkedHashMap<Key, CachedPath> cache = new LinkedHashMap<>();
+
+    /**
+     * Chunk to cache keys crossing that chunk.
+     */
+    private static final Long2ObjectOpenHashMap<Set<Key>> keysByChunk = new Long2ObjectOpenHashMap<>();
+
+    private PathCache()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Key of a cached path.
+     *
+     * @param dimension the dimension the path is in.
+     * @param start     the start pos as long.
+     * @param end       the goal pos as long.
+     * @param jobClass  the pathjob class which created the path.
+     * @param flags     the relevant pathing option flags.
+     */
+    public record Key(ResourceKey<Level> dimension, long start, long end, Class<?> jobClass, int flags)
+    {}
+
+    /**
+     * A cached path entry.
+     *
+     * @param points    the path points.
+     * @param states    the blocks along the path when it was cached.
+     * @param target    the path target.
+     * @param chunks    the chunks the path crosses.
+     * @param timestamp the time the path was cached.
+     */
+    private record CachedPath(Node[] points, BlockState[] states, BlockPos target, LongSet chunks, long timestamp)
+    {}
+
+    /**
+     * Get a copy of the cached path for the given job, if one exists.
+     *
+     * @param job the job to check.
+     * @return a fresh path instance or null if none is cached.
+     */
+    @Nullable
+    public static Path getPath(@NotNull final AbstractPathJob job)
+    {
+        if (!MineColonies.getConfig().getServer().pathfindingCache.get())
+        {
+            return null;
+        }
+
+        final Key key = job.getCacheKey();
+        if (key == null)
+        {
+            return null;
+        }
+
+        final CachedPath cached;
+        synchronized (cache)
+        {
+            cached = cache.get(key);
+            if (cached == null)
+            {
+                return null;
+            }
+
+            if (System.currentTimeMillis() - cached.timestamp > MAX_AGE_MS)
+            {
+                remove(key);
+                return null;
+            }
+        }
+
+        if (!matchesWorld(cached, job.getWorld()))
+        {
+            synchronized (cache)
+            {
+                if (cache.get(key) == cached)
+                {
+                    remove(key);
+                }
+            }
+            return null;
+        }
+
+        final Node[] points = new Node[cached.points.length];
+        for (int i = 0; i < points.length; i++)
+        {
+            final Node point = cached.points[i];
+            points[i] = point instanceof PathPointExtended extended ? new PathPointExtended(extended) : new PathPointExtended(new BlockPos(point.x, point.y, point.z));
+            if (i > 0)
+            {
+                points[i].cameFrom = points[i - 1];
+            }
+        }
+
+        return new Path(Arrays.asList(points), cached.target, true);
+    }
+
+    /**
+     * Stores the finished path of the given job, if the job is cacheable and the path reaches its destination.
+     *
+     * @param job  the finished job.
+     * @param path the computed path.
+     */
+    public static void putPath(@NotNull final AbstractPathJob job, @Nullable final Path path)
+    {
+        if (path == null || !path.canReach() || path.getNodeCount() == 0 || !MineColonies.getConfig().getServer().pathfindingCache.get())
+        {
+            return;
+        }
+
+        final Key key = job.getCacheKey();
+        if (key == null)
+        {
+            return;
+        }
+
+        final Node[] points = new Node[path.getNodeCount()];
+        final BlockState[] states = new BlockState[points.length * STATES_PER_POINT];
+        final LongSet chunks = new LongOpenHashSet();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < points.length; i++)
+        {
+            points[i] = path.getNode(i);
+            chunks.add(ChunkPos.asLong(points[i].x >> 4, points[i].z >> 4));
+            for (int j = 0; j < STATES_PER_POINT; j++)
+            {
+                states[i * STATES_PER_POINT + j] = job.getWorld().getBlockState(pos.set(points[i].x, points[i].y - 1 + j, points[i].z));
+            }
+        }
+
+        synchronized (cache)
+        {
+            remove(key);
+            if (cache.size() >= MAX_ENTRIES)
+            {
+                remove(cache.keySet().iterator().next());
+            }
+
+            cache.put(key, new CachedPath(points, states, path.getTarget(), chunks, System.currentTimeMillis()));
+            for (final long chunk : chunks)
+            {
+                keysByChunk.computeIfAbsent(chunk, k -> new HashSet<>()).add(key);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the blocks along a cached path are still the same as when it was cached.
+     *
+     * @param cached the cached path.
+     * @param world  the world to compare against.
+     * @return true if no block changed.
+     */
+    private static boolean matchesWorld(final CachedPath cached, final LevelReader world)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < cached.points.length; i++)
+        {
+            final Node point = cached.points[i];
+            for (int j = 0; j < STATES_PER_POINT; j++)
+            {
+                if (world.getBlockState(pos.set(point.x, point.y - 1 + j, point.z)) != cached.states[i * STATES_PER_POINT + j])
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invalidates all cached paths crossing the chunk of the changed block.
+     *
+     * @param dimension the dimension of the change.
+     * @param pos       the changed position.
+     */
+    public static void onBlockChanged(@NotNull final ResourceKey<Level> dimension, @NotNull final BlockPos pos)
+    {
+        synchronized (cache)
+        {
+            if (cache.isEmpty())
+            {
+                return;
+            }
+
+            final Set<Key> keys = keysByChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            if (keys == null)
+            {
+                return;
+            }
+
+            for (final Key key : new ArrayList<>(keys))
+            {
+                if (key.dimension() == dimension)
+                {
+                    remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a key and its chunk references, must be called while holding the cache lock.
+     *
+     * @param key the key to remove.
+     */
+    private static void remove(final Key key)
+    {
+        final CachedPath removed = cache.remove(key);
+        if (removed == null)
+        {
+            return;
+        }
+
+        for (final long chunk : removed.chunks)
+        {
+            final Set<Key> keys = keysByChunk.get(chunk);
+            if (keys != null)
+            {
+                keys.remove(key);
+                if (keys.isEmpty())
+                {
+                    keysByChunk.remove(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears all cached paths.
+     */
+    public static void clear()
+    {
+        synchronized (cache)
+        {
+            cache.clear();
+            keysByChunk.clear();
+        }
+    }
+}
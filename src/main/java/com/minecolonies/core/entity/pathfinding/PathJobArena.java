@@ -0,0 +1,145 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Per pathfinding thread storage for the open set, node index and nodes of a search, reused between jobs instead of being reallocated for every job. Nodes are handed out
+ * from a pool which is reset after each search, so a search only allocates nodes while it expands more of them than any search on this thread before.
+ */
+public final class PathJobArena
+{
+    /**
+     * Expected amount of nodes the node index and the node pool are trimmed back to after a search.
+     */
+    private static final int RETAINED_NODES = 8192;
+
+    /**
+     * Initial size of the node pool.
+     */
+    private static final int INITIAL_POOL_SIZE = 1024;
+
+    /**
+     * Arena of the current thread.
+     */
+    private static final ThreadLocal<PathJobArena> threadArena = ThreadLocal.withInitial(PathJobArena::new);
+
+    /**
+     * The open set.
+     */
+    private final MNodeHeap openSet = new MNodeHeap();
+
+    /**
+     * All created nodes by their position key.
+     */
+    private final Long2ObjectOpenHashMap<MNode> nodes = new Long2ObjectOpenHashMap<>(RETAINED_NODES);
+
+    /**
+     * The pooled nodes, the first {@link #usedNodes} of them belong to the current search.
+     */
+    private MNode[] pool = new MNode[INITIAL_POOL_SIZE];
+
+    /**
+     * Amount of pooled nodes the current search uses.
+     */
+    private int usedNodes = 0;
+
+    /**
+     * Whether a search currently uses this arena.
+     */
+    private boolean inUse = false;
+
+    private PathJobArena()
+    {
+    }
+
+    /**
+     * Get an arena for a new search. Returns the thread's arena, or a fresh one for nested searches while the thread's arena is in use.
+     *
+     * @return the arena to use.
+     */
+    public static PathJobArena acquire()
+    {
+        PathJobArena arena = threadArena.get();
+        if (arena.inUse)
+        {
+            arena = new PathJobArena();
+        }
+
+        arena.inUse = true;
+        return arena;
+    }
+
+    /**
+     * Clears the arena for reuse once the search is done.
+     */
+    public void release()
+    {
+        openSet.clear();
+        nodes.clear();
+        nodes.trim(RETAINED_NODES);
+        if (pool.length > RETAINED_NODES)
+        {
+            pool = Arrays.copyOf(pool, RETAINED_NODES);
+        }
+        usedNodes = 0;
+        inUse = false;
+    }
+
+    /**
+     * Get a node for the current search, reusing a pooled node if possible. The node is only valid until the arena is released.
+     *
+     * @param parent    parent node arrives from.
+     * @param x         the x position.
+     * @param y         the y position.
+     * @param z         the z position.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @return the node.
+     */
+    @NotNull
+    public MNode obtainNode(@Nullable final MNode parent, final int x, final int y, final int z, final double cost, final double heuristic)
+    {
+        if (usedNodes == pool.length)
+        {
+            pool = Arrays.copyOf(pool, pool.length * 2);
+        }
+
+        MNode node = pool[usedNodes];
+        if (node == null)
+        {
+            node = new MNode(parent, x, y, z, cost, heuristic);
+            pool[usedNodes] = node;
+        }
+        else
+        {
+            node.reset(parent, x, y, z, cost, heuristic);
+        }
+
+        usedNodes++;
+        return node;
+    }
+
+    /**
+     * Get the open set.
+     *
+     * @return the heap.
+     */
+    public MNodeHeap getOpenSet()
+    {
+        return openSet;
+    }
+
+    /**
+     * Get the node index.
+     *
+     * @return the map of node key to node.
+     */
+    public Long2ObjectOpenHashMap<MNode> getNodes()
+    {
+        return nodes;
+    }
+}
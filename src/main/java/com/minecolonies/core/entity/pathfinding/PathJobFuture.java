@@ -0,0 +1,153 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Future of a queued pathjob, holds the data the scheduler needs to queue it fairly.
+ */
+public class PathJobFuture extends FutureTask<Path>
+{
+    /**
+     * Owner id used for jobs without a colony or entity.
+     */
+    public static final int NO_OWNER = -1;
+
+    /**
+     * Maximum time in ms an entity job may wait in the queue before it is dropped.
+     */
+    private static final long MAX_QUEUE_TIME_MS = 10 * 1000;
+
+    /**
+     * The colony the job belongs to.
+     */
+    private final int colonyId;
+
+    /**
+     * The entity the job belongs to.
+     */
+    private final int entityId;
+
+    /**
+     * The entity of the job, if any.
+     */
+    @Nullable
+    private final Mob entity;
+
+    /**
+     * Whether this job replaces other queued jobs of the same entity.
+     */
+    private final boolean supersedes;
+
+    /**
+     * The time the job got queued.
+     */
+    private final long queuedTime = System.nanoTime();
+
+    /**
+     * Create a new future for the given callable.
+     *
+     * @param callable the callable to run.
+     */
+    public PathJobFuture(@NotNull final Callable<Path> callable)
+    {
+        super(callable);
+
+        if (callable instanceof AbstractPathJob job && job.getEntity() != null)
+        {
+            entity = job.getEntity();
+            entityId = entity.getId();
+            supersedes = job.supersedesQueuedJobs();
+
+            if (entity instanceof AbstractEntityCitizen citizen)
+            {
+                colonyId = citizen.getCitizenColonyHandler().getColonyId();
+            }
+            else if (entity instanceof AbstractEntityRaiderMob raider && raider.getColony() != null)
+            {
+                colonyId = raider.getColony().getID();
+            }
+            else
+            {
+                colonyId = NO_OWNER;
+            }
+        }
+        else
+        {
+            entity = null;
+            entityId = NO_OWNER;
+            colonyId = NO_OWNER;
+            supersedes = false;
+        }
+    }
+
+    /**
+     * Get the colony id of the job.
+     *
+     * @return the id or {@link #NO_OWNER}.
+     */
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
+    /**
+     * Get the entity id of the job.
+     *
+     * @return the id or {@link #NO_OWNER}.
+     */
+    public int getEntityId()
+    {
+        return entityId;
+    }
+
+    /**
+     * Whether this job replaces other queued jobs of the same entity.
+     *
+     * @return true if so.
+     */
+    public boolean supersedes()
+    {
+        return supersedes;
+    }
+
+    /**
+     * Get the time in nanoseconds this job has been waiting.
+     *
+     * @param now the current nano time.
+     * @return the waited time.
+     */
+    public long getWaitTime(final long now)
+    {
+        return now - queuedTime;
+    }
+
+    /**
+     * Checks whether running this job is pointless, as it got cancelled, its entity is gone or it waited too long.
+     *
+     * @param now the current nano time.
+     * @return true if it should be dropped.
+     */
+    public boolean isStale(final long now)
+    {
+        if (isDone())
+        {
+            return true;
+        }
+
+        if (entity == null)
+        {
+            return false;
+        }
+
+        return entity.isRemoved() || getWaitTime(now) > MAX_QUEUE_TIME_MS * 1000000L;
+    }
+}
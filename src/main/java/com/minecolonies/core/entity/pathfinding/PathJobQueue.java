@@ -0,0 +1,549 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pathjob queue which hands out jobs round-robin per colony, and within a colony round-robin per entity. Cancelled, expired or superseded jobs are dropped instead of being
+ * computed.
+ */
+public class PathJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable>
+{
+    /**
+     * Lock guarding all queue state.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when a job is added.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * Maximum amount of queued jobs.
+     */
+    private final int capacity;
+
+    /**
+     * Current amount of queued jobs.
+     */
+    private int count = 0;
+
+    /**
+     * Queues per colony id.
+     */
+    private final Int2ObjectOpenHashMap<ColonyQueue> colonyQueues = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Colonies with pending jobs, in round-robin order.
+     */
+    private final ArrayDeque<ColonyQueue> activeColonies = new ArrayDeque<>();
+
+    /**
+     * Metrics.
+     */
+    private long totalQueued    = 0;
+    private long totalDropped   = 0;
+    private long totalStarted   = 0;
+    private long totalWaitNanos = 0;
+    private long maxWaitNanos   = 0;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity the maximum amount of queued jobs.
+     */
+    public PathJobQueue(final int capacity)
+    {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Jobs of one entity, or of all jobs without entity.
+     */
+    private static class EntityQueue
+    {
+        private final int                  entityId;
+        private final ArrayDeque<Runnable> jobs = new ArrayDeque<>();
+
+        private EntityQueue(final int entityId)
+        {
+            this.entityId = entityId;
+        }
+    }
+
+    /**
+     * Jobs of one colony, handed out round-robin per entity.
+     */
+    private static class ColonyQueue
+    {
+        private final int                                colonyId;
+        private final Int2ObjectOpenHashMap<EntityQueue> entityQueues   = new Int2ObjectOpenHashMap<>();
+        private final ArrayDeque<EntityQueue>            activeEntities = new ArrayDeque<>();
+        private       int                                size           = 0;
+
+        private ColonyQueue(final int colonyId)
+        {
+            this.colonyId = colonyId;
+        }
+    }
+
+    @Override
+    public boolean offer(@NotNull final Runnable runnable)
+    {
+        lock.lock();
+        try
+        {
+            final int colonyId = runnable instanceof PathJobFuture future ? future.getColonyId() : PathJobFuture.NO_OWNER;
+            final int entityId = runnable instanceof PathJobFuture future ? future.getEntityId() : PathJobFuture.NO_OWNER;
+
+            if (entityId != PathJobFuture.NO_OWNER && runnable instanceof PathJobFuture future && future.supersedes())
+            {
+                dropSuperseded(colonyId, entityId);
+            }
+
+            if (count >= capacity)
+            {
+                return false;
+            }
+
+            ColonyQueue colonyQueue = colonyQueues.get(colonyId);
+            if (colonyQueue == null)
+            {
+                colonyQueue = new ColonyQueue(colonyId);
+                colonyQueues.put(colonyId, colonyQueue);
+                activeColonies.addLast(colonyQueue);
+            }
+
+            EntityQueue entityQueue = colonyQueue.entityQueues.get(entityId);
+            if (entityQueue == null)
+            {
+                entityQueue = new EntityQueue(entityId);
+                colonyQueue.entityQueues.put(entityId, entityQueue);
+                colonyQueue.activeEntities.addLast(entityQueue);
+            }
+
+            entityQueue.jobs.addLast(runnable);
+            colonyQueue.size++;
+            count++;
+            totalQueued++;
+            notEmpty.signal();
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels and removes all superseding jobs queued for the given entity. Must hold the lock.
+     *
+     * @param colonyId the colony of the entity.
+     * @param entityId the entity.
+     */
+    private void dropSuperseded(final int colonyId, final int entityId)
+    {
+        final ColonyQueue colonyQueue = colonyQueues.get(colonyId);
+        if (colonyQueue == null)
+        {
+            return;
+        }
+
+        final EntityQueue entityQueue = colonyQueue.entityQueues.get(entityId);
+        if (entityQueue == null)
+        {
+            return;
+        }
+
+        for (final Iterator<Runnable> iterator = entityQueue.jobs.iterator(); iterator.hasNext(); )
+        {
+            final Runnable queued = iterator.next();
+            if (queued instanceof PathJobFuture queuedFuture && queuedFuture.supersedes())
+            {
+                queuedFuture.cancel(false);
+                iterator.remove();
+                colonyQueue.size--;
+                count--;
+                totalDropped++;
+            }
+        }
+
+        removeIfEmpty(colonyQueue, entityQueue);
+    }
+
+    /**
+     * Removes the given queues from the round-robin order once they ran empty. Must hold the lock.
+     *
+     * @param colonyQueue the colony queue.
+     * @param entityQueue the entity queue within the colony queue.
+     */
+    private void removeIfEmpty(final ColonyQueue colonyQueue, final EntityQueue entityQueue)
+    {
+        if (entityQueue.jobs.isEmpty())
+        {
+            colonyQueue.activeEntities.remove(entityQueue);
+            colonyQueue.entityQueues.remove(entityQueue.entityId);
+        }
+
+        if (colonyQueue.size == 0)
+        {
+            activeColonies.remove(colonyQueue);
+            colonyQueues.remove(colonyQueue.colonyId);
+        }
+    }
+
+    /**
+     * Takes the next job in round-robin order, dropping stale jobs. Must hold the lock.
+     *
+     * @return the next job or null if empty.
+     */
+    @Nullable
+    private Runnable dequeue()
+    {
+        final long now = System.nanoTime();
+        while (!activeColonies.isEmpty())
+        {
+            final ColonyQueue colonyQueue = activeColonies.pollFirst();
+            final EntityQueue entityQueue = colonyQueue.activeEntities.pollFirst();
+            final Runnable runnable = entityQueue.jobs.pollFirst();
+
+            colonyQueue.size--;
+            count--;
+
+            if (!entityQueue.jobs.isEmpty())
+            {
+                colonyQueue.activeEntities.addLast(entityQueue);
+            }
+            else
+            {
+                colonyQueue.entityQueues.remove(entityQueue.entityId);
+            }
+
+            if (colonyQueue.size > 0)
+            {
+                activeColonies.addLast(colonyQueue);
+            }
+            else
+            {
+                colonyQueues.remove(colonyQueue.colonyId);
+            }
+
+            if (runnable instanceof PathJobFuture future)
+            {
+                if (future.isStale(now))
+                {
+                    future.cancel(false);
+                    totalDropped++;
+                    continue;
+                }
+
+                final long waited = future.getWaitTime(now);
+                totalWaitNanos += waited;
+                maxWaitNanos = Math.max(maxWaitNanos, waited);
+            }
+
+            totalStarted++;
+            return runnable;
+        }
+
+        return null;
+    }
+
+    @Override
+    public Runnable poll()
+    {
+        lock.lock();
+        try
+        {
+            return dequeue();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException
+    {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try
+        {
+            Runnable runnable;
+            while ((runnable = dequeue()) == null)
+            {
+                if (nanos <= 0)
+                {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return runnable;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public Runnable take() throws InterruptedException
+    {
+        lock.lockInterruptibly();
+        try
+        {
+            Runnable runnable;
+            while ((runnable = dequeue()) == null)
+            {
+                notEmpty.await();
+            }
+            return runnable;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@NotNull final Runnable runnable) throws InterruptedException
+    {
+        if (!offer(runnable))
+        {
+            throw new IllegalStateException("Pathfinding queue full");
+        }
+    }
+
+    @Override
+    public boolean offer(final Runnable runnable, final long timeout, @NotNull final TimeUnit unit)
+    {
+        return offer(runnable);
+    }
+
+    @Override
+    public Runnable peek()
+    {
+        lock.lock();
+        try
+        {
+            final ColonyQueue colonyQueue = activeColonies.peekFirst();
+            return colonyQueue == null ? null : colonyQueue.activeEntities.peekFirst().jobs.peekFirst();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(final Object o)
+    {
+        lock.lock();
+        try
+        {
+            for (final ColonyQueue colonyQueue : activeColonies)
+            {
+                for (final EntityQueue entityQueue : colonyQueue.activeEntities)
+                {
+                    if (entityQueue.jobs.remove(o))
+                    {
+                        colonyQueue.size--;
+                        count--;
+                        removeIfEmpty(colonyQueue, entityQueue);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        lock.lock();
+        try
+        {
+            return count;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity()
+    {
+        lock.lock();
+        try
+        {
+            return capacity - count;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        lock.lock();
+        try
+        {
+            for (final ColonyQueue colonyQueue : activeColonies)
+            {
+                for (final EntityQueue entityQueue : colonyQueue.activeEntities)
+                {
+                    for (final Runnable runnable : entityQueue.jobs)
+                    {
+                        if (runnable instanceof PathJobFuture future)
+                        {
+                            future.cancel(false);
+                        }
+                    }
+                }
+            }
+
+            activeColonies.clear();
+            colonyQueues.clear();
+            count = 0;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection)
+    {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NotNull final Collection<? super Runnable> collection, final int maxElements)
+    {
+        lock.lock();
+        try
+        {
+            int drained = 0;
+            Runnable runnable;
+            while (drained < maxElements && (runnable = dequeue()) != null)
+            {
+                collection.add(runnable);
+                drained++;
+            }
+            return drained;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Runnable> iterator()
+    {
+        lock.lock();
+        try
+        {
+            final List<Runnable> snapshot = new ArrayList<>(count);
+            for (final ColonyQueue colonyQueue : activeColonies)
+            {
+                for (final EntityQueue entityQueue : colonyQueue.activeEntities)
+                {
+                    snapshot.addAll(entityQueue.jobs);
+                }
+            }
+            return snapshot.iterator();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the amount of queued jobs per colony id.
+     *
+     * @return a map of colony id to queue depth.
+     */
+    public Map<Integer, Integer> getQueueDepthPerColony()
+    {
+        lock.lock();
+        try
+        {
+            final Map<Integer, Integer> depths = new TreeMap<>();
+            for (final ColonyQueue colonyQueue : activeColonies)
+            {
+                depths.put(colonyQueue.colonyId, colonyQueue.size);
+            }
+            return depths;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a readable summary of the queue metrics.
+     *
+     * @return the summary.
+     */
+    public String getMetrics()
+    {
+        lock.lock();
+        try
+        {
+            return String.format("Queued: %d, started: %d, dropped: %d, waiting: %d, avg wait: %.2fms, max wait: %.2fms",
+              totalQueued,
+              totalStarted,
+              totalDropped,
+              count,
+              totalStarted == 0 ? 0 : totalWaitNanos / (double) totalStarted / 1000000D,
+              maxWaitNanos / 1000000D);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Resets the accumulated metrics.
+     */
+    public void resetMetrics()
+    {
+        lock.lock();
+        try
+        {
+            totalQueued = 0;
+            totalStarted = 0;
+            totalDropped = 0;
+            totalWaitNanos = 0;
+            maxWaitNanos = 0;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+}
@@ -5,18 +5,17 @@ import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.pathfinder.Path;
+
+import java.util.concurrent.*;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final ArrayBlockingQueue<Runnable> jobQueue = new ArrayBlockingQueue<>(10000, false);
-    private static       ThreadPoolExecutor           executor;
+    private static final PathJobQueue       jobQueue = new PathJobQueue(10000);
+    private static       ThreadPoolExecutor executor;
 
     /**
      * Minecolonies specific thread factory.
@@ -39,6 +38,31 @@ public final class Pathfinding
         }
     }
 
+    /**
+     * Executor which wraps pathjobs into futures carrying their colony and entity, used by the fair job queue.
+     */
+    private static class PathJobExecutor extends ThreadPoolExecutor
+    {
+        private PathJobExecutor(final int threads)
+        {
+            super(threads, threads, 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory(), (runnable, executor) -> {
+                if (runnable instanceof Future<?> future)
+                {
+                    future.cancel(false);
+                }
+                Log.getLogger().warn("Pathfinding queue full, dropping pathjob");
+            });
+            allowCoreThreadTimeOut(true);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+        {
+            return (RunnableFuture<T>) new PathJobFuture((Callable<Path>) callable);
+        }
+    }
+
     /**
      * Creates a new thread pool for pathfinding jobs
      *
@@ -48,17 +72,29 @@ public final class Pathfinding
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathJobExecutor(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get());
         }
         return executor;
     }
 
+    /**
+     * Get the pathjob queue, for queue depth and wait time metrics.
+     *
+     * @return the queue.
+     */
+    public static PathJobQueue getJobQueue()
+    {
+        return jobQueue;
+    }
+
     /**
      * Stops all running threads in this thread pool
      */
     public static void shutdown()
     {
         jobQueue.clear();
+        PathCache.clear();
+        ChunkPortalGraph.clear();
     }
 
     private Pathfinding()
@@ -0,0 +1,205 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.api.items.ModTags;
+import net.minecraft.core.BlockPos;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.*;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Packed pathfinding classification of every blockstate, computed lazily once and shared by all pathjobs and threads. Blockstates are immutable, so the only invalidation
+ * needed is on tag reloads.
+ */
+public final class PathfindingStateCache
+{
+    /**
+     * Classification flag bits.
+     */
+    public static final int COMPUTED               = 1;
+    public static final int LIQUID                 = 1 << 1;
+    public static final int WATER                  = 1 << 2;
+    public static final int LAVA                   = 1 << 3;
+    public static final int DANGEROUS              = 1 << 4;
+    public static final int CLIMBABLE              = 1 << 5;
+    public static final int LADDER                 = 1 << 6;
+    public static final int DOOR                   = 1 << 7;
+    public static final int RAIL                   = 1 << 8;
+    public static final int STATIC_SURFACE         = 1 << 9;
+    public static final int BELOW_DANGER_SENSITIVE = 1 << 10;
+
+    /**
+     * Bit offsets of the two bit surface types, without and with the pass danger option.
+     */
+    private static final int SURFACE_SHIFT             = 11;
+    private static final int SURFACE_PASS_DANGER_SHIFT = 13;
+
+    /**
+     * Surface types by ordinal.
+     */
+    private static final SurfaceType[] SURFACE_TYPES = SurfaceType.values();
+
+    /**
+     * Options used to classify surfaces for entities which may pass dangerous blocks.
+     */
+    private static final PathingOptions PASS_DANGER_OPTIONS = new PathingOptions();
+
+    static
+    {
+        PASS_DANGER_OPTIONS.setPassDanger(true);
+    }
+
+    /**
+     * Flags by blockstate id, 0 when not computed yet. Racy writes are fine, every thread computes the same value.
+     */
+    private static volatile int[] stateFlags = new int[0];
+
+    private PathfindingStateCache()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get the classification flags of the given state.
+     *
+     * @param state the state.
+     * @return the flags.
+     */
+    public static int getFlags(@NotNull final BlockState state)
+    {
+        final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+        int[] flags = stateFlags;
+        if (id < 0)
+        {
+            return computeFlags(state);
+        }
+
+        if (id >= flags.length)
+        {
+            flags = grow();
+            if (id >= flags.length)
+            {
+                return computeFlags(state);
+            }
+        }
+
+        int value = flags[id];
+        if (value == 0)
+        {
+            value = computeFlags(state);
+            flags[id] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Check if the state has the given flag.
+     *
+     * @param state the state.
+     * @param flag  the flag bit.
+     * @return true if set.
+     */
+    public static boolean is(@NotNull final BlockState state, final int flag)
+    {
+        return (getFlags(state) & flag) != 0;
+    }
+
+    /**
+     * Get the cached surface type stored in the flags, only valid with {@link #STATIC_SURFACE} set and ignoring dangerous blocks below.
+     *
+     * @param flags      the flags.
+     * @param passDanger whether dangerous blocks may be passed.
+     * @return the surface type.
+     */
+    public static SurfaceType getSurfaceType(final int flags, final boolean passDanger)
+    {
+        return SURFACE_TYPES[(flags >> (passDanger ? SURFACE_PASS_DANGER_SHIFT : SURFACE_SHIFT)) & 3];
+    }
+
+    /**
+     * Drops all cached classifications, needed when tags change.
+     */
+    public static void reset()
+    {
+        stateFlags = new int[Block.BLOCK_STATE_REGISTRY.size()];
+    }
+
+    /**
+     * Resizes the flag array to the current registry size.
+     *
+     * @return the new array.
+     */
+    private static synchronized int[] grow()
+    {
+        if (stateFlags.length < Block.BLOCK_STATE_REGISTRY.size())
+        {
+            stateFlags = new int[Block.BLOCK_STATE_REGISTRY.size()];
+        }
+        return stateFlags;
+    }
+
+    /**
+     * Computes the classification of a state.
+     *
+     * @param state the state.
+     * @return the flags.
+     */
+    private static int computeFlags(final BlockState state)
+    {
+        final Block block = state.getBlock();
+        int flags = COMPUTED;
+
+        if (PathfindingUtils.computeIsLiquid(state))
+        {
+            flags |= LIQUID;
+        }
+        if (PathfindingUtils.computeIsWater(state, state.getFluidState()))
+        {
+            flags |= WATER;
+        }
+        if (PathfindingUtils.computeIsLava(state, state.getFluidState()))
+        {
+            flags |= LAVA;
+        }
+        if (PathfindingUtils.computeIsDangerous(state))
+        {
+            flags |= DANGEROUS;
+        }
+        if (state.is(BlockTags.CLIMBABLE))
+        {
+            flags |= CLIMBABLE;
+        }
+        if (block instanceof LadderBlock || state.is(ModTags.freeClimbBlocks))
+        {
+            flags |= LADDER;
+        }
+        if (block instanceof DoorBlock || block instanceof FenceGateBlock)
+        {
+            flags |= DOOR;
+        }
+        if (block instanceof BaseRailBlock)
+        {
+            flags |= RAIL;
+        }
+
+        // Blocks with a dynamic shape depend on the world around them, those are classified on every call
+        if (!block.hasDynamicShape())
+        {
+            flags |= STATIC_SURFACE;
+
+            // The empty getter has air below, so the stored type is the one without a dangerous block below
+            final SurfaceType surface = SurfaceType.computeSurfaceType(EmptyBlockGetter.INSTANCE, state, BlockPos.ZERO, null);
+            final SurfaceType surfacePassDanger = SurfaceType.computeSurfaceType(EmptyBlockGetter.INSTANCE, state, BlockPos.ZERO, PASS_DANGER_OPTIONS);
+            flags |= surface.ordinal() << SURFACE_SHIFT;
+            flags |= surfacePassDanger.ordinal() << SURFACE_PASS_DANGER_SHIFT;
+
+            if (SurfaceType.isBelowDangerSensitive(EmptyBlockGetter.INSTANCE, state, BlockPos.ZERO))
+            {
+                flags |= BELOW_DANGER_SENSITIVE;
+            }
+        }
+
+        return flags;
+    }
+}
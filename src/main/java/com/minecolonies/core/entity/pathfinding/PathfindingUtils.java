@@ -10,7 +10,6 @@ import com.minecolonies.core.network.messages.client.SyncPathReachedMessage;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
@@ -217,6 +216,17 @@ public class PathfindingUtils
      * @return true if so.
      */
     public static boolean isLiquid(final BlockState state)
+    {
+        return PathfindingStateCache.is(state, PathfindingStateCache.LIQUID);
+    }
+
+    /**
+     * Uncached liquid check, see {@link #isLiquid(BlockState)}.
+     *
+     * @param state the state to check.
+     * @return true if so.
+     */
+    static boolean computeIsLiquid(final BlockState state)
     {
         return state.liquid() || (!state.blocksMotion() && !state.getFluidState().isEmpty());
     }
@@ -242,12 +252,24 @@ public class PathfindingUtils
      */
     public static boolean isWater(@NotNull final BlockGetter world, final BlockPos pos, @Nullable BlockState pState, @Nullable FluidState pFluidState)
     {
-        BlockState state = pState;
-        if (state == null)
+        final BlockState state = pState == null ? world.getBlockState(pos) : pState;
+        if (pFluidState == null || pFluidState == state.getFluidState())
         {
-            state = world.getBlockState(pos);
+            return PathfindingStateCache.is(state, PathfindingStateCache.WATER);
         }
 
+        return computeIsWater(state, pFluidState);
+    }
+
+    /**
+     * Uncached water check of the given state and fluid.
+     *
+     * @param state      the blockstate.
+     * @param fluidState the fluidstate.
+     * @return true if so.
+     */
+    static boolean computeIsWater(final BlockState state, final FluidState fluidState)
+    {
         if (state.isSolid())
         {
             return false;
@@ -257,12 +279,6 @@ public class PathfindingUtils
             return true;
         }
 
-        FluidState fluidState = pFluidState;
-        if (fluidState == null)
-        {
-            fluidState = state.getFluidState();
-        }
-
         if (fluidState == empty || fluidState.isEmpty())
         {
             return false;
@@ -288,23 +304,29 @@ public class PathfindingUtils
      */
     public static boolean isLava(@NotNull final BlockGetter world, final BlockPos pos, @Nullable BlockState pState, @Nullable FluidState pFluidState)
     {
-        BlockState state = pState;
-        if (state == null)
+        final BlockState state = pState == null ? world.getBlockState(pos) : pState;
+        if (pFluidState == null || pFluidState == state.getFluidState())
         {
-            state = world.getBlockState(pos);
+            return PathfindingStateCache.is(state, PathfindingStateCache.LAVA);
         }
 
+        return computeIsLava(state, pFluidState);
+    }
+
+    /**
+     * Uncached lava check of the given state and fluid.
+     *
+     * @param state      the blockstate.
+     * @param fluidState the fluidstate.
+     * @return true if so.
+     */
+    static boolean computeIsLava(final BlockState state, final FluidState fluidState)
+    {
         if (state.getBlock() == Blocks.LAVA)
         {
             return true;
         }
 
-        FluidState fluidState = pFluidState;
-        if (fluidState == null)
-        {
-            fluidState = world.getFluidState(pos);
-        }
-
         if (fluidState == empty || fluidState.isEmpty())
         {
             return false;
@@ -323,13 +345,12 @@ public class PathfindingUtils
      */
     public static boolean isLadder(final BlockState blockState, @Nullable final PathingOptions options)
     {
-        if (options != null && options.canWalkUnderWater() && isLiquid(blockState))
+        final int flags = PathfindingStateCache.getFlags(blockState);
+        if (options != null && options.canWalkUnderWater() && (flags & PathfindingStateCache.LIQUID) != 0)
         {
             return true;
         }
-        return blockState.is(BlockTags.CLIMBABLE) && ((options != null && options.canClimbAdvanced()) ||
-                blockState.getBlock() instanceof LadderBlock ||
-                blockState.is(ModTags.freeClimbBlocks));
+        return (flags & PathfindingStateCache.CLIMBABLE) != 0 && ((options != null && options.canClimbAdvanced()) || (flags & PathfindingStateCache.LADDER) != 0);
     }
 
     /**
@@ -339,6 +360,17 @@ public class PathfindingUtils
      * @return true if dangerous.
      */
     public static boolean isDangerous(final BlockState blockState)
+    {
+        return PathfindingStateCache.is(blockState, PathfindingStateCache.DANGEROUS);
+    }
+
+    /**
+     * Uncached danger check, see {@link #isDangerous(BlockState)}.
+     *
+     * @param blockState block to check.
+     * @return true if dangerous.
+     */
+    static boolean computeIsDangerous(final BlockState blockState)
     {
         final Block block = blockState.getBlock();
 
@@ -279,6 +279,23 @@ public class PathingOptions
         return this;
     }
 
+    /**
+     * Packs the boolean capabilities into a bit mask, used to distinguish cached paths.
+     *
+     * @return the flag bits.
+     */
+    public int getCacheFlags()
+    {
+        return (canUseRails ? 1 : 0)
+                 | (canSwim ? 1 << 1 : 0)
+                 | (enterDoors ? 1 << 2 : 0)
+                 | (canOpenDoors ? 1 << 3 : 0)
+                 | (canClimbAdvanced ? 1 << 4 : 0)
+                 | (canPassDanger ? 1 << 5 : 0)
+                 | (walkUnderWater ? 1 << 6 : 0)
+                 | (canDrop ? 1 << 7 : 0);
+    }
+
     /**
      * Imports all options from the given other pathing options
      * @param pathingOptions
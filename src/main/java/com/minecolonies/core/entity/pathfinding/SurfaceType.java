@@ -49,10 +49,68 @@ public enum SurfaceType
      */
     @NotNull
     public static SurfaceType getSurfaceType(final BlockGetter world, final BlockState blockState, final BlockPos pos, @Nullable final PathingOptions pathingOptions)
+    {
+        final int flags = PathfindingStateCache.getFlags(blockState);
+        if ((flags & PathfindingStateCache.STATIC_SURFACE) == 0)
+        {
+            return computeSurfaceType(world, blockState, pos, pathingOptions);
+        }
+
+        final boolean passDanger = pathingOptions != null && pathingOptions.canPassDanger();
+        if ((flags & PathfindingStateCache.BELOW_DANGER_SENSITIVE) != 0 && PathfindingUtils.isDangerous(world.getBlockState(pos.below())))
+        {
+            return passDanger ? SurfaceType.WALKABLE : SurfaceType.NOT_PASSABLE;
+        }
+
+        return PathfindingStateCache.getSurfaceType(flags, passDanger);
+    }
+
+    /**
+     * Whether the surface type of the state changes with a dangerous block below it.
+     *
+     * @param world      the world.
+     * @param blockState the state.
+     * @param pos        the position.
+     * @return true if a dangerous block below makes it not passable.
+     */
+    static boolean isBelowDangerSensitive(final BlockGetter world, final BlockState blockState, final BlockPos pos)
+    {
+        return !PathfindingUtils.computeIsDangerous(blockState)
+                 && !isNeverWalkable(blockState.getBlock())
+                 && ShapeUtil.max(blockState.getCollisionShape(world, pos), Direction.Axis.Y) < 0.5;
+    }
+
+    /**
+     * Blocks which can never be stood upon.
+     *
+     * @param block the block.
+     * @return true if not walkable.
+     */
+    private static boolean isNeverWalkable(final Block block)
+    {
+        return block instanceof FenceBlock
+                 || block instanceof FenceGateBlock
+                 || block instanceof WallBlock
+                 || block instanceof AbstractBlockMinecoloniesDefault
+                 || block instanceof BambooStalkBlock
+                 || block instanceof BambooSaplingBlock
+                 || block instanceof DoorBlock;
+    }
+
+    /**
+     * Computes the surface type without the classification cache.
+     *
+     * @param blockState     Block to check.
+     * @param pos            the position.
+     * @param pathingOptions the pathing options to consider
+     * @return the surface type.
+     */
+    @NotNull
+    static SurfaceType computeSurfaceType(final BlockGetter world, final BlockState blockState, final BlockPos pos, @Nullable final PathingOptions pathingOptions)
     {
         final Block block = blockState.getBlock();
 
-        if (PathfindingUtils.isDangerous(blockState))
+        if (PathfindingUtils.computeIsDangerous(blockState))
         {
             if (pathingOptions != null && pathingOptions.canPassDanger())
             {
@@ -66,13 +124,7 @@ public enum SurfaceType
             return SurfaceType.NOT_PASSABLE;
         }
 
-        if (block instanceof FenceBlock
-              || block instanceof FenceGateBlock
-              || block instanceof WallBlock
-              || block instanceof AbstractBlockMinecoloniesDefault
-              || block instanceof BambooStalkBlock
-              || block instanceof BambooSaplingBlock
-              || block instanceof DoorBlock)
+        if (isNeverWalkable(block))
         {
             return SurfaceType.NOT_PASSABLE;
         }
@@ -99,13 +151,13 @@ public enum SurfaceType
             return SurfaceType.NOT_PASSABLE;
         }
 
-        final FluidState fluid = world.getFluidState(pos);
-        if (PathfindingUtils.isWater(world, pos, blockState, fluid))
+        final FluidState fluid = blockState.getFluidState();
+        if (PathfindingUtils.computeIsWater(blockState, fluid))
         {
             return SurfaceType.WALKABLE;
         }
 
-        if (PathfindingUtils.isLava(world, pos, blockState, fluid))
+        if (PathfindingUtils.computeIsLava(blockState, fluid))
         {
             return SurfaceType.NOT_PASSABLE;
         }
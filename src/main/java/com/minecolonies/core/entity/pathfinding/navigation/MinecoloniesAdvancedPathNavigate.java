@@ -58,6 +58,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     public static final  int    MAX_SPEED_ALLOWED        = 2;
     public static final  double MIN_SPEED_ALLOWED        = 0.1;
 
+    /**
+     * Distance to the end of a path segment at which the next segment is requested.
+     */
+    private static final int SEGMENT_END_REACH_DIST = 4;
+
     @Nullable
     private PathResult<AbstractPathJob> pathResult;
 
@@ -275,6 +280,7 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         }
 
         job.setPathingOptions(getPathingOptions());
+        job.setSupersedesQueuedJobs(true);
         pathResult = job.getResult();
         pathResult.startJob(Pathfinding.getExecutor());
         return pathResult;
@@ -380,7 +386,7 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         }
         // End of super.tick.
 
-        if (pathResult != null && isDone())
+        if (pathResult != null && isDone() && !continueSegmentedPath())
         {
             pathResult.setStatus(PathFindingStatus.COMPLETE);
         }
@@ -388,6 +394,31 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         stuckHandler.checkStuck(this);
     }
 
+    /**
+     * Starts the next segment of a long path planned over the chunk portal graph, once the current segment was walked.
+     *
+     * @return true if a new segment was started.
+     */
+    private boolean continueSegmentedPath()
+    {
+        if (!(pathResult.getJob() instanceof PathJobMoveToLocation moveJob) || !moveJob.isSegment() || !pathResult.isPathReachingDestination())
+        {
+            return false;
+        }
+
+        // Only continue when the segment end was actually reached, otherwise the stuck handling takes over
+        if (BlockPosUtil.distManhattan(ourEntity.blockPosition(), pathResult.getPath().getTarget()) > SEGMENT_END_REACH_DIST)
+        {
+            return false;
+        }
+
+        // Keep the result the AI holds, it follows the movement through all segments
+        pathResult.reset();
+        moveJob.createNextSegment(level, PathfindingUtils.prepareStart(ourEntity), (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue());
+        pathResult.startJob(Pathfinding.getExecutor());
+        return true;
+    }
+
     /**
      * Similar to WalkNodeProcessor.getGroundY but not broken.
      * This checks if the block below the position we're trying to move to reaches into the block above, if so, it has to aim a little bit higher.
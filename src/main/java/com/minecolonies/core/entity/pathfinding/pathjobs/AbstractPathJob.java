@@ -20,9 +20,10 @@ import com.minecolonies.core.entity.pathfinding.world.CachingBlockLookup;
 import com.minecolonies.core.entity.pathfinding.world.ChunkCache;
 import com.minecolonies.core.network.messages.client.SyncPathMessage;
 import com.minecolonies.core.util.WorkerUtil;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.world.entity.Mob;
@@ -73,6 +74,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     @Nullable
     protected Mob entity = null;
 
+    /**
+     * The dimension this job paths in, null for secondary pathjobs
+     */
+    @Nullable
+    protected ResourceKey<Level> dimension = null;
+
     /**
      * Cached block lookup
      */
@@ -94,14 +101,19 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     protected int maxNodes;
 
     /**
-     * Queue of all open nodes.
+     * Queue of all open nodes, taken from the thread's arena while searching.
      */
-    private Queue<MNode> nodesToVisit;
+    private MNodeHeap nodesToVisit;
 
     /**
-     * Queue of all the visited nodes.
+     * Queue of all the visited nodes, taken from the thread's arena while searching.
      */
-    private final Int2ObjectOpenHashMap<MNode> nodes = new Int2ObjectOpenHashMap<>();
+    private Long2ObjectOpenHashMap<MNode> nodes;
+
+    /**
+     * The thread's arena the nodes of the search are taken from while searching.
+     */
+    private PathJobArena arena;
 
     /**
      * Counts of nodes
@@ -156,6 +168,11 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     private MNode startNode = null;
 
+    /**
+     * Whether this job replaces other queued jobs of the same entity
+     */
+    private boolean supersedesQueuedJobs = false;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -175,9 +192,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         final int maxX = (int) (start.getX() + range * 1.3);
         final int maxZ = (int) (start.getZ() + range * 1.3);
         this.world = new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 0, maxZ));
+        this.dimension = world.dimension();
 
         this.maxNodes = Math.min(MAX_NODES, range * range);
-        nodesToVisit = new PriorityQueue<>(range * 2);
         this.start = new BlockPos(start);
 
         cachedBlockLookup = new CachingBlockLookup(start, this.world);
@@ -206,7 +223,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     {
         range = Math.max(10, range);
         this.maxNodes = Math.min(MAX_NODES, range * range);
-        nodesToVisit = new PriorityQueue<>(range * 2);
         this.start = new BlockPos(start);
 
         world = chunkCache;
@@ -236,6 +252,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         final int maxX = Math.max(start.getX(), end.getX()) + expandedRange;
         final int maxZ = Math.max(start.getZ(), end.getZ()) + expandedRange;
         this.world = new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 0, maxZ));
+        this.dimension = world.dimension();
 
         // Max nodes in relation to the box area
         final int xDiff = Math.max(1, Math.abs(start.getX() - end.getX()));
@@ -245,7 +262,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         this.maxNodes =
           Math.min(MAX_NODES, 300 + Math.max(Math.max(Math.max(2, xDiff / 10) * yDiff * zDiff, xDiff * Math.max(2, yDiff / 10) * zDiff), xDiff * yDiff * Math.max(2, zDiff / 10)));
-        nodesToVisit = new PriorityQueue<>(maxNodes / 4);
         this.start = new BlockPos(start);
 
         cachedBlockLookup = new CachingBlockLookup(start, this.world);
@@ -270,7 +286,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     {
         try
         {
-            return search();
+            final Path path = search();
+            PathCache.putPath(this, path);
+            return path;
         }
         catch (final Exception e)
         {
@@ -280,6 +298,17 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return null;
     }
 
+    /**
+     * Get the key under which the result of this job may be shared with other jobs, null if the result is not shareable.
+     *
+     * @return the cache key or null.
+     */
+    @Nullable
+    public PathCache.Key getCacheKey()
+    {
+        return null;
+    }
+
     /**
      * Sets the initial first node up
      *
@@ -287,7 +316,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     private MNode getAndSetupStartNode()
     {
-        final MNode startNode = new MNode(null, start.getX(), start.getY(), start.getZ(), 0, computeHeuristic(start.getX(), start.getY(), start.getZ()));
+        final MNode startNode = newNode(null, start.getX(), start.getY(), start.getZ(), 0, computeHeuristic(start.getX(), start.getY(), start.getZ()));
 
         if (PathfindingUtils.isLadder(cachedBlockLookup.getBlockState(start.getX(), start.getY(), start.getZ()), pathingOptions))
         {
@@ -298,7 +327,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             startNode.setSwimming();
         }
 
-        startNode.setOnRails(pathingOptions.canUseRails() && cachedBlockLookup.getBlockState(start).getBlock() instanceof BaseRailBlock);
+        startNode.setOnRails(pathingOptions.canUseRails() && PathfindingStateCache.is(cachedBlockLookup.getBlockState(start), PathfindingStateCache.RAIL));
 
         nodesToVisit.offer(startNode);
         nodes.put(MNode.computeNodeKey(start.getX(), start.getY(), start.getZ()), startNode);
@@ -316,6 +345,32 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
      */
     @Nullable
     protected Path search()
+    {
+        arena = PathJobArena.acquire();
+        nodesToVisit = arena.getOpenSet();
+        nodes = arena.getNodes();
+
+        try
+        {
+            return executeSearch();
+        }
+        finally
+        {
+            arena.release();
+            arena = null;
+            nodesToVisit = null;
+            nodes = null;
+            startNode = null;
+        }
+    }
+
+    /**
+     * Runs the A* search on the arena's node storage.
+     *
+     * @return Path of a path to the given location, a best-effort, or null.
+     */
+    @Nullable
+    private Path executeSearch()
     {
         MNode bestNode = getAndSetupStartNode();
         double bestNodeEndScore = getEndNodeScore(bestNode);
@@ -413,9 +468,8 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
             if (!nodesToVisit.isEmpty())
             {
-                // Search only closest nodes to the goal
-                final Queue<MNode> original = nodesToVisit;
-                nodesToVisit = new PriorityQueue<>(nodesToVisit.size(), (a, b) -> {
+                // Search only closest nodes to the goal, reorders the open set in place
+                nodesToVisit.setComparator((a, b) -> {
                     if ((a.getHeuristic()) < (b.getHeuristic()))
                     {
                         return -1;
@@ -429,7 +483,6 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                         return a.getCounterAdded() - b.getCounterAdded();
                     }
                 });
-                nodesToVisit.addAll(original);
 
                 while (!nodesToVisit.isEmpty())
                 {
@@ -514,8 +567,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                 return false;
             }
 
-            for (final MNode cur : nodesToVisit)
+            for (int i = 0; i < nodesToVisit.size(); i++)
             {
+                final MNode cur = nodesToVisit.get(i);
                 if (cur.getHeuristic() >= startNode.getHeuristic() || cur.isVisited())
                 {
                     continue;
@@ -562,13 +616,12 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             }
 
             // Fix up existing heuristic values
-            final List<MNode> nodes = new ArrayList<>(nodesToVisit);
-            nodesToVisit.clear();
-            for (final MNode recalc : nodes)
+            for (int i = 0; i < nodesToVisit.size(); i++)
             {
+                final MNode recalc = nodesToVisit.get(i);
                 recalc.setHeuristic(recalc.getHeuristic() * costPerEstimation);
-                nodesToVisit.offer(recalc);
             }
+            nodesToVisit.heapify();
 
             // Set a future heuristic modification
             heuristicMod *= costPerEstimation;
@@ -589,6 +642,10 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
     private void recalcHeuristic(final MNode node)
     {
         node.setHeuristic(computeHeuristic(node.x, node.y, node.z) * heuristicMod);
+        if (nodesToVisit.contains(node))
+        {
+            nodesToVisit.update(node);
+        }
     }
 
     /**
@@ -721,7 +778,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             }
         }
 
-        final int nodeKey = MNode.computeNodeKey(nextX, nextY, nextZ);
+        final long nodeKey = MNode.computeNodeKey(nextX, nextY, nextZ);
         MNode nextNode = nodes.get(nodeKey);
 
         // Current node is already visited, only update nearby costs do not create new nodes
@@ -745,7 +802,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
         final boolean swimStart = isSwimming && !node.isSwimming();
         final boolean onRoad = WorkerUtil.isPathBlock(belowState.getBlock());
-        final boolean onRails = pathingOptions.canUseRails() && (corner ? belowState : state).getBlock() instanceof BaseRailBlock;
+        final boolean onRails = pathingOptions.canUseRails() && PathfindingStateCache.is(corner ? belowState : state, PathfindingStateCache.RAIL);
         final boolean railsExit = !onRails && node != null && node.isOnRails();
         final boolean ladder = PathfindingUtils.isLadder(state, pathingOptions);
         final boolean isDiving = isSwimming && PathfindingUtils.isWater(world, null, aboveState, null);
@@ -800,10 +857,9 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
 
     @NotNull
     private MNode createNode(
-      final MNode parent, final int x, final int y, final int z, final int nodeKey, final double heuristic, final double cost)
+      final MNode parent, final int x, final int y, final int z, final long nodeKey, final double heuristic, final double cost)
     {
-        final MNode node;
-        node = new MNode(parent, x, y, z, cost, heuristic);
+        final MNode node = newNode(parent, x, y, z, cost, heuristic);
         nodes.put(nodeKey, node);
         if (debugDrawEnabled)
         {
@@ -815,6 +871,27 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return node;
     }
 
+    /**
+     * Creates a node of the search. Nodes come from the arena's pool, unless they are kept for the debug display after the search.
+     *
+     * @param parent    parent node arrives from.
+     * @param x         the x position.
+     * @param y         the y position.
+     * @param z         the z position.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @return the node.
+     */
+    @NotNull
+    private MNode newNode(@Nullable final MNode parent, final int x, final int y, final int z, final double cost, final double heuristic)
+    {
+        if (debugDrawEnabled)
+        {
+            return new MNode(parent, x, y, z, cost, heuristic);
+        }
+        return arena.obtainNode(parent, x, y, z, cost, heuristic);
+    }
+
     /**
      * Updates an already existing node with new heuristic/cost valvues
      *
@@ -831,12 +908,11 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
             return;
         }
 
-        nodesToVisit.remove(nextNode);
         nextNode.parent = node;
         nextNode.setCost(cost);
         nextNode.setHeuristic(heuristic);
 
-        nodesToVisit.offer(nextNode);
+        nodesToVisit.update(nextNode);
     }
 
     /**
@@ -1273,7 +1349,7 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
                 }
                 else
                 {
-                    return pathingOptions.canEnterDoors() && (block.getBlock() instanceof DoorBlock || block.getBlock() instanceof FenceGateBlock)
+                    return pathingOptions.canEnterDoors() && PathfindingStateCache.is(block, PathfindingStateCache.DOOR)
                              || block.getBlock() instanceof AbstractBlockMinecoloniesConstructionTape
                              || block.getBlock() instanceof PressurePlateBlock
                              || block.getBlock() instanceof BlockDecorationController
@@ -1707,6 +1783,47 @@ public abstract class AbstractPathJob implements Callable<Path>, IPathJob
         return result;
     }
 
+    /**
+     * Get the world this job paths in
+     *
+     * @return the world
+     */
+    public LevelReader getWorld()
+    {
+        return world;
+    }
+
+    /**
+     * Get the entity this job belongs to
+     *
+     * @return the entity or null
+     */
+    @Nullable
+    public Mob getEntity()
+    {
+        return entity;
+    }
+
+    /**
+     * Marks this job as replacing all other superseding jobs of its entity which are still queued, used for navigation jobs
+     *
+     * @param supersedes true if so
+     */
+    public void setSupersedesQueuedJobs(final boolean supersedes)
+    {
+        this.supersedesQueuedJobs = supersedes;
+    }
+
+    /**
+     * Whether this job replaces other queued jobs of the same entity
+     *
+     * @return true if so
+     */
+    public boolean supersedesQueuedJobs()
+    {
+        return supersedesQueuedJobs;
+    }
+
     /**
      * Sets the pathing options
      *
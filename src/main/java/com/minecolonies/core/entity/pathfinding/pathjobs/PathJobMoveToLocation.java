@@ -5,7 +5,9 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.ShapeUtil;
 import com.minecolonies.api.util.constant.ColonyConstants;
 import com.minecolonies.core.MineColonies;
+import com.minecolonies.core.entity.pathfinding.ChunkPortalGraph;
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathCache;
 import com.minecolonies.core.entity.pathfinding.PathfindingUtils;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
 import com.minecolonies.core.entity.pathfinding.navigation.IDynamicHeuristicNavigator;
@@ -29,6 +31,15 @@ public class PathJobMoveToLocation extends AbstractPathJob
     private static final float    DESTINATION_SLACK_ADJACENT = (float) Math.sqrt(2f);
     @NotNull
     private final        BlockPos destination;
+    /**
+     * Position searched for, the destination or the end of the current segment of a long path.
+     */
+    @NotNull
+    private              BlockPos target;
+    /**
+     * Whether this job only searches a segment of a long path planned over the {@link ChunkPortalGraph}.
+     */
+    private              boolean  segment                    = false;
     // 0 = exact match
     private              float    destinationSlack           = DESTINATION_SLACK_NONE;
 
@@ -48,10 +59,32 @@ public class PathJobMoveToLocation extends AbstractPathJob
      */
     public PathJobMoveToLocation(final Level world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final Mob entity)
     {
-        super(world, start, end, new PathResult<PathJobMoveToLocation>(), entity);
+        this(world, start, end, range, entity, new PathResult<PathJobMoveToLocation>());
+    }
+
+    /**
+     * Prepares the PathJob for the path finding system, reporting to an existing result.
+     *
+     * @param world  world the entity is in.
+     * @param start  starting location.
+     * @param end    target location.
+     * @param range  max search range.
+     * @param entity the entity.
+     * @param result the result to report to.
+     */
+    protected PathJobMoveToLocation(
+      final Level world,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      final int range,
+      final Mob entity,
+      final PathResult result)
+    {
+        super(world, start, end, result, entity);
 
         maxNodes += range;
         this.destination = new BlockPos(end);
+        this.target = destination;
 
         if (entity != null && entity.getNavigation() instanceof IDynamicHeuristicNavigator)
         {
@@ -78,8 +111,19 @@ public class PathJobMoveToLocation extends AbstractPathJob
               start.getX(), start.getY(), start.getZ(), destination.getX(), destination.getY(), destination.getZ()));
         }
 
+        // Long paths are planned over the chunk portal graph and searched segment by segment
+        if (dimension != null && MineColonies.getConfig().getServer().pathfindingHierarchical.get())
+        {
+            final BlockPos segmentTarget = ChunkPortalGraph.getSegmentTarget(world, dimension, start, destination);
+            if (segmentTarget != null)
+            {
+                target = segmentTarget;
+                segment = true;
+            }
+        }
+
         //  Compute destination slack - if the destination point cannot be stood in
-        if (getGroundHeight(null, destination.getX(), destination.getY(), destination.getZ()) != destination.getY())
+        if (getGroundHeight(null, target.getX(), target.getY(), target.getZ()) != target.getY())
         {
             destinationSlack = DESTINATION_SLACK_ADJACENT;
         }
@@ -87,10 +131,71 @@ public class PathJobMoveToLocation extends AbstractPathJob
         return super.search();
     }
 
+    @Nullable
+    @Override
+    public PathCache.Key getCacheKey()
+    {
+        // Segments don't reach the destination, only complete paths are stored under it
+        if (dimension == null || segment)
+        {
+            return null;
+        }
+
+        return new PathCache.Key(dimension, start.asLong(), destination.asLong(), getClass(), getPathingOptions().getCacheFlags());
+    }
+
     @Override
     protected double computeHeuristic(final int x, final int y, final int z)
     {
-        return BlockPosUtil.distManhattan(destination, x, y, z) * heuristicModifier;
+        return BlockPosUtil.distManhattan(target, x, y, z) * heuristicModifier;
+    }
+
+    /**
+     * Get the final destination of this job.
+     *
+     * @return the destination.
+     */
+    @NotNull
+    public BlockPos getDestination()
+    {
+        return destination;
+    }
+
+    /**
+     * Whether this job only searched a segment of a long path, the next one has to be requested once it is walked.
+     *
+     * @return true if so.
+     */
+    public boolean isSegment()
+    {
+        return segment;
+    }
+
+    /**
+     * Creates the job searching the next segment of a long path, with the same settings as this job. The new job reports to the result of this job, so holders of the
+     * result keep following the movement.
+     *
+     * @param world the world the entity is in.
+     * @param start the start of the next segment.
+     * @param range max search range.
+     * @return the new job.
+     */
+    public PathJobMoveToLocation createNextSegment(final Level world, @NotNull final BlockPos start, final int range)
+    {
+        return copySettings(new PathJobMoveToLocation(world, start, destination, range, getEntity(), result));
+    }
+
+    /**
+     * Copies the settings of this job to the job of the next segment.
+     *
+     * @param next the job of the next segment.
+     * @return the job of the next segment.
+     */
+    protected PathJobMoveToLocation copySettings(final PathJobMoveToLocation next)
+    {
+        next.setPathingOptions(getPathingOptions());
+        next.setSupersedesQueuedJobs(supersedesQueuedJobs());
+        return next;
     }
 
     /**
@@ -105,17 +210,17 @@ public class PathJobMoveToLocation extends AbstractPathJob
         boolean atDest = false;
         if (destinationSlack <= DESTINATION_SLACK_NONE)
         {
-            atDest = n.x == destination.getX()
-                       && n.y == destination.getY()
-                       && n.z == destination.getZ();
+            atDest = n.x == target.getX()
+                       && n.y == target.getY()
+                       && n.z == target.getZ();
         }
-        else if (n.y == destination.getY() - 1)
+        else if (n.y == target.getY() - 1)
         {
-            atDest = BlockPosUtil.distSqr(destination, n.x, destination.getY(), n.z) < DESTINATION_SLACK_ADJACENT * DESTINATION_SLACK_ADJACENT;
+            atDest = BlockPosUtil.distSqr(target, n.x, target.getY(), n.z) < DESTINATION_SLACK_ADJACENT * DESTINATION_SLACK_ADJACENT;
         }
         else
         {
-            atDest = BlockPosUtil.distSqr(destination, n.x, n.y, n.z) < DESTINATION_SLACK_ADJACENT * DESTINATION_SLACK_ADJACENT;
+            atDest = BlockPosUtil.distSqr(target, n.x, n.y, n.z) < DESTINATION_SLACK_ADJACENT * DESTINATION_SLACK_ADJACENT;
         }
 
         if (atDest)
@@ -138,19 +243,19 @@ public class PathJobMoveToLocation extends AbstractPathJob
     {
         if (PathfindingUtils.isLiquid(cachedBlockLookup.getBlockState(n.x, n.y - 1, n.z)))
         {
-            return BlockPosUtil.distManhattan(destination, n.x, n.y, n.z) + 30;
+            return BlockPosUtil.distManhattan(target, n.x, n.y, n.z) + 30;
         }
 
         if (!ShapeUtil.isEmpty(cachedBlockLookup.getBlockState(n.x, n.y, n.z).getCollisionShape(cachedBlockLookup, tempWorldPos.set(n.x, n.y, n.z))))
         {
-            return BlockPosUtil.distManhattan(destination, n.x, n.y, n.z) + 10;
+            return BlockPosUtil.distManhattan(target, n.x, n.y, n.z) + 10;
         }
 
         //  For Result Score lower is better
 
-        int xDist = Math.abs(destination.getX() - n.x);
-        int yDist = Math.abs(destination.getY() - n.y);
-        int zDist = Math.abs(destination.getZ() - n.z);
+        int xDist = Math.abs(target.getX() - n.x);
+        int yDist = Math.abs(target.getY() - n.y);
+        int zDist = Math.abs(target.getZ() - n.z);
         return xDist + yDist + zDist;
     }
 
@@ -1,11 +1,14 @@
 package com.minecolonies.core.entity.pathfinding.pathjobs;
 
 import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.PathCache;
+import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Function;
 
@@ -43,6 +46,40 @@ public class PathJobMoveToWithPassable extends PathJobMoveToLocation
         this.isPassable = isPassable;
     }
 
+    /**
+     * Prepares the PathJob for the path finding system, reporting to an existing result.
+     *
+     * @param world      world the entity is in.
+     * @param start      starting location.
+     * @param end        target location.
+     * @param range      max search range.
+     * @param entity     the entity.
+     * @param isPassable passable check
+     * @param result     the result to report to.
+     */
+    private PathJobMoveToWithPassable(
+      final Level world,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end, final int range, final Mob entity, final Function<BlockState, Boolean> isPassable, final PathResult result)
+    {
+        super(world, start, end, range, entity, result);
+        this.isPassable = isPassable;
+    }
+
+    @Override
+    public PathJobMoveToLocation createNextSegment(final Level world, @NotNull final BlockPos start, final int range)
+    {
+        return copySettings(new PathJobMoveToWithPassable(world, start, getDestination(), range, getEntity(), isPassable, result));
+    }
+
+    @Nullable
+    @Override
+    public PathCache.Key getCacheKey()
+    {
+        // The passable check is custom per caller, so the result can't be shared
+        return null;
+    }
+
     @Override
     protected boolean isPassable(@NotNull final BlockState block, final int x, final int y, final int z, final MNode parent, final boolean head)
     {
@@ -3,7 +3,9 @@ package com.minecolonies.core.entity.pathfinding.pathjobs;
 import com.ldtteam.structurize.util.BlockUtils;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.colony.events.raid.RaidManager;
+import com.minecolonies.core.entity.pathfinding.ChunkPortalGraph;
 import com.minecolonies.core.entity.pathfinding.MNode;
 import com.minecolonies.core.entity.pathfinding.PathingOptions;
 import com.minecolonies.core.entity.pathfinding.SurfaceType;
@@ -14,7 +16,9 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.LadderBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -45,6 +49,12 @@ public class PathJobRaiderPathing extends AbstractPathJob
      */
     private double addCost = 1.0;
 
+    /**
+     * Route planned over the chunk portal graph, guides the heuristic when set.
+     */
+    @Nullable
+    private List<ChunkPortalGraph.Waypoint> route = null;
+
     public PathJobRaiderPathing(
       final List<IBuilding> buildings,
       final Level world,
@@ -57,10 +67,34 @@ public class PathJobRaiderPathing extends AbstractPathJob
         setPathingOptions(new PathingOptions().withJumpCost(1).withStartSwimCost(1).withSwimCost(1).withCanSwim(true).withCanEnterDoors(true));
     }
 
+    @Nullable
+    @Override
+    protected Path search()
+    {
+        if (dimension != null && MineColonies.getConfig().getServer().pathfindingHierarchical.get())
+        {
+            route = ChunkPortalGraph.findRoute(world, dimension, start, direction);
+        }
+
+        return super.search();
+    }
+
     @Override
     protected double computeHeuristic(final int x, final int y, final int z)
     {
-        return BlockPosUtil.distManhattan(direction, x, y, z);
+        if (route == null)
+        {
+            return BlockPosUtil.distManhattan(direction, x, y, z);
+        }
+
+        // Distance to the closest route waypoint plus the remaining route from there, keeps the search within the planned corridor
+        final int totalCost = route.get(route.size() - 1).cost();
+        int best = Integer.MAX_VALUE;
+        for (final ChunkPortalGraph.Waypoint waypoint : route)
+        {
+            best = Math.min(best, BlockPosUtil.distManhattan(waypoint.pos(), x, y, z) + totalCost - waypoint.cost());
+        }
+        return best;
     }
 
     @Override
@@ -1,11 +1,14 @@
 package com.minecolonies.core.entity.pathfinding.pathresults;
 
 import com.minecolonies.api.util.Log;
+import com.minecolonies.core.entity.pathfinding.PathCache;
 import com.minecolonies.core.entity.pathfinding.PathFindingStatus;
+import com.minecolonies.core.entity.pathfinding.pathjobs.AbstractPathJob;
 import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -169,6 +172,21 @@ public class PathResult<T extends Callable<Path>>
         this.job = job;
     }
 
+    /**
+     * Resets this result to compute a follow up job of the same movement, like the next segment of a long path. Holders of the result see it computing again instead of
+     * being cancelled.
+     */
+    public void reset()
+    {
+        pathCalculation = null;
+        path = null;
+        pathReachesDestination = false;
+        pathingDoneAndProcessed = false;
+        costPerDist = 1;
+        searchedNodes = 0;
+        setStatus(PathFindingStatus.IN_PROGRESS_COMPUTING);
+    }
+
     /**
      * Starts the job by queing it to an executor
      *
@@ -178,10 +196,33 @@ public class PathResult<T extends Callable<Path>>
     {
         if (job != null)
         {
+            if (job instanceof AbstractPathJob pathJob)
+            {
+                final Path cachedPath = PathCache.getPath(pathJob);
+                if (cachedPath != null)
+                {
+                    setCachedPath(cachedPath);
+                    return;
+                }
+            }
+
             pathCalculation = executorService.submit(job);
         }
     }
 
+    /**
+     * Completes this result with an already computed path, without queueing the job.
+     *
+     * @param cachedPath the path to use.
+     */
+    public void setCachedPath(final Path cachedPath)
+    {
+        path = cachedPath;
+        pathReachesDestination = cachedPath.canReach();
+        setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+        pathingDoneAndProcessed = true;
+    }
+
     /**
      * Processes the completed calculation results
      */
@@ -198,6 +239,13 @@ public class PathResult<T extends Callable<Path>>
             pathCalculation = null;
             setStatus(PathFindingStatus.CALCULATION_COMPLETE);
         }
+        catch (CancellationException e)
+        {
+            // Dropped by the scheduler, e.g. expired or superseded
+            path = null;
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+        }
         catch (InterruptedException | ExecutionException e)
         {
             Log.getLogger().catching(e);
@@ -12,7 +12,6 @@ import com.minecolonies.api.colony.buildings.IGuardBuilding;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.entity.ModEntities;
-import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.other.AbstractFastMinecoloniesEntity;
 import com.minecolonies.api.items.ModTags;
@@ -25,6 +24,7 @@ import com.minecolonies.core.blocks.BlockScarecrow;
 import com.minecolonies.core.blocks.huts.BlockHutTownHall;
 import com.minecolonies.core.client.render.RenderBipedCitizen;
 import com.minecolonies.core.colony.ColonyManager;
+import com.minecolonies.core.colony.ColonyTickScheduler;
 import com.minecolonies.core.colony.buildings.modules.TavernBuildingModule;
 import com.minecolonies.core.colony.eventhooks.citizenEvents.VisitorSpawnedEvent;
 import com.minecolonies.core.colony.interactionhandling.RecruitmentInteraction;
@@ -34,13 +34,14 @@ import com.minecolonies.core.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.core.commands.EntryPoint;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
 import com.minecolonies.core.entity.mobs.EntityMercenary;
+import com.minecolonies.core.entity.pathfinding.ChunkPortalGraph;
+import com.minecolonies.core.entity.pathfinding.PathCache;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
 import com.minecolonies.core.items.ItemBannerRallyGuards;
 import com.minecolonies.core.network.messages.client.OpenSuggestionWindowMessage;
-import com.minecolonies.core.network.messages.client.UpdateChunkCapabilityMessage;
-import com.minecolonies.core.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.core.util.ChunkClaimSyncTracker;
 import com.minecolonies.core.util.ChunkClientDataHelper;
 import com.minecolonies.core.util.ChunkDataHelper;
 import net.minecraft.advancements.critereon.ItemPredicate;
@@ -51,7 +52,6 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.tags.ItemTags;
-import net.minecraft.util.Mth;
 import net.minecraft.world.entity.*;
 import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
 import net.minecraft.world.entity.monster.Enemy;
@@ -86,6 +86,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -370,6 +371,8 @@ public class EventHandler
         if (event.getEntity() instanceof ServerPlayer)
         {
             final ServerPlayer player = (ServerPlayer) event.getEntity();
+            ChunkClaimSyncTracker.reset(player);
+            playerPositions.remove(player.getUUID());
 
             final LevelChunk newChunk = player.level.getChunk(player.chunkPosition().x, player.chunkPosition().z);
 
@@ -414,14 +417,9 @@ public class EventHandler
 
         ChunkDataHelper.loadChunk(chunk, world);
 
-        Network.getNetwork()
-          .sendToPlayer(new UpdateChunkRangeCapabilityMessage(world,
-            chunkPos.x,
-            chunkPos.z,
-            8, true), (ServerPlayer) event.player);
+        ChunkClaimSyncTracker.syncRange((ServerPlayer) event.player, world, chunkPos, 8);
 
         final ChunkCapData chunkCapData = ColonyUtils.getChunkCapData(chunk);
-        Network.getNetwork().sendToPlayer(new UpdateChunkCapabilityMessage(chunkCapData), (ServerPlayer) event.player);
 
         // Check if we get into a differently claimed chunk
         if (chunkCapData.getOwningColony() != -1)
@@ -549,9 +547,21 @@ public class EventHandler
                 colony.getPackageManager().removeImportantColonyPlayer(player);
                 playerPositions.remove(player.getUUID());
             }
+            ChunkClaimSyncTracker.reset(player);
         }
     }
 
+    /**
+     * Event called when the server stops sending a chunk to a player.
+     *
+     * @param event the chunk unwatch event.
+     */
+    @SubscribeEvent
+    public static void onChunkUnWatch(final ChunkWatchEvent.UnWatch event)
+    {
+        ChunkClaimSyncTracker.forgetChunk(event.getPlayer(), event.getPos());
+    }
+
     /**
      * Event called when a citizen enters a new chunk.
      */
@@ -614,6 +624,21 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called when a block changes and notifies its neighbours.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockChanged(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (event.getLevel() instanceof Level level && !level.isClientSide())
+        {
+            PathCache.onBlockChanged(level.dimension(), event.getPos());
+            ChunkPortalGraph.onBlockChanged(level.dimension(), event.getPos());
+        }
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item. Event gets cancelled when player has no permission. Event gets cancelled when the player has no
      * permission to place a hut, and tried it.
@@ -912,13 +937,9 @@ public class EventHandler
     @SubscribeEvent
     public static void onServerTick(TickEvent.ServerTickEvent event)
     {
-        final double lastTickMs = event.getServer().tickTimes[event.getServer().getTickCount() % 100] * 1.0E-6D;
-        if (lastTickMs > 50)
-        {
-            TickRateStateMachine.slownessFactor = Mth.clamp(lastTickMs / 50, 1.0D, 5.0D);
-        } else
+        if (event.phase == TickEvent.Phase.START)
         {
-            TickRateStateMachine.slownessFactor = 1.0D;
+            ColonyTickScheduler.startTick();
         }
     }
 }
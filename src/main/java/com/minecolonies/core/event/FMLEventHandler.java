@@ -1,15 +1,18 @@
 package com.minecolonies.core.event;
 
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.core.colony.ColonyTickScheduler;
 import com.minecolonies.core.datalistener.*;
 import com.minecolonies.core.entity.pathfinding.Pathfinding;
 import com.minecolonies.core.util.BackUpHelper;
+import com.minecolonies.core.util.ColonyPersistence;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.server.ServerAboutToStartEvent;
 import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
@@ -69,6 +72,13 @@ public class FMLEventHandler
     public static void onServerStopped(@NotNull final ServerStoppingEvent event)
     {
         Pathfinding.shutdown();
+        ColonyTickScheduler.clear();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(@NotNull final ServerStoppedEvent event)
+    {
+        ColonyPersistence.flush();
     }
 
     @SubscribeEvent
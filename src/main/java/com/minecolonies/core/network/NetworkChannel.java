@@ -2,6 +2,7 @@ package com.minecolonies.core.network;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
@@ -26,11 +27,13 @@ import com.minecolonies.core.network.messages.server.colony.building.warehouse.S
 import com.minecolonies.core.network.messages.server.colony.building.warehouse.UpgradeWarehouseMessage;
 import com.minecolonies.core.network.messages.server.colony.building.worker.*;
 import com.minecolonies.core.network.messages.server.colony.citizen.*;
+import com.minecolonies.core.network.messages.splitting.SplitMessageAssembly;
 import com.minecolonies.core.network.messages.splitting.SplitPacketMessage;
 import com.minecolonies.core.research.GlobalResearchTreeMessage;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBufAllocator;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.network.Connection;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -44,19 +47,32 @@ import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.zip.Deflater;
 
 /**
  * Our wrapper for Forge network layer
  */
 public class NetworkChannel
 {
+    /**
+     * Messages of at least this size are compressed before they are split.
+     */
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    /**
+     * Max size of the data of a split packet: 90% of the max packet size.
+     */
+    private static final int MAX_PACKET_SIZE = 943718;
+
     /**
      * Forge network channel
      */
@@ -75,10 +91,16 @@ public class NetworkChannel
     /**
      * Cache of partially received messages, this holds the data untill it is processed.
      */
-    private final Cache<Integer, Map<Integer, byte[]>> messageCache = CacheBuilder.newBuilder()
-                                                                        .expireAfterAccess(1, TimeUnit.MINUTES)
-                                                                        .concurrencyLevel(8)
-                                                                        .build();
+    private final Cache<Integer, SplitMessageAssembly> messageCache = CacheBuilder.newBuilder()
+                                                                    .expireAfterAccess(1, TimeUnit.MINUTES)
+                                                                    .concurrencyLevel(8)
+                                                                    .removalListener((RemovalListener<Integer, SplitMessageAssembly>) notification -> {
+                                                                        if (notification.wasEvicted() && notification.getValue() != null)
+                                                                        {
+                                                                            notification.getValue().release();
+                                                                        }
+                                                                    })
+                                                                    .build();
 
     /**
      * An atomic counter which keeps track of the split messages that have been send to somewhere from this network node.
@@ -118,6 +140,7 @@ public class NetworkChannel
         registerMessage(++idx, ColonyViewRemoveWorkOrderMessage.class, ColonyViewRemoveWorkOrderMessage::new);
         registerMessage(++idx, UpdateChunkCapabilityMessage.class, UpdateChunkCapabilityMessage::new);
         registerMessage(++idx, ColonyViewResearchManagerViewMessage.class, ColonyViewResearchManagerViewMessage::new);
+        registerMessage(++idx, ColonyViewResyncMessage.class, ColonyViewResyncMessage::new);
 
         //  Permission Request messages
         registerMessage(++idx, PermissionsMessage.Permission.class, PermissionsMessage.Permission::new);
@@ -309,6 +332,33 @@ public class NetworkChannel
         handleSplitting(msg, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
     }
 
+    /**
+     * Sends to several players. The message is serialized and split only once, and every part is encoded once and shared by the connections of all players.
+     *
+     * @param msg     message to send
+     * @param players target players
+     */
+    public void sendToPlayers(final IMessage msg, final Collection<ServerPlayer> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        if (players.size() == 1)
+        {
+            sendToPlayer(msg, players.iterator().next());
+            return;
+        }
+
+        final List<Connection> connections = new ArrayList<>(players.size());
+        for (final ServerPlayer player : players)
+        {
+            connections.add(player.connection.connection);
+        }
+        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.NMLIST.with(() -> connections), s));
+    }
+
     /**
      * Sends the message to the origin of a different message based on the networking context given.
      *
@@ -421,42 +471,100 @@ public class NetworkChannel
             throw new IllegalArgumentException("The message is unknown to this channel!");
         }
 
-        //Write the message into a buffer and copy that buffer into a byte array for processing.
-        final ByteBuf buffer = Unpooled.buffer();
-        final FriendlyByteBuf innerFriendlyByteBuf = new FriendlyByteBuf(buffer);
-        msg.toBytes(innerFriendlyByteBuf);
-        final byte[] data = buffer.array();
-        buffer.release();
-
-        //Some tracking variables.
-        //Max packet size: 90% of maximum.
-        final int max_packet_size = 943718; //This is 90% of max packet size.
-        //The current index in the data array.
-        int currentIndex = 0;
-        //The current index for the split packets.
-        int packetIndex = 0;
-        //The communication id.
-        final int comId = messageCounter.getAndIncrement();
-
-        //Loop while data is available.
-        while (currentIndex < data.length)
+        //Write the message into a pooled buffer.
+        final ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer();
+        try
+        {
+            msg.toBytes(new FriendlyByteBuf(buffer));
+        }
+        catch (final RuntimeException e)
+        {
+            buffer.release();
+            throw e;
+        }
+
+        //Compress bigger messages, if that makes them smaller.
+        ByteBuf data = buffer;
+        boolean compressed = false;
+        if (buffer.readableBytes() >= COMPRESSION_THRESHOLD)
+        {
+            final ByteBuf deflated = compress(buffer);
+            if (deflated.readableBytes() < buffer.readableBytes())
+            {
+                buffer.release();
+                data = deflated;
+                compressed = true;
+            }
+            else
+            {
+                deflated.release();
+            }
+        }
+
+        try
         {
-            //Tell the network message entry that we are splitting a packet.
-            this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
+            //The current index in the data.
+            int currentIndex = data.readerIndex();
+            //The current index for the split packets.
+            int packetIndex = 0;
+            //The communication id.
+            final int comId = messageCounter.getAndIncrement();
+
+            //Loop while data is available, an empty message is still sent as a single part.
+            do
+            {
+                //Tell the network message entry that we are splitting a packet.
+                this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
 
-            final int extra = Math.min(max_packet_size, data.length - currentIndex);
-            //Extract the sub data array.
-            final byte[] subPacketData = Arrays.copyOfRange(data, currentIndex, currentIndex + extra);
+                final int extra = Math.min(MAX_PACKET_SIZE, data.writerIndex() - currentIndex);
+                //The parts are slices of the data, they are encoded before the data is released.
+                final ByteBuf subPacketData = data.slice(currentIndex, extra);
 
-            //Construct the wrapping packet.
-            final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= data.length, messageId, subPacketData);
+                //Construct the wrapping packet.
+                final SplitPacketMessage splitPacketMessage =
+                  new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= data.writerIndex(), messageId, compressed, subPacketData);
 
-            //Send the wrapping packet.
-            splitMessageConsumer.accept(splitPacketMessage);
+                //Send the wrapping packet.
+                splitMessageConsumer.accept(splitPacketMessage);
+
+                //Move our working index.
+                currentIndex += extra;
+            }
+            while (currentIndex < data.writerIndex());
+        }
+        finally
+        {
+            data.release();
+        }
+    }
 
-            //Move our working index.
-            currentIndex += extra;
+    /**
+     * Deflates the readable bytes of a buffer.
+     *
+     * @param data the buffer to compress.
+     * @return a new buffer with the compressed data.
+     */
+    private static ByteBuf compress(final ByteBuf data)
+    {
+        // Best speed already shrinks the redundant view data a lot, while keeping the cost on the server thread low.
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        final ByteBuf compressed = ByteBufAllocator.DEFAULT.buffer(Math.max(64, data.readableBytes() / 4));
+        try
+        {
+            deflater.setInput(data.nioBuffer());
+            deflater.finish();
+            while (!deflater.finished())
+            {
+                compressed.ensureWritable(8192);
+                final int written = deflater.deflate(compressed.nioBuffer(compressed.writerIndex(), compressed.writableBytes()));
+                compressed.writerIndex(compressed.writerIndex() + written);
+            }
+        }
+        finally
+        {
+            deflater.end();
         }
+        return compressed;
     }
 
     /**
@@ -464,7 +572,7 @@ public class NetworkChannel
      *
      * @return The message cache.
      */
-    public Cache<Integer, Map<Integer, byte[]>> getMessageCache()
+    public Cache<Integer, SplitMessageAssembly> getMessageCache()
     {
         return messageCache;
     }
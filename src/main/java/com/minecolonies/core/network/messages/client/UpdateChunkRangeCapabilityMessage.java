@@ -39,6 +39,16 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
         super();
     }
 
+    /**
+     * Create a message to update the chunk cap of a set of chunks on the client side.
+     *
+     * @param caps the data of the chunks.
+     */
+    public UpdateChunkRangeCapabilityMessage(@NotNull final List<ChunkCapData> caps)
+    {
+        this.caps.addAll(caps);
+    }
+
     /**
      * Create a message to update the chunk cap on the client side.
      *
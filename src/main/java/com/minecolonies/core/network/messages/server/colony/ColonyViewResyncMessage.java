@@ -0,0 +1,64 @@
+package com.minecolonies.core.network.messages.server.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.core.network.messages.server.AbstractColonyServerMessage;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Message sent by a client whose colony view missed an update, to get a full snapshot of the view again.
+ */
+public class ColonyViewResyncMessage extends AbstractColonyServerMessage
+{
+    /**
+     * Empty public constructor.
+     */
+    public ColonyViewResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request a full snapshot of a colony view.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     */
+    public ColonyViewResyncMessage(final ResourceKey<Level> dimension, final int colonyId)
+    {
+        super(dimension, colonyId);
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return null;
+    }
+
+    @Override
+    protected void toBytesOverride(@NotNull final FriendlyByteBuf buf)
+    {
+
+    }
+
+    @Override
+    protected void fromBytesOverride(@NotNull final FriendlyByteBuf buf)
+    {
+
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony)
+    {
+        if (ctxIn.getSender() != null)
+        {
+            colony.getPackageManager().resendColonyView(ctxIn.getSender());
+        }
+    }
+}
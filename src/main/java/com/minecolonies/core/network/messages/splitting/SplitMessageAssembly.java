@@ -0,0 +1,212 @@
+package com.minecolonies.core.network.messages.splitting;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reassembles the parts of a split message as they arrive. Compressed parts are inflated as soon as they can be appended, so the compressed data is never held as a whole.
+ * The message data is capped at a maximum size, the assembly is aborted when the parts or their inflated data exceed it.
+ */
+public class SplitMessageAssembly
+{
+    /**
+     * Size the output buffer grows by while inflating.
+     */
+    private static final int INFLATE_CHUNK_SIZE = 8192;
+
+    /**
+     * Maximum size of the message data sent by a client, the limit vanilla applies to serverbound custom payloads.
+     */
+    public static final int MAX_SERVERBOUND_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Maximum size of the message data sent by the server, large enough for the views of big colonies.
+     */
+    public static final int MAX_CLIENTBOUND_SIZE = 128 * 1024 * 1024;
+
+    /**
+     * The maximum size of the message data.
+     */
+    private final int maxSize;
+
+    /**
+     * The reassembled, uncompressed message data.
+     */
+    private final ByteBuf data = Unpooled.buffer();
+
+    /**
+     * Parts which arrived before the parts in front of them.
+     */
+    private final Map<Integer, ByteBuf> pending = new HashMap<>();
+
+    /**
+     * The inflater of a compressed message, created with the first compressed part.
+     */
+    private Inflater inflater;
+
+    /**
+     * The index of the next part to append.
+     */
+    private int nextIndex = 0;
+
+    /**
+     * The index of the last part, -1 until it arrived.
+     */
+    private int lastIndex = -1;
+
+    /**
+     * The size of the parts waiting in {@link #pending}.
+     */
+    private int pendingBytes = 0;
+
+    /**
+     * Whether the assembly was released, parts arriving afterwards are dropped.
+     */
+    private boolean released = false;
+
+    /**
+     * Create a new assembly.
+     *
+     * @param maxSize the maximum size of the message data.
+     */
+    public SplitMessageAssembly(final int maxSize)
+    {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds a part of the message, appending all parts which are in order.
+     *
+     * @param index      the index of the part.
+     * @param terminator whether this is the last part.
+     * @param compressed whether the message data is compressed.
+     * @param payload    the data of the part.
+     * @throws DataFormatException if the compressed data is corrupt or the message exceeds the maximum size, the assembly is released then.
+     */
+    public synchronized void addPart(final int index, final boolean terminator, final boolean compressed, final ByteBuf payload) throws DataFormatException
+    {
+        if (released)
+        {
+            return;
+        }
+
+        if (terminator)
+        {
+            lastIndex = index;
+        }
+
+        try
+        {
+            final ByteBuf previous = pending.put(index, payload);
+            pendingBytes += payload.readableBytes() - (previous == null ? 0 : previous.readableBytes());
+            checkSize(pendingBytes);
+
+            ByteBuf next;
+            while ((next = pending.remove(nextIndex)) != null)
+            {
+                pendingBytes -= next.readableBytes();
+                append(next, compressed);
+                nextIndex++;
+            }
+        }
+        catch (final DataFormatException e)
+        {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks that the message data stays within the maximum size.
+     *
+     * @param additional the bytes about to be added to the message data.
+     * @throws DataFormatException if the maximum size would be exceeded.
+     */
+    private void checkSize(final long additional) throws DataFormatException
+    {
+        if (data.writerIndex() + additional > maxSize)
+        {
+            throw new DataFormatException("Split message exceeds the maximum size of " + maxSize + " bytes");
+        }
+    }
+
+    /**
+     * Appends the next part to the message data.
+     *
+     * @param part       the part.
+     * @param compressed whether the message data is compressed.
+     * @throws DataFormatException if the compressed data is corrupt or the message exceeds the maximum size.
+     */
+    private void append(final ByteBuf part, final boolean compressed) throws DataFormatException
+    {
+        if (!compressed)
+        {
+            checkSize(part.readableBytes());
+            data.writeBytes(part);
+            return;
+        }
+
+        if (inflater == null)
+        {
+            inflater = new Inflater();
+        }
+
+        inflater.setInput(part.nioBuffer());
+        while (!inflater.finished() && !inflater.needsInput())
+        {
+            // Inflate at most one byte past the maximum, so a decompression bomb is detected before its data is held.
+            data.ensureWritable(INFLATE_CHUNK_SIZE);
+            final int length = (int) Math.min(data.writableBytes(), maxSize + 1L - data.writerIndex());
+            final int written = inflater.inflate(data.array(), data.arrayOffset() + data.writerIndex(), length);
+            if (written == 0 && inflater.needsDictionary())
+            {
+                throw new DataFormatException("Split message requires a preset dictionary");
+            }
+            data.writerIndex(data.writerIndex() + written);
+            checkSize(0);
+        }
+    }
+
+    /**
+     * Whether all parts arrived and got appended.
+     *
+     * @return true if the message is complete.
+     */
+    public synchronized boolean isComplete()
+    {
+        return lastIndex >= 0 && nextIndex > lastIndex;
+    }
+
+    /**
+     * Get the reassembled message data.
+     *
+     * @return the data.
+     */
+    public ByteBuf getData()
+    {
+        return data;
+    }
+
+    /**
+     * Releases the message data and the inflater.
+     */
+    public synchronized void release()
+    {
+        released = true;
+        if (data.refCnt() > 0)
+        {
+            data.release();
+        }
+        if (inflater != null)
+        {
+            inflater.end();
+        }
+        pending.clear();
+        pendingBytes = 0;
+    }
+}
@@ -1,7 +1,5 @@
 package com.minecolonies.core.network.messages.splitting;
 
-import com.google.common.collect.Maps;
-import com.google.common.primitives.Bytes;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.core.Network;
@@ -12,8 +10,8 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.network.NetworkEvent;
 
-import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.DataFormatException;
 
 /**
  * Represents a class that wrappers other messages in byte form and is used to split the wrapped messages data into several chunks.
@@ -41,9 +39,14 @@ public class SplitPacketMessage implements IMessage
     private int innerMessageId = -1;
 
     /**
-     * The payload.
+     * Whether the data of the wrapped message is compressed.
      */
-    private byte[] payload;
+    private boolean compressed = false;
+
+    /**
+     * The payload, a slice of the wrapped message data when sending.
+     */
+    private ByteBuf payload;
 
     /**
      * The network receiving constructor.
@@ -52,12 +55,19 @@ public class SplitPacketMessage implements IMessage
     {
     }
 
-    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final byte[] payload)
+    public SplitPacketMessage(
+      final int communicationId,
+      final int packetIndex,
+      final boolean terminator,
+      final int innerMessageId,
+      final boolean compressed,
+      final ByteBuf payload)
     {
         this.communicationId = communicationId;
         this.packetIndex = packetIndex;
         this.terminator = terminator;
         this.innerMessageId = innerMessageId;
+        this.compressed = compressed;
         this.payload = payload;
     }
 
@@ -68,7 +78,10 @@ public class SplitPacketMessage implements IMessage
         buf.writeVarInt(this.packetIndex);
         buf.writeBoolean(this.terminator);
         buf.writeVarInt(this.innerMessageId);
-        buf.writeByteArray(this.payload);
+        buf.writeBoolean(this.compressed);
+        // Written without moving the reader index, so the same slice can be encoded for several targets.
+        buf.writeVarInt(this.payload.readableBytes());
+        buf.writeBytes(this.payload, this.payload.readerIndex(), this.payload.readableBytes());
     }
 
     @Override
@@ -78,7 +91,8 @@ public class SplitPacketMessage implements IMessage
         this.packetIndex = buf.readVarInt();
         this.terminator = buf.readBoolean();
         this.innerMessageId = buf.readVarInt();
-        this.payload = buf.readByteArray();
+        this.compressed = buf.readBoolean();
+        this.payload = Unpooled.wrappedBuffer(buf.readByteArray());
     }
 
     @Override
@@ -87,24 +101,21 @@ public class SplitPacketMessage implements IMessage
         try
         {
             //Sync on the message cache since this is still on the Netty thread.
+            final SplitMessageAssembly assembly;
             synchronized (Network.getNetwork().getMessageCache())
             {
-                Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).put(this.packetIndex, this.payload);
+                assembly = Network.getNetwork().getMessageCache().get(this.communicationId, () -> new SplitMessageAssembly(
+                  isLogicalServer ? SplitMessageAssembly.MAX_SERVERBOUND_SIZE : SplitMessageAssembly.MAX_CLIENTBOUND_SIZE));
             }
 
-            if (!this.terminator)
+            //Parts are appended, and inflated if compressed, as soon as they are in order. An aborted assembly stays cached until it expires, dropping the remaining parts.
+            assembly.addPart(this.packetIndex, this.terminator, this.compressed, this.payload);
+            if (!assembly.isComplete())
             {
                 //We are not the last message stop executing.
                 return;
             }
-
-            //No need to sync again, since we are now the last packet to arrive.
-            //All data gets sorted and appended.
-            final byte[] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
-                                        .stream()
-                                        .sorted(Map.Entry.comparingByKey())
-                                        .map(Map.Entry::getValue)
-              .reduce(new byte[0], Bytes::concat);
+            Network.getNetwork().getMessageCache().asMap().remove(this.communicationId, assembly);
 
             //Grab the entry from the inner message id.
             final NetworkChannel.NetworkingMessageEntry<?> messageEntry = Network.getNetwork().getMessagesTypes().get(this.innerMessageId);
@@ -112,20 +123,20 @@ public class SplitPacketMessage implements IMessage
             //Create a message.
             final IMessage message = messageEntry.getCreator().get();
 
-            //Create a new buffer that reads from the packet data and then deserialize the inner message.
-            final ByteBuf buffer = Unpooled.wrappedBuffer(packetData);
+            //Deserialize the inner message from the reassembled data.
             try
             {
-                message.fromBytes(new FriendlyByteBuf(buffer));
+                message.fromBytes(new FriendlyByteBuf(assembly.getData()));
             }
             catch (Exception e)
             {
                 Log.getLogger().error("Packet error:", e);
-                buffer.release();
                 return;
             }
-
-            buffer.release();
+            finally
+            {
+                assembly.release();
+            }
 
             //Execute the message.
             final LogicalSide packetOrigin = ctxIn.getDirection().getOriginationSide();
@@ -147,7 +158,7 @@ public class SplitPacketMessage implements IMessage
                 }
             });
         }
-        catch (ExecutionException e)
+        catch (ExecutionException | DataFormatException e)
         {
             Log.getLogger().error("Failed to handle split packet.", e);
         }
@@ -17,6 +17,7 @@ import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.colony.buildings.BuildingInventoryIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -122,6 +123,12 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
      */
     private boolean checkedAfterStartup = false;
 
+    /**
+     * The inventory index of the building this rack reports its content to, if any.
+     */
+    @Nullable
+    private BuildingInventoryIndex inventoryIndex;
+
     /**
      * Create a new rack.
      * @param type the specific block entity type.
@@ -349,6 +356,21 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
             }
             content.put(storage, amount);
         }
+
+        if (inventoryIndex != null)
+        {
+            inventoryIndex.onRackContentChanged(worldPosition, content);
+        }
+    }
+
+    /**
+     * Set the building inventory index this rack reports its content changes to.
+     *
+     * @param inventoryIndex the index.
+     */
+    public void setInventoryIndex(@Nullable final BuildingInventoryIndex inventoryIndex)
+    {
+        this.inventoryIndex = inventoryIndex;
     }
 
     @Override
@@ -587,6 +609,11 @@ public class TileEntityRack extends AbstractTileEntityRack implements IMateriall
     {
         super.setRemoved();
         invalidateCap();
+        if (inventoryIndex != null)
+        {
+            inventoryIndex.onRackRemoved(worldPosition);
+            inventoryIndex = null;
+        }
     }
 
     /**
@@ -1,10 +1,13 @@
 package com.minecolonies.core.tileentities;
 
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
 import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
 import com.minecolonies.api.util.*;
+import com.minecolonies.core.colony.buildings.AbstractBuildingContainer;
+import com.minecolonies.core.colony.buildings.BuildingInventoryIndex;
 import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -38,30 +41,35 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         inWarehouse = true;
     }
 
+    /**
+     * Get the inventory index of the racks of this warehouse.
+     *
+     * @return the index, or null if the building is not known.
+     */
+    @Nullable
+    private BuildingInventoryIndex getInventoryIndex()
+    {
+        return getBuilding() instanceof AbstractBuildingContainer building ? building.getInventoryIndex() : null;
+    }
+
     @Override
-    public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
+    public int getItemCountInWarehouse(@NotNull final ItemStorage storage)
     {
-        int totalCount = 0;
-        if (getBuilding() != null)
-        {
-            for (@NotNull final BlockPos pos : getBuilding().getContainers())
-            {
-                if (WorldUtil.isBlockLoaded(level, pos))
-                {
-                    final BlockEntity entity = getLevel().getBlockEntity(pos);
-                    if (entity instanceof final TileEntityRack rack && !rack.isEmpty())
-                    {
-                        totalCount += rack.getItemCount(itemStackSelectionPredicate);
-                        if (totalCount >= count)
-                        {
-                            return true;
-                        }
-                    }
-                }
-            }
-        }
+        final BuildingInventoryIndex index = getInventoryIndex();
+        return index == null ? 0 : index.getCount(storage);
+    }
+
+    @Override
+    public int getItemCountInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, final int limit)
+    {
+        final BuildingInventoryIndex index = getInventoryIndex();
+        return index == null ? 0 : index.getCount(itemStackSelectionPredicate, limit);
+    }
 
-        return false;
+    @Override
+    public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
+    {
+        return getItemCountInWarehouse(itemStackSelectionPredicate, count) >= count;
     }
 
     @Override
@@ -73,23 +81,7 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final boolean ignoreDamage, final int leftOver)
     {
-        int totalCountFound = 0 - leftOver;
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
-        {
-            if (WorldUtil.isBlockLoaded(level, pos))
-            {
-                final BlockEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty())
-                {
-                    totalCountFound += ((AbstractTileEntityRack) entity).getCount(itemStack, ignoreDamage, ignoreNBT);
-                    if (totalCountFound >= count)
-                    {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+        return getItemCountInWarehouse(new ItemStorage(itemStack, ignoreDamage, ignoreNBT)) - leftOver >= count;
     }
 
     @Override
@@ -102,26 +94,8 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @NotNull
     public List<Tuple<ItemStack, BlockPos>> getMatchingItemStacksInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        List<Tuple<ItemStack, BlockPos>> found = new ArrayList<>();
-        
-        if (getBuilding() != null)
-        {
-            for (@NotNull final BlockPos pos : getBuilding().getContainers())
-            {
-                if (WorldUtil.isBlockLoaded(level, pos))
-                {
-                    final BlockEntity entity = getLevel().getBlockEntity(pos);
-                    if (entity instanceof final TileEntityRack rack && !rack.isEmpty() && rack.getItemCount(itemStackSelectionPredicate) > 0)
-                    {
-                        for (final ItemStack stack : (InventoryUtils.filterItemHandler(rack.getInventory(), itemStackSelectionPredicate)))
-                        {
-                            found.add(new Tuple<>(stack, pos));
-                        }
-                    }
-                }
-            }
-        }
-        return found;
+        final BuildingInventoryIndex index = getInventoryIndex();
+        return index == null ? new ArrayList<>() : index.getMatchingStacks(itemStackSelectionPredicate);
     }
 
     @Override
@@ -193,17 +167,20 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Nullable
     private BlockEntity getPositionOfChestWithItemStack(@NotNull final ItemStack stack)
     {
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        final BuildingInventoryIndex index = getInventoryIndex();
+        if (index == null)
+        {
+            return null;
+        }
+
+        for (@NotNull final BlockPos pos : index.getRackPositions(new ItemStorage(stack, true)))
         {
             if (WorldUtil.isBlockLoaded(level, pos))
             {
                 final BlockEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof AbstractTileEntityRack)
+                if (entity instanceof AbstractTileEntityRack && ((AbstractTileEntityRack) entity).getFreeSlots() > 0)
                 {
-                    if (((AbstractTileEntityRack) entity).getFreeSlots() > 0 && ((AbstractTileEntityRack) entity).hasItemStack(stack, 1, true))
-                    {
-                        return entity;
-                    }
+                    return entity;
                 }
             }
         }
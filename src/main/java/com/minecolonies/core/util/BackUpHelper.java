@@ -9,7 +9,6 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.core.colony.Colony;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
@@ -50,11 +49,6 @@ public final class BackUpHelper
      */
     public static final String FILENAME_EXPORT = "colony%dExport.zip";
 
-    /**
-     * Maximum amount of backup zips
-     */
-    private static final int MAX_BACKUPS = 20;
-
     /**
      * Last backup timer before the next is allowed
      */
@@ -72,7 +66,7 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data. The colony tags are taken on the calling thread, storing them in the backup store happens on the colony IO thread.
      *
      * @return true if succesful.
      */
@@ -84,78 +78,35 @@ public final class BackUpHelper
         }
         lastBackupTime = System.currentTimeMillis();
 
-        BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+        try
         {
             @NotNull final File saveDir =
               new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
-
+            final List<String> deletedFiles = new ArrayList<>();
             for (final ResourceKey<Level> dimensionType : net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().levels.keySet())
             {
                 for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
                 {
                     @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
                     @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
-                    if (file.exists())
+                    // mark existing files
+                    if (file.exists() && IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
                     {
-                        // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
-                        {
-                            markColonyDeleted(i, dimensionType);
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
-                        }
-                        else
-                        {
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i), zos, saveDir);
-                        }
+                        markColonyDeleted(i, dimensionType);
                     }
-                    else if (fileDeleted.exists())
+
+                    if (fileDeleted.exists())
                     {
-                        addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                        deletedFiles.add(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
                     }
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
-
-            File[] files = saveDir.listFiles();
-
-            if (files == null)
-            {
-                return true;
-            }
-
-            final List<File> fileList = new ArrayList<>();
-
-            for (final File current : files)
-            {
-                if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
-                {
-                    continue;
-                }
-
-                fileList.add(current);
-            }
-
-            if (fileList.size() <= MAX_BACKUPS)
-            {
-                return true;
-            }
 
-            fileList.sort(Comparator.comparingLong(File::lastModified));
+            final Map<String, CompoundTag> tags = getSaveTags();
+            writeSaveTags(saveDir, tags);
 
-            int deleteCount = fileList.size() - MAX_BACKUPS;
-            for (File current : fileList)
-            {
-                if (deleteCount <= 0)
-                {
-                    break;
-                }
-
-                deleteCount--;
-                current.delete();
-            }
+            final String name = new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date());
+            ColonyPersistence.execute(() -> ColonyBackupStore.store(saveDir, name, tags, deletedFiles));
         }
         catch (final Exception e)
         {
@@ -169,6 +120,35 @@ public final class BackUpHelper
         return true;
     }
 
+    /**
+     * Restores the colony files of a backup and loads the colonies from them.
+     *
+     * @param name the name of the backup.
+     * @return false if the backup does not exist or could not be restored.
+     */
+    public static boolean restoreBackup(final String name)
+    {
+        ColonyPersistence.flush();
+        @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        if (!ColonyBackupStore.restore(saveDir, name))
+        {
+            return false;
+        }
+
+        loadAllBackups();
+        return true;
+    }
+
+    /**
+     * Get the names of all stored backups, oldest first.
+     *
+     * @return the names.
+     */
+    public static List<String> getBackups()
+    {
+        return ColonyBackupStore.getBackups(new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH));
+    }
+
     /**
      * Loads the colony managers backup file
      */
@@ -222,33 +202,6 @@ public final class BackUpHelper
         }
     }
 
-    /**
-     * Get save location for Minecolonies backup data, from the world/save directory.
-     *
-     * @param date the current time.
-     * @return Save file for minecolonies.
-     */
-    @NotNull
-    private static File getBackupSaveLocation(final Date date)
-    {
-        @NotNull final File saveDir =
-          new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
-    }
-
-    /**
-     * Add zip to file.
-     *
-     * @param fileName the file name.
-     * @param zos      the output stream.
-     * @param folder   the folder.
-     */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
-    {
-        final File file = new File(folder, fileName);
-        addFileToZipWithPath(fileName, zos, file);
-    }
-
     /**
      * Add the file to the given zip, with the path
      *
@@ -292,17 +245,9 @@ public final class BackUpHelper
      */
     public static void saveNBTToPath(@Nullable final File file, @NotNull final CompoundTag compound)
     {
-        try
+        if (file != null)
         {
-            if (file != null)
-            {
-                file.getParentFile().mkdirs();
-                NbtIo.write(compound, file);
-            }
-        }
-        catch (final IOException exception)
-        {
-            Log.getLogger().error("Exception when saving ColonyManager", exception);
+            ColonyPersistence.writeAtomically(file, compound);
         }
     }
 
@@ -316,9 +261,9 @@ public final class BackUpHelper
     {
         try
         {
-            if (file != null && file.exists())
+            if (file != null)
             {
-                return NbtIo.read(file);
+                return ColonyPersistence.read(file);
             }
         }
         catch (final IOException exception)
@@ -329,22 +274,50 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Save all the Colonies. The tags are taken on the calling thread, reusing the tag of colonies which did not change since their last save, and written on the colony IO
+     * thread.
      */
     public static void saveColonies()
     {
+        writeSaveTags(new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH), getSaveTags());
+    }
+
+    /**
+     * Get the tags of the colony manager and all colonies.
+     *
+     * @return the tags by their path relative to the minecolonies save folder.
+     */
+    private static Map<String, CompoundTag> getSaveTags()
+    {
+        final Map<String, CompoundTag> tags = new LinkedHashMap<>();
         @NotNull final CompoundTag compound = new CompoundTag();
         IColonyManager.getInstance().write(compound);
+        tags.put(FILENAME_MINECOLONIES, compound);
 
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
-        @NotNull final File saveDir =
-          new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final CompoundTag colonyCompound = new CompoundTag();
-            colony.write(colonyCompound);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
+            final long start = System.nanoTime();
+            final CompoundTag colonyCompound = colony.getColonyTag();
+            ColonyPersistence.reportSaveTime(colony.getID(), start);
+            if (colonyCompound != null)
+            {
+                tags.put(getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID()), colonyCompound);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Queues the tags to be written to their files on the colony IO thread.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param tags    the tags by their path relative to the save folder.
+     */
+    private static void writeSaveTags(final File saveDir, final Map<String, CompoundTag> tags)
+    {
+        for (final Map.Entry<String, CompoundTag> entry : tags.entrySet())
+        {
+            ColonyPersistence.write(new File(saveDir, entry.getKey()), entry.getValue());
         }
     }
 
@@ -359,6 +332,8 @@ public final class BackUpHelper
         @NotNull final File saveDir =
           new File(net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID));
+        ColonyPersistence.flush();
+        ColonyPersistence.forget(toDelete);
         if (toDelete.exists())
         {
             final String fileName = getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY_DELETED, colonyID);
@@ -492,6 +467,7 @@ public final class BackUpHelper
         final String worldname = topworldDir.getParent().replace("." + File.separator, "");
         final String minecoloniesZipDir = worldname + File.separator + "minecolonies";
         final File saveDir = new File(topworldDir, FILENAME_MINECOLONIES_PATH);
+        ColonyPersistence.flush();
         try (FileOutputStream fos = new FileOutputStream(new File(saveDir, String.format(FILENAME_EXPORT, colony.getID()))))
         {
             final ZipOutputStream zos = new ZipOutputStream(fos);
@@ -0,0 +1,165 @@
+package com.minecolonies.core.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.util.ChunkCapData;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.Network;
+import com.minecolonies.core.network.messages.client.UpdateChunkCapabilityMessage;
+import com.minecolonies.core.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+
+/**
+ * Keeps track of the chunk claim data every player received, so only chunks the client does not know yet or which changed since are synced. Claim changes are pushed to the
+ * players tracking the chunk and recorded, chunks the client unloads are forgotten again.
+ */
+public final class ChunkClaimSyncTracker
+{
+    /**
+     * Entries further away than this many times the sync range are dropped.
+     */
+    private static final int PRUNE_RANGE_FACTOR = 2;
+
+    /**
+     * The hash of the claim data the client received, by chunk and player.
+     */
+    private static final Map<UUID, Long2IntMap> syncedChunks = new HashMap<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ChunkClaimSyncTracker()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Sends the claim data of the loaded chunks around a position which the player does not have yet, or which changed since it was sent.
+     *
+     * @param player the player.
+     * @param world  the world.
+     * @param center the center chunk.
+     * @param range  the range in chunks.
+     */
+    public static void syncRange(@NotNull final ServerPlayer player, @NotNull final Level world, @NotNull final ChunkPos center, final int range)
+    {
+        final Long2IntMap synced = syncedChunks.computeIfAbsent(player.getUUID(), uuid -> new Long2IntOpenHashMap());
+        final List<ChunkCapData> changed = new ArrayList<>();
+        for (int x = center.x - range; x <= center.x + range; x++)
+        {
+            for (int z = center.z - range; z <= center.z + range; z++)
+            {
+                if (!WorldUtil.isEntityChunkLoaded(world, x, z))
+                {
+                    continue;
+                }
+
+                final IColonyTagCapability cap = world.getChunk(x, z).getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+                if (cap == null)
+                {
+                    continue;
+                }
+
+                final List<Integer> staticClaims = cap.getStaticClaimColonies();
+                final int hash = getSyncHash(cap.getOwningColony(), staticClaims);
+                final long key = ChunkPos.asLong(x, z);
+                if (!synced.containsKey(key) || synced.get(key) != hash)
+                {
+                    synced.put(key, hash);
+                    changed.add(new ChunkCapData(x, z, cap.getOwningColony(), staticClaims, cap.getAllClaimingBuildings()));
+                }
+            }
+        }
+
+        final int pruneRange = range * PRUNE_RANGE_FACTOR;
+        synced.keySet().removeIf(key -> Math.abs(ChunkPos.getX(key) - center.x) > pruneRange || Math.abs(ChunkPos.getZ(key) - center.z) > pruneRange);
+
+        if (!changed.isEmpty())
+        {
+            Network.getNetwork().sendToPlayer(new UpdateChunkRangeCapabilityMessage(changed), player);
+        }
+    }
+
+    /**
+     * Pushes the changed claim data of a chunk to all players tracking it.
+     *
+     * @param chunk the chunk.
+     * @param cap   the claim capability of the chunk.
+     */
+    public static void onClaimChanged(@NotNull final LevelChunk chunk, @NotNull final IColonyTagCapability cap)
+    {
+        if (!(chunk.getLevel() instanceof final ServerLevel level))
+        {
+            return;
+        }
+
+        final ChunkPos pos = chunk.getPos();
+        final int hash = getSyncHash(cap.getOwningColony(), cap.getStaticClaimColonies());
+        final long key = pos.toLong();
+        for (final ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(pos, false))
+        {
+            final Long2IntMap synced = syncedChunks.get(player.getUUID());
+            if (synced != null)
+            {
+                synced.put(key, hash);
+            }
+        }
+
+        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, pos.x, pos.z), chunk);
+    }
+
+    /**
+     * Forgets a chunk of a player, called when the client unloads it and drops its claim data.
+     *
+     * @param player the player.
+     * @param pos    the chunk position.
+     */
+    public static void forgetChunk(@NotNull final ServerPlayer player, @NotNull final ChunkPos pos)
+    {
+        final Long2IntMap synced = syncedChunks.get(player.getUUID());
+        if (synced != null)
+        {
+            synced.remove(pos.toLong());
+        }
+    }
+
+    /**
+     * Forgets everything a player received, called on logout and when the player changes dimension.
+     *
+     * @param player the player.
+     */
+    public static void reset(@NotNull final ServerPlayer player)
+    {
+        syncedChunks.remove(player.getUUID());
+    }
+
+    /**
+     * Calculates the hash of the claim data the client receives, independent of the order of the static claims.
+     *
+     * @param owningColony the owning colony.
+     * @param staticClaims the static claims.
+     * @return the hash.
+     */
+    private static int getSyncHash(final int owningColony, final Collection<Integer> staticClaims)
+    {
+        int claims = 0;
+        for (final int id : staticClaims)
+        {
+            claims += HashCommon.mix(id);
+        }
+        return 31 * owningColony + claims;
+    }
+}
@@ -7,9 +7,7 @@ import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.util.*;
 import com.minecolonies.core.MineColonies;
-import com.minecolonies.core.Network;
 import com.minecolonies.core.colony.IColonyManagerCapability;
-import com.minecolonies.core.network.messages.client.UpdateChunkCapabilityMessage;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
 import net.minecraft.util.Tuple;
@@ -120,7 +118,7 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+            ChunkClaimSyncTracker.onClaimChanged(chunk, cap);
         }
     }
 
@@ -401,7 +399,7 @@ public final class ChunkDataHelper
             cap.removeColony(id, chunk);
         }
 
-        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z), chunk);
+        ChunkClaimSyncTracker.onClaimChanged(chunk, cap);
         return true;
     }
 
@@ -467,7 +465,7 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(colony.getID(), buildingPos, chunk);
         }
 
-        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z), chunk);
+        ChunkClaimSyncTracker.onClaimChanged(chunk, cap);
         return true;
     }
 }
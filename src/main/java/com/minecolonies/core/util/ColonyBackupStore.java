@@ -0,0 +1,350 @@
+package com.minecolonies.core.util;
+
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Content addressed store of colony backups. Every file of a backup is stored once under the hash of its content, and each backup is a small manifest mapping the save file
+ * paths to those hashes, so colonies which did not change between backups take no extra space. Only the IO thread stores and prunes backups. The manifests store the paths with
+ * '/' as separator, so backups can be restored on any platform.
+ */
+public final class ColonyBackupStore
+{
+    /**
+     * Folders of the store, inside the minecolonies save folder.
+     */
+    private static final String BACKUP_FOLDER = "backups";
+    private static final String OBJECT_FOLDER = "objects";
+
+    /**
+     * File name suffixes of the manifests and the stored files.
+     */
+    private static final String MANIFEST_SUFFIX = ".manifest";
+    private static final String OBJECT_SUFFIX   = ".dat";
+
+    /**
+     * Maximum amount of backups kept.
+     */
+    private static final int MAX_BACKUPS = 20;
+
+    /**
+     * NBT tags of the manifest.
+     */
+    private static final String TAG_TIME  = "time";
+    private static final String TAG_FILES = "files";
+    private static final String TAG_PATH  = "path";
+    private static final String TAG_HASH  = "hash";
+
+    /**
+     * The path separator of the manifests.
+     */
+    private static final char MANIFEST_SEPARATOR = '/';
+
+    /**
+     * The tag last stored for every path with its hash, so unchanged colony tags are not serialized and hashed again.
+     */
+    private static final Map<String, StoredTag> lastStored = new HashMap<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ColonyBackupStore()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Stores a backup and prunes the oldest ones. Must run on the IO thread.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param name    the name of the backup.
+     * @param tags    the tags to store by their path relative to the save folder, which must not be modified.
+     * @param files   further files to store by their path relative to the save folder.
+     */
+    public static void store(@NotNull final File saveDir, @NotNull final String name, @NotNull final Map<String, CompoundTag> tags, @NotNull final List<String> files)
+    {
+        final long start = System.nanoTime();
+        final File backupDir = new File(saveDir, BACKUP_FOLDER);
+        final File objectDir = new File(backupDir, OBJECT_FOLDER);
+
+        final ListTag entries = new ListTag();
+        int newObjects = 0;
+        try
+        {
+            for (final Map.Entry<String, CompoundTag> entry : tags.entrySet())
+            {
+                final String path = toManifestPath(entry.getKey());
+                final StoredTag stored = lastStored.get(path);
+                String hash = stored != null && stored.tag() == entry.getValue() ? stored.hash() : null;
+                if (hash == null || !getObjectFile(objectDir, hash).exists())
+                {
+                    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                    NbtIo.writeCompressed(entry.getValue(), stream);
+                    hash = hash(stream.toByteArray());
+                    if (storeObject(objectDir, hash, stream.toByteArray()))
+                    {
+                        newObjects++;
+                    }
+                    lastStored.put(path, new StoredTag(entry.getValue(), hash));
+                }
+                entries.add(createEntry(path, hash));
+            }
+
+            for (final String path : files)
+            {
+                final File file = new File(saveDir, path);
+                if (file.exists())
+                {
+                    final byte[] data = Files.readAllBytes(file.toPath());
+                    final String hash = hash(data);
+                    if (storeObject(objectDir, hash, data))
+                    {
+                        newObjects++;
+                    }
+                    entries.add(createEntry(toManifestPath(path), hash));
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
+            return;
+        }
+
+        final CompoundTag manifest = new CompoundTag();
+        manifest.putLong(TAG_TIME, System.currentTimeMillis());
+        manifest.put(TAG_FILES, entries);
+        ColonyPersistence.writeAtomically(new File(backupDir, name + MANIFEST_SUFFIX), manifest);
+
+        prune(backupDir, objectDir);
+        Log.getLogger().info("Backed up " + entries.size() + " colony files, " + newObjects + " changed, in " + (System.nanoTime() - start) / 1_000_000 + "ms");
+    }
+
+    /**
+     * Get the names of all backups, oldest first.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @return the names.
+     */
+    public static List<String> getBackups(@NotNull final File saveDir)
+    {
+        final List<String> names = new ArrayList<>();
+        for (final File manifest : getManifests(new File(saveDir, BACKUP_FOLDER)))
+        {
+            names.add(manifest.getName().substring(0, manifest.getName().length() - MANIFEST_SUFFIX.length()));
+        }
+        return names;
+    }
+
+    /**
+     * Writes the files of a backup back to the save folder. Files which were not part of the backup are left untouched.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @param name    the name of the backup.
+     * @return false if the backup does not exist or could not be restored.
+     */
+    public static boolean restore(@NotNull final File saveDir, @NotNull final String name)
+    {
+        final File backupDir = new File(saveDir, BACKUP_FOLDER);
+        final File objectDir = new File(backupDir, OBJECT_FOLDER);
+        try
+        {
+            final CompoundTag manifest = ColonyPersistence.read(new File(backupDir, name + MANIFEST_SUFFIX));
+            if (manifest == null)
+            {
+                return false;
+            }
+
+            final ListTag entries = manifest.getList(TAG_FILES, Tag.TAG_COMPOUND);
+            for (int i = 0; i < entries.size(); i++)
+            {
+                final CompoundTag entry = entries.getCompound(i);
+                final File target = new File(saveDir, toFilePath(entry.getString(TAG_PATH)));
+                ColonyPersistence.forget(target);
+                ColonyPersistence.writeAtomically(target, Files.readAllBytes(getObjectFile(objectDir, entry.getString(TAG_HASH)).toPath()));
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Unable to restore colony backup " + name, e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the oldest backups above the maximum, and the stored files no backup refers to anymore.
+     *
+     * @param backupDir the backup folder.
+     * @param objectDir the folder of the stored files.
+     */
+    private static void prune(final File backupDir, final File objectDir)
+    {
+        final List<File> manifests = getManifests(backupDir);
+        for (int i = 0; i < manifests.size() - MAX_BACKUPS; i++)
+        {
+            manifests.get(i).delete();
+        }
+
+        final Set<String> referenced = new HashSet<>();
+        for (final File manifestFile : getManifests(backupDir))
+        {
+            try
+            {
+                final CompoundTag manifest = ColonyPersistence.read(manifestFile);
+                if (manifest == null)
+                {
+                    continue;
+                }
+
+                final ListTag entries = manifest.getList(TAG_FILES, Tag.TAG_COMPOUND);
+                for (int i = 0; i < entries.size(); i++)
+                {
+                    referenced.add(entries.getCompound(i).getString(TAG_HASH) + OBJECT_SUFFIX);
+                }
+            }
+            catch (final IOException e)
+            {
+                // Keep all stored files if a manifest can't be read, they might belong to it.
+                Log.getLogger().warn("Unable to read colony backup " + manifestFile.getName(), e);
+                return;
+            }
+        }
+
+        final File[] objects = objectDir.listFiles();
+        if (objects != null)
+        {
+            for (final File object : objects)
+            {
+                if (!referenced.contains(object.getName()))
+                {
+                    object.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the manifest files, oldest first.
+     *
+     * @param backupDir the backup folder.
+     * @return the files.
+     */
+    private static List<File> getManifests(final File backupDir)
+    {
+        final File[] files = backupDir.listFiles((dir, fileName) -> fileName.endsWith(MANIFEST_SUFFIX));
+        if (files == null)
+        {
+            return new ArrayList<>();
+        }
+
+        final List<File> manifests = new ArrayList<>(Arrays.asList(files));
+        manifests.sort(Comparator.comparing(File::getName));
+        return manifests;
+    }
+
+    /**
+     * Stores data under its hash, unless it is stored already.
+     *
+     * @param objectDir the folder of the stored files.
+     * @param hash      the hash of the data.
+     * @param data      the data.
+     * @return true if the data was not stored before.
+     * @throws IOException if writing failed.
+     */
+    private static boolean storeObject(final File objectDir, final String hash, final byte[] data) throws IOException
+    {
+        final File file = getObjectFile(objectDir, hash);
+        if (file.exists())
+        {
+            return false;
+        }
+
+        ColonyPersistence.writeAtomically(file, data);
+        return true;
+    }
+
+    /**
+     * Creates a manifest entry.
+     *
+     * @param path the path relative to the save folder.
+     * @param hash the hash of the content.
+     * @return the entry.
+     */
+    private static CompoundTag createEntry(final String path, final String hash)
+    {
+        final CompoundTag entry = new CompoundTag();
+        entry.putString(TAG_PATH, path);
+        entry.putString(TAG_HASH, hash);
+        return entry;
+    }
+
+    /**
+     * Converts a path relative to the save folder to the separator of the manifests.
+     *
+     * @param path the path with the separator of this platform.
+     * @return the path for the manifest.
+     */
+    private static String toManifestPath(final String path)
+    {
+        return path.replace(File.separatorChar, MANIFEST_SEPARATOR);
+    }
+
+    /**
+     * Converts a path of a manifest to the separator of this platform. Backslashes are converted as well, manifests stored on Windows before the paths got normalized
+     * contain those.
+     *
+     * @param path the path of the manifest.
+     * @return the path relative to the save folder.
+     */
+    private static String toFilePath(final String path)
+    {
+        return path.replace('\\', MANIFEST_SEPARATOR).replace(MANIFEST_SEPARATOR, File.separatorChar);
+    }
+
+    /**
+     * Get the file data with a hash is stored in.
+     *
+     * @param objectDir the folder of the stored files.
+     * @param hash      the hash.
+     * @return the file.
+     */
+    private static File getObjectFile(final File objectDir, final String hash)
+    {
+        return new File(objectDir, hash + OBJECT_SUFFIX);
+    }
+
+    /**
+     * Hashes data.
+     *
+     * @param data the data.
+     * @return the hash as hex string.
+     */
+    private static String hash(final byte[] data)
+    {
+        return Hashing.sha256().hashBytes(data).toString();
+    }
+
+    /**
+     * A stored tag with the hash it is stored under.
+     *
+     * @param tag  the tag.
+     * @param hash the hash.
+     */
+    private record StoredTag(CompoundTag tag, String hash)
+    {
+    }
+}
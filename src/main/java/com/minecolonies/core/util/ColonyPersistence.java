@@ -0,0 +1,239 @@
+package com.minecolonies.core.util;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Writes colony save files on a dedicated IO thread. The tags are built on the server thread and treated as immutable from then on, the IO thread only compresses and writes
+ * them. Files are replaced atomically through a temporary file, and queued writes of the same file are coalesced so only the latest tag is written.
+ */
+public final class ColonyPersistence
+{
+    /**
+     * Saves taking longer than this on the server thread are reported.
+     */
+    private static final long SLOW_SAVE_THRESHOLD_MS = 50;
+
+    /**
+     * How long to wait for the pending writes when flushing.
+     */
+    private static final long FLUSH_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Suffix of the temporary file a save is written to before replacing the target.
+     */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * The gzip magic bytes, to tell compressed from old uncompressed files.
+     */
+    private static final int GZIP_MAGIC_FIRST  = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
+    /**
+     * The single IO thread, so writes of the same file keep their order.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies Colony IO");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Colony IO Thread errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * The tags waiting to be written, by file.
+     */
+    private static final Map<File, CompoundTag> pending = new ConcurrentHashMap<>();
+
+    /**
+     * The tag last queued for every file, to skip writing a tag which did not change.
+     */
+    private static final Map<File, CompoundTag> lastQueued = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ColonyPersistence()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queues a tag to be written to a file. The tag must not be modified afterwards.
+     *
+     * @param file the file.
+     * @param tag  the tag.
+     */
+    public static void write(@NotNull final File file, @NotNull final CompoundTag tag)
+    {
+        if (lastQueued.put(file, tag) == tag && file.exists())
+        {
+            return;
+        }
+
+        if (pending.put(file, tag) == null)
+        {
+            executor.execute(() -> {
+                final CompoundTag toWrite = pending.remove(file);
+                if (toWrite != null)
+                {
+                    writeAtomically(file, toWrite);
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs a task on the IO thread, after all writes queued so far.
+     *
+     * @param task the task.
+     */
+    public static void execute(@NotNull final Runnable task)
+    {
+        executor.execute(task);
+    }
+
+    /**
+     * Blocks until all queued writes are done.
+     */
+    public static void flush()
+    {
+        try
+        {
+            executor.submit(() -> {}).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException | TimeoutException e)
+        {
+            Log.getLogger().error("Waiting for the colony saves to finish failed", e);
+        }
+    }
+
+    /**
+     * Forgets the tag last queued for a file, called when the file gets moved or deleted.
+     *
+     * @param file the file.
+     */
+    public static void forget(@NotNull final File file)
+    {
+        lastQueued.remove(file);
+    }
+
+    /**
+     * Reports the time a colony took to save on the server thread, if it is slow.
+     *
+     * @param colonyId the colony id.
+     * @param startNs  the start time in nanoseconds.
+     */
+    public static void reportSaveTime(final int colonyId, final long startNs)
+    {
+        final long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+        if (durationMs > SLOW_SAVE_THRESHOLD_MS)
+        {
+            Log.getLogger().warn("Saving colony " + colonyId + " took " + durationMs + "ms on the server thread");
+        }
+    }
+
+    /**
+     * Writes a tag compressed to a temporary file and moves it over the target.
+     *
+     * @param file the target file.
+     * @param tag  the tag.
+     */
+    public static void writeAtomically(@NotNull final File file, @NotNull final CompoundTag tag)
+    {
+        final long start = System.nanoTime();
+        final File temp = new File(file.getParentFile(), file.getName() + TEMP_SUFFIX);
+        try
+        {
+            file.getParentFile().mkdirs();
+            NbtIo.writeCompressed(tag, temp);
+            replace(temp, file);
+            Log.getLogger().debug("Wrote " + file.getName() + " (" + file.length() + " bytes) in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+        }
+        catch (final IOException e)
+        {
+            lastQueued.remove(file, tag);
+            Log.getLogger().error("Exception when saving " + file, e);
+        }
+    }
+
+    /**
+     * Writes already serialized data to a temporary file and moves it over the target.
+     *
+     * @param file the target file.
+     * @param data the data.
+     * @throws IOException if writing failed.
+     */
+    public static void writeAtomically(@NotNull final File file, @NotNull final byte[] data) throws IOException
+    {
+        final File temp = new File(file.getParentFile(), file.getName() + TEMP_SUFFIX);
+        file.getParentFile().mkdirs();
+        Files.write(temp.toPath(), data);
+        replace(temp, file);
+    }
+
+    /**
+     * Moves a file over another, atomically if the file system supports it.
+     *
+     * @param source the file to move.
+     * @param target the file to replace.
+     * @throws IOException if moving failed.
+     */
+    private static void replace(@NotNull final File source, @NotNull final File target) throws IOException
+    {
+        try
+        {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a save file, either compressed or in the old uncompressed format.
+     *
+     * @param file the file.
+     * @return the tag, or null if the file does not exist.
+     * @throws IOException if reading failed.
+     */
+    @Nullable
+    public static CompoundTag read(@NotNull final File file) throws IOException
+    {
+        if (!file.exists())
+        {
+            return null;
+        }
+
+        try (InputStream stream = new BufferedInputStream(new FileInputStream(file)))
+        {
+            stream.mark(2);
+            final boolean compressed = stream.read() == GZIP_MAGIC_FIRST && stream.read() == GZIP_MAGIC_SECOND;
+            stream.reset();
+            return compressed ? NbtIo.readCompressed(stream) : NbtIo.read(new DataInputStream(stream));
+        }
+    }
+}
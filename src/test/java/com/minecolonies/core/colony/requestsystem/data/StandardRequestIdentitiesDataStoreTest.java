@@ -0,0 +1,188 @@
+package com.minecolonies.core.colony.requestsystem.data;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
+import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.core.colony.requestsystem.token.StandardToken;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that saving a request store which reuses the serialized requests of the previous save gives the same NBT as serializing every request from scratch.
+ */
+public class StandardRequestIdentitiesDataStoreTest
+{
+    private final StandardRequestIdentitiesDataStore.Factory factory = new StandardRequestIdentitiesDataStore.Factory();
+
+    private IFactoryController controller;
+    private IRequester         requester;
+
+    @BeforeEach
+    public void setUp()
+    {
+        requester = mock(IRequester.class);
+        when(requester.getId()).thenReturn(new StandardToken());
+
+        controller = mock(IFactoryController.class);
+        when(controller.serialize(any())).thenAnswer(invocation -> serialize(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void reusedSaveMatchesFreshSave()
+    {
+        final FakeRequest unchanged = new FakeRequest(new FakeRequestable("unchanged"));
+        final FakeRequest changedRequest = new FakeRequest(new FakeRequestable("request"));
+        final FakeRequest changedRequestable = new FakeRequest(new FakeRequestable("requestable"));
+        final FakeRequest removed = new FakeRequest(new FakeRequestable("removed"));
+
+        final BiMap<IToken<?>, IRequest<?>> identities = HashBiMap.create();
+        for (final FakeRequest request : List.of(unchanged, changedRequest, changedRequestable, removed))
+        {
+            identities.put(request.token, request.mock);
+        }
+
+        final StandardRequestIdentitiesDataStore store = new StandardRequestIdentitiesDataStore(new StandardToken(), identities);
+        final CompoundTag first = factory.serialize(controller, store);
+
+        changedRequest.state = RequestState.IN_PROGRESS;
+        changedRequest.modificationCount++;
+        changedRequestable.requestable.value = "requestable aged";
+        changedRequestable.requestable.modificationCount++;
+        store.getIdentities().remove(removed.token);
+        final FakeRequest added = new FakeRequest(new FakeRequestable("added"));
+        store.getIdentities().put(added.token, added.mock);
+
+        final CompoundTag reused = factory.serialize(controller, store);
+        final CompoundTag fresh = factory.serialize(controller, new StandardRequestIdentitiesDataStore(store.getId(), HashBiMap.create(store.getIdentities())));
+
+        assertEquals(getEntries(fresh), getEntries(reused));
+        assertEquals(4, getEntries(reused).size());
+        assertSame(findEntry(first, unchanged), findEntry(reused, unchanged), "the tag of the unchanged request is reused");
+        assertNotSame(findEntry(first, changedRequest), findEntry(reused, changedRequest));
+        assertNotSame(findEntry(first, changedRequestable), findEntry(reused, changedRequestable));
+    }
+
+    @Test
+    public void untrackedRequestableIsAlwaysSerialized()
+    {
+        final FakeRequestable requestable = new FakeRequestable("untracked");
+        requestable.modificationCount = -1;
+        final FakeRequest request = new FakeRequest(requestable);
+
+        final BiMap<IToken<?>, IRequest<?>> identities = HashBiMap.create();
+        identities.put(request.token, request.mock);
+        final StandardRequestIdentitiesDataStore store = new StandardRequestIdentitiesDataStore(new StandardToken(), identities);
+
+        final CompoundTag first = factory.serialize(controller, store);
+        requestable.value = "changed without tracking";
+        final CompoundTag second = factory.serialize(controller, store);
+
+        assertNotSame(findEntry(first, request), findEntry(second, request));
+        assertEquals("changed without tracking", findEntry(second, request).getCompound(TAG_REQUEST).getString("value"));
+    }
+
+    /**
+     * Serializes tokens and requests like the factories would, from their current content.
+     *
+     * @param input the object to serialize.
+     * @return the tag.
+     */
+    private static CompoundTag serialize(final Object input)
+    {
+        final CompoundTag tag = new CompoundTag();
+        if (input instanceof IRequest<?> request)
+        {
+            tag.putString("state", request.getState().name());
+            tag.putString("value", ((FakeRequestable) request.getRequest()).value);
+        }
+        else
+        {
+            tag.putString("token", String.valueOf(((IToken<?>) input).getIdentifier()));
+        }
+        return tag;
+    }
+
+    private static Set<Tag> getEntries(final CompoundTag store)
+    {
+        return new HashSet<>(store.getList(TAG_LIST, Tag.TAG_COMPOUND));
+    }
+
+    private static CompoundTag findEntry(final CompoundTag store, final FakeRequest request)
+    {
+        final ListTag list = store.getList(TAG_LIST, Tag.TAG_COMPOUND);
+        final CompoundTag token = serialize(request.token);
+        for (int i = 0; i < list.size(); i++)
+        {
+            if (list.getCompound(i).getCompound(TAG_TOKEN).equals(token))
+            {
+                return list.getCompound(i);
+            }
+        }
+        return fail("No entry for " + request.token);
+    }
+
+    /**
+     * A requestable with a tracked modification count.
+     */
+    private static final class FakeRequestable implements IRequestable
+    {
+        private String value;
+        private int    modificationCount = 0;
+
+        private FakeRequestable(final String value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public Set<TypeToken<?>> getSuperClasses()
+        {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public int getModificationCount()
+        {
+            return modificationCount;
+        }
+    }
+
+    /**
+     * A mocked request backed by mutable fields.
+     */
+    private final class FakeRequest
+    {
+        private final IToken<?>       token             = new StandardToken();
+        private final FakeRequestable requestable;
+        private final IRequest<?>     mock              = mock(IRequest.class);
+        private       RequestState    state             = RequestState.CREATED;
+        private       int             modificationCount = 0;
+
+        private FakeRequest(final FakeRequestable requestable)
+        {
+            this.requestable = requestable;
+            when(mock.getId()).thenAnswer(invocation -> token);
+            when(mock.getRequester()).thenReturn(requester);
+            when(mock.getRequest()).thenAnswer(invocation -> this.requestable);
+            when(mock.getState()).thenAnswer(invocation -> state);
+            when(mock.getModificationCount()).thenAnswer(invocation -> modificationCount);
+        }
+    }
+}